@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.Path;
+import org.eclipse.draw2d.graph.ShortestPathRouter;
+
+/**
+ * Measures the time needed to route a diagram again after moving a single node,
+ * with and without incremental solving, for diagrams of increasing size. The
+ * nodes are arranged in a grid and connected to nearby nodes.
+ */
+public class BenchmarkIncrementalRouting {
+
+	private static final int MOVES = 200;
+
+	public static void main(String[] args) {
+		for (int size = 10; size <= 50; size += 10) {
+			double full = benchmark(size, false, MOVES / 10);
+			double incremental = benchmark(size, true, MOVES);
+			System.out.println(size * size + " nodes: full " + full + " ms, incremental " + incremental //$NON-NLS-1$ //$NON-NLS-2$
+					+ " ms per move"); //$NON-NLS-1$
+		}
+	}
+
+	private static double benchmark(int size, boolean incremental, int moves) {
+		Random random = new Random(size);
+		ShortestPathRouter router = new ShortestPathRouter();
+		router.setIncremental(incremental);
+		List<Rectangle> nodes = new ArrayList<>();
+		for (int row = 0; row < size; row++) {
+			for (int col = 0; col < size; col++) {
+				Rectangle node = new Rectangle(col * 150 + random.nextInt(30), row * 120 + random.nextInt(30), 60, 40);
+				nodes.add(node);
+				router.addObstacle(node.getCopy());
+			}
+		}
+		List<Path> paths = new ArrayList<>();
+		List<int[]> connections = new ArrayList<>();
+		for (int i = 0; i < nodes.size(); i++) {
+			for (int k = 0; k < 2; k++) {
+				int col = i % size + random.nextInt(5) - 2;
+				int row = i / size + random.nextInt(3) - 1;
+				int j = row * size + col;
+				if (col >= 0 && col < size && row >= 0 && row < size && j != i) {
+					Path path = new Path(nodes.get(i).getCenter(), nodes.get(j).getCenter());
+					paths.add(path);
+					connections.add(new int[] { i, j });
+					router.addPath(path);
+				}
+			}
+		}
+		router.solve();
+
+		long start = System.nanoTime();
+		for (int m = 0; m < moves; m++) {
+			int moved = random.nextInt(nodes.size());
+			Rectangle oldBounds = nodes.get(moved);
+			Rectangle newBounds = oldBounds.getTranslated(random.nextInt(40) - 20, random.nextInt(40) - 20);
+			nodes.set(moved, newBounds);
+			router.updateObstacle(oldBounds, newBounds);
+			for (int i = 0; i < connections.size(); i++) {
+				if (connections.get(i)[0] == moved) {
+					paths.get(i).setStartPoint(newBounds.getCenter());
+				}
+				if (connections.get(i)[1] == moved) {
+					paths.get(i).setEndPoint(newBounds.getCenter());
+				}
+			}
+			router.solve();
+		}
+		return Math.round((System.nanoTime() - start) / 1e4 / moves) / 100.0;
+	}
+
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.OrthogonalRouter;
+
+/**
+ * Measures the time needed to route all connections of a block diagram with the
+ * orthogonal router, for diagrams of increasing size. The blocks are arranged in
+ * a grid, and each block is connected to two blocks in the next columns.
+ */
+public class BenchmarkOrthogonalRouting {
+
+	public static void main(String[] args) {
+		for (int size = 10; size <= 50; size += 10) {
+			Random random = new Random(size);
+			OrthogonalRouter router = new OrthogonalRouter();
+			List<Rectangle> blocks = new ArrayList<>();
+			for (int row = 0; row < size; row++) {
+				for (int col = 0; col < size; col++) {
+					Rectangle block = new Rectangle(col * 160 + random.nextInt(30), row * 120 + random.nextInt(30), 80,
+							50);
+					blocks.add(block);
+					router.addObstacle(block);
+				}
+			}
+			// Warm up, and build the obstacle index
+			route(router, blocks, size, new Random(0));
+			router.releaseAll();
+
+			long start = System.nanoTime();
+			int connections = route(router, blocks, size, random);
+			long time = System.nanoTime() - start;
+			System.out.println(size * size + " blocks, " + connections + " connections: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ Math.round(time / 1e6) + " ms, " + Math.round(time / 1e2 / connections) / 10.0 //$NON-NLS-1$
+					+ " us per connection"); //$NON-NLS-1$
+		}
+	}
+
+	private static int route(OrthogonalRouter router, List<Rectangle> blocks, int size, Random random) {
+		int count = 0;
+		for (int i = 0; i < blocks.size(); i++) {
+			for (int k = 0; k < 2; k++) {
+				int col = i % size + 1 + random.nextInt(3);
+				int row = i / size + random.nextInt(5) - 2;
+				if (col < size && row >= 0 && row < size) {
+					Rectangle source = blocks.get(i);
+					Rectangle target = blocks.get(row * size + col);
+					router.route(Integer.valueOf(count++), source.getRight(), PositionConstants.EAST, target.getLeft(),
+							PositionConstants.WEST);
+				}
+			}
+		}
+		return count;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Patrick Ziegler and others.
+ * Copyright (c) 2023, 2026 Patrick Ziegler and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,15 +15,24 @@ package org.eclipse.draw2d.graph.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.draw2d.graph.DirectedGraph;
 import org.eclipse.draw2d.graph.DirectedGraphLayout;
 import org.eclipse.draw2d.graph.Edge;
 import org.eclipse.draw2d.graph.EdgeList;
+import org.eclipse.draw2d.graph.LayoutMonitor;
 import org.eclipse.draw2d.graph.Node;
 import org.eclipse.draw2d.graph.NodeList;
 
@@ -92,6 +101,94 @@ public class DirectedGraphLayoutTest {
 		assertEquals(getRank(n3), 0);
 	}
 
+	@Test
+	public void test_visitAsync() throws Exception {
+		List<String> steps = new ArrayList<>();
+		LayoutMonitor monitor = new LayoutMonitor() {
+			@Override
+			public void stepStarted(String name, int step, int total) {
+				assertEquals(steps.size(), step);
+				steps.add(name);
+			}
+		};
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CompletableFuture<DirectedGraph> future = layout.visitAsync(g, executor, monitor);
+			assertSame(g, future.get(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdown();
+		}
+		// Each step is visited and revisited
+		assertEquals(22, steps.size());
+		assertEquals("MinCross", steps.get(8));
+		assertEquals(getRank(n1), 1);
+		assertEquals(getRank(n2), 2);
+		assertEquals(getRank(n3), 0);
+	}
+
+	@Test
+	public void test_cancel() {
+		LayoutMonitor monitor = new LayoutMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return true;
+			}
+		};
+		assertThrows(CancellationException.class, () -> layout.visit(g, monitor));
+
+		CompletableFuture<DirectedGraph> future = layout.visitAsync(g, Runnable::run, monitor);
+		assertThrows(CancellationException.class, future::get);
+		assertTrue(future.isCancelled());
+	}
+
+	@Test
+	public void test_adaptiveCrossingReduction() {
+		NodeList nodes = new NodeList();
+		EdgeList edges = new EdgeList();
+		Node root = new Node("root");
+		nodes.add(root);
+		Node[] top = new Node[6];
+		Node[] bottom = new Node[6];
+		for (int i = 0; i < top.length; i++) {
+			top[i] = new Node("t" + i);
+			bottom[i] = new Node("b" + i);
+			nodes.add(top[i]);
+			nodes.add(bottom[i]);
+			edges.add(new Edge(root, top[i]));
+		}
+		// Planar, but initially in reverse order
+		for (int i = 0; i < top.length; i++) {
+			edges.add(new Edge(top[i], bottom[bottom.length - i - 1]));
+			if (i > 0) {
+				edges.add(new Edge(top[i], bottom[bottom.length - i]));
+			}
+		}
+		g = new DirectedGraph();
+		g.nodes = nodes;
+		g.edges = edges;
+
+		layout.setAdaptiveCrossingReduction(true);
+		layout.setCrossingReductionSweeps(100);
+		layout.setCrossingReductionTimeBudget(10_000);
+		layout.visit(g);
+
+		int crossings = 0;
+		for (Edge e1 : edges) {
+			for (Edge e2 : edges) {
+				if (e1.source.y == e2.source.y && e1.target.y == e2.target.y
+						&& (e1.source.x - e2.source.x) * (e1.target.x - e2.target.x) < 0) {
+					crossings++;
+				}
+			}
+		}
+		assertEquals(0, crossings);
+	}
+
+	@Test
+	public void test_invalidCrossingReductionSweeps() {
+		assertThrows(IllegalArgumentException.class, () -> layout.setCrossingReductionSweeps(0));
+	}
+
 	private static final int getRank(Node n) {
 		try {
 			Field f = Node.class.getDeclaredField("rank");
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.text.BlockFlow;
+import org.eclipse.draw2d.text.FlowPage;
+import org.eclipse.draw2d.text.InlineFlow;
+import org.eclipse.draw2d.text.ParagraphTextLayout;
+import org.eclipse.draw2d.text.TextFlow;
+import org.eclipse.draw2d.text.TextFragmentBox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BidiLevelCacheTest extends BaseTestCase {
+
+	private static final String ARABIC = "شصضط"; //$NON-NLS-1$
+
+	private final List<TextFlow> laidOut = new ArrayList<>();
+	private FlowPage page;
+	private BlockFlow paragraph;
+	private TextFlow first;
+	private TextFlow last;
+
+	@BeforeEach
+	public void setUp() {
+		page = new FlowPage();
+		page.setFont(TAHOMA);
+		paragraph = new BlockFlow();
+		first = createTextFlow("abc " + ARABIC + " def"); //$NON-NLS-1$ //$NON-NLS-2$
+		paragraph.add(first);
+		BlockFlow inner = new BlockFlow();
+		inner.add(createTextFlow("inner")); //$NON-NLS-1$
+		paragraph.add(inner);
+		last = createTextFlow("ghi " + ARABIC); //$NON-NLS-1$
+		paragraph.add(last);
+		page.add(paragraph);
+		page.setSize(400, 400);
+		page.validate();
+		laidOut.clear();
+	}
+
+	private TextFlow createTextFlow(String text) {
+		TextFlow flow = new TextFlow(text);
+		flow.setLayoutManager(new ParagraphTextLayout(flow) {
+			@Override
+			protected void layout() {
+				laidOut.add(flow);
+				super.layout();
+			}
+		});
+		return flow;
+	}
+
+	private static boolean hasRightToLeftFragment(TextFlow flow) {
+		return flow.getFragments().stream().anyMatch(TextFragmentBox::isRightToLeft);
+	}
+
+	@Test
+	public void testMixedTextHasRightToLeftFragments() {
+		assertTrue(hasRightToLeftFragment(first));
+		assertTrue(hasRightToLeftFragment(last));
+	}
+
+	@Test
+	public void testLevelsKeptWhenTextIsUnchanged() {
+		paragraph.add(new InlineFlow());
+		page.validate();
+		// The levels of the first text are the same, so its lines are kept
+		assertFalse(laidOut.contains(first));
+		assertTrue(hasRightToLeftFragment(first));
+	}
+
+	@Test
+	public void testOnlyChangedLevelsAreLaidOut() {
+		last.setText("jkl " + ARABIC); //$NON-NLS-1$
+		page.validate();
+		assertEquals(List.of(last), laidOut);
+		assertTrue(hasRightToLeftFragment(last));
+
+		last.setText("jkl"); //$NON-NLS-1$
+		page.validate();
+		assertFalse(hasRightToLeftFragment(last));
+		assertTrue(hasRightToLeftFragment(first));
+	}
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.Connection;
+import org.eclipse.draw2d.ConnectionLayer;
+import org.eclipse.draw2d.FanRouter;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.XYAnchor;
+import org.eclipse.draw2d.geometry.Point;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionLayerTest {
+
+	/**
+	 * Records how connections are routed.
+	 */
+	private static class RecordingRouter extends FanRouter {
+		final List<List<Connection>> batches = new ArrayList<>();
+		final List<Connection> routed = new ArrayList<>();
+
+		@Override
+		public void route(Connection conn) {
+			routed.add(conn);
+			super.route(conn);
+		}
+
+		@Override
+		public void routeAll(List<Connection> connections) {
+			batches.add(new ArrayList<>(connections));
+			super.routeAll(connections);
+		}
+	}
+
+	private ConnectionLayer layer;
+	private RecordingRouter router;
+
+	@BeforeEach
+	public void setUp() {
+		layer = new ConnectionLayer();
+		router = new RecordingRouter();
+		layer.setConnectionRouter(router);
+	}
+
+	private PolylineConnection addConnection(int x1, int y1, int x2, int y2) {
+		PolylineConnection conn = new PolylineConnection();
+		conn.setSourceAnchor(new XYAnchor(new Point(x1, y1)));
+		conn.setTargetAnchor(new XYAnchor(new Point(x2, y2)));
+		layer.add(conn);
+		return conn;
+	}
+
+	@Test
+	public void testInvalidConnectionsAreRoutedInOneBatch() {
+		PolylineConnection conn1 = addConnection(0, 0, 100, 0);
+		PolylineConnection conn2 = addConnection(0, 50, 100, 50);
+		PolylineConnection conn3 = addConnection(0, 100, 100, 100);
+		layer.validate();
+
+		assertEquals(List.of(List.of(conn1, conn2, conn3)), router.batches);
+		assertTrue(router.routed.isEmpty());
+		assertEquals(new Point(100, 50), conn2.getEnd());
+
+		// Only the revalidated connection is routed again
+		router.batches.clear();
+		conn2.setTargetAnchor(new XYAnchor(new Point(200, 50)));
+		layer.validate();
+		assertEquals(List.of(List.of(conn2)), router.batches);
+		assertTrue(router.routed.isEmpty());
+		assertEquals(new Point(200, 50), conn2.getEnd());
+	}
+
+	@Test
+	public void testOverlappingConnectionsInBatch() {
+		PolylineConnection conn1 = addConnection(0, 0, 0, 50);
+		PolylineConnection conn2 = new PolylineConnection();
+		conn2.setSourceAnchor(conn1.getSourceAnchor());
+		conn2.setTargetAnchor(conn1.getTargetAnchor());
+		layer.add(conn2);
+		layer.validate();
+
+		// The same result as when routing the connections one by one
+		assertEquals(2, conn1.getPoints().size());
+		assertEquals(3, conn2.getPoints().size());
+	}
+
+	@Test
+	public void testConnectionRevalidatedWhileRoutingIsRoutedAgain() {
+		PolylineConnection conn1 = addConnection(0, 0, 100, 0);
+		PolylineConnection conn2 = addConnection(0, 50, 100, 50);
+		layer.setConnectionRouter(new RecordingRouter() {
+			@Override
+			public void routeAll(List<Connection> connections) {
+				super.routeAll(connections);
+				conn1.revalidate();
+			}
+		});
+		router = (RecordingRouter) layer.getConnectionRouter();
+		layer.validate();
+
+		assertEquals(1, router.batches.size());
+		assertEquals(List.of(conn1), router.routed);
+		assertEquals(new Point(100, 0), conn1.getEnd());
+		assertEquals(new Point(100, 50), conn2.getEnd());
+	}
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.DamageCoalescingStrategy;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.Test;
+
+public class DamageCoalescingStrategyTest {
+
+	private static final List<Rectangle> DAMAGE = List.of(new Rectangle(0, 0, 10, 10), new Rectangle(5, 5, 10, 10),
+			new Rectangle(9990, 9990, 10, 10), new Rectangle(20, 0, 10, 10));
+
+	private static void assertCovered(List<Rectangle> regions) {
+		for (Rectangle damage : DAMAGE) {
+			Rectangle covered = new Rectangle(damage);
+			assertTrue(regions.stream().anyMatch(region -> region.contains(covered)), "Not repainted: " + damage); //$NON-NLS-1$
+		}
+	}
+
+	private static long area(List<Rectangle> regions) {
+		return regions.stream().mapToLong(region -> (long) region.width * region.height).sum();
+	}
+
+	@Test
+	public void testUnion() {
+		List<Rectangle> regions = DamageCoalescingStrategy.UNION.coalesce(DAMAGE);
+		assertEquals(List.of(new Rectangle(0, 0, 10000, 10000)), regions);
+	}
+
+	@Test
+	public void testDisjointRectangles() {
+		List<Rectangle> regions = new DamageCoalescingStrategy.DisjointRectanglesStrategy(2).coalesce(DAMAGE);
+		assertEquals(2, regions.size());
+		assertCovered(regions);
+		assertFalse(regions.get(0).intersects(regions.get(1)));
+		// The distant region is painted on its own
+		assertTrue(regions.contains(new Rectangle(9990, 9990, 10, 10)));
+
+		regions = new DamageCoalescingStrategy.DisjointRectanglesStrategy(1).coalesce(DAMAGE);
+		assertEquals(DamageCoalescingStrategy.UNION.coalesce(DAMAGE), regions);
+
+		assertThrows(IllegalArgumentException.class, () -> new DamageCoalescingStrategy.DisjointRectanglesStrategy(0));
+	}
+
+	@Test
+	public void testDisjointRectanglesManyRegions() {
+		Random random = new Random(0);
+		List<Rectangle> damage = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			damage.add(new Rectangle(random.nextInt(5000), random.nextInt(5000), 1 + random.nextInt(50),
+					1 + random.nextInt(50)));
+		}
+		List<Rectangle> regions = new DamageCoalescingStrategy.DisjointRectanglesStrategy(8).coalesce(damage);
+		assertTrue(regions.size() <= 8);
+		for (Rectangle region : damage) {
+			assertTrue(regions.stream().anyMatch(painted -> painted.contains(region)), "Not repainted: " + region); //$NON-NLS-1$
+		}
+		for (int i = 0; i < regions.size(); i++) {
+			for (int j = i + 1; j < regions.size(); j++) {
+				assertFalse(regions.get(i).intersects(regions.get(j)));
+			}
+		}
+	}
+
+	@Test
+	public void testDisjointRectanglesTooManyRegions() {
+		Random random = new Random(0);
+		List<Rectangle> damage = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			damage.add(new Rectangle(random.nextInt(5000), random.nextInt(5000), 1 + random.nextInt(10),
+					1 + random.nextInt(10)));
+		}
+		List<Rectangle> regions = new DamageCoalescingStrategy.DisjointRectanglesStrategy(8).coalesce(damage);
+		assertEquals(DamageCoalescingStrategy.UNION.coalesce(damage), regions);
+	}
+
+	@Test
+	public void testTiles() {
+		List<Rectangle> regions = new DamageCoalescingStrategy.TileStrategy(16).coalesce(DAMAGE);
+		assertCovered(regions);
+		assertTrue(area(regions) < 2000, "Undamaged area repainted"); //$NON-NLS-1$
+		for (int i = 0; i < regions.size(); i++) {
+			for (int j = i + 1; j < regions.size(); j++) {
+				assertFalse(regions.get(i).intersects(regions.get(j)));
+			}
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> new DamageCoalescingStrategy.TileStrategy(0));
+	}
+
+}
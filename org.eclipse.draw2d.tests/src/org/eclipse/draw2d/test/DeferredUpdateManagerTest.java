@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.DamageCoalescingStrategy;
+import org.eclipse.draw2d.DeferredUpdateManager;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DeferredUpdateManagerTest {
+
+	/**
+	 * The time each validation and each paint takes, which exceeds the frame
+	 * budget of the tests.
+	 */
+	private static final long STEP_MILLIS = 5;
+
+	private static void step() {
+		try {
+			Thread.sleep(STEP_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Records the update requests and the painted regions instead of using a
+	 * display.
+	 */
+	private static class TestUpdateManager extends DeferredUpdateManager {
+
+		int requests;
+		final List<Rectangle> painted = new ArrayList<>();
+
+		@Override
+		protected void sendUpdateRequest() {
+			requests++;
+		}
+
+		@Override
+		protected Graphics getGraphics(Rectangle region) {
+			painted.add(region.getCopy());
+			step();
+			return null;
+		}
+	}
+
+	private static class SlowFigure extends Figure {
+
+		int validations;
+
+		@Override
+		public void validate() {
+			validations++;
+			step();
+			super.validate();
+		}
+	}
+
+	private TestUpdateManager manager;
+	private IFigure root;
+
+	@BeforeEach
+	public void setUp() {
+		manager = new TestUpdateManager();
+		root = new Figure();
+		root.setBounds(new Rectangle(0, 0, 1000, 1000));
+		manager.setRoot(root);
+	}
+
+	private SlowFigure[] addInvalidFigures(int count) {
+		SlowFigure[] figures = new SlowFigure[count];
+		for (int i = 0; i < count; i++) {
+			figures[i] = new SlowFigure();
+			manager.addInvalidFigure(figures[i]);
+		}
+		return figures;
+	}
+
+	private static int validations(SlowFigure[] figures) {
+		int validations = 0;
+		for (SlowFigure figure : figures) {
+			assertTrue(figure.validations <= 1, "Figure validated more than once"); //$NON-NLS-1$
+			validations += figure.validations;
+		}
+		return validations;
+	}
+
+	private List<Rectangle> addDirtyChildren() {
+		List<Rectangle> damage = List.of(new Rectangle(0, 0, 10, 10), new Rectangle(500, 0, 10, 10),
+				new Rectangle(0, 500, 10, 10));
+		for (Rectangle region : damage) {
+			IFigure child = new Figure();
+			root.add(child);
+			child.setBounds(region);
+			manager.addDirtyRegion(child, region);
+		}
+		return damage;
+	}
+
+	private void assertPainted(List<Rectangle> damage) {
+		for (Rectangle region : damage) {
+			assertTrue(manager.painted.stream().anyMatch(painted -> painted.contains(region)),
+					"Not repainted: " + region); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testValidationWithoutBudget() {
+		SlowFigure[] figures = addInvalidFigures(3);
+		manager.addDirtyRegion(root, 0, 0, 10, 10);
+		manager.performUpdate();
+		assertEquals(3, validations(figures));
+		assertEquals(List.of(new Rectangle(0, 0, 10, 10)), manager.painted);
+		assertEquals(1, manager.requests);
+	}
+
+	@Test
+	public void testValidationStopsAtDeadline() {
+		manager.setFrameBudget(1);
+		SlowFigure[] figures = addInvalidFigures(3);
+		manager.addDirtyRegion(root, 0, 0, 10, 10);
+		assertEquals(1, manager.requests);
+
+		// Each cycle validates at least one figure, but nothing is painted before
+		// all of them are valid
+		manager.performUpdate();
+		assertEquals(1, validations(figures));
+		assertTrue(manager.painted.isEmpty());
+		assertEquals(2, manager.requests);
+
+		manager.performUpdate();
+		assertEquals(2, validations(figures));
+		assertTrue(manager.painted.isEmpty());
+		assertEquals(3, manager.requests);
+
+		manager.performUpdate();
+		assertEquals(3, validations(figures));
+		assertEquals(List.of(new Rectangle(0, 0, 10, 10)), manager.painted);
+		assertEquals(3, manager.requests);
+	}
+
+	@Test
+	public void testPaintingWithoutBudget() {
+		manager.setDamageCoalescingStrategy(new DamageCoalescingStrategy.DisjointRectanglesStrategy(3));
+		List<Rectangle> damage = addDirtyChildren();
+		manager.performUpdate();
+		assertEquals(3, manager.painted.size());
+		assertPainted(damage);
+		assertEquals(1, manager.requests);
+	}
+
+	@Test
+	public void testPaintingStopsAtDeadline() {
+		manager.setDamageCoalescingStrategy(new DamageCoalescingStrategy.DisjointRectanglesStrategy(3));
+		manager.setFrameBudget(1);
+		List<Rectangle> damage = addDirtyChildren();
+
+		// Each cycle paints at least one region, the others are painted next
+		manager.performUpdate();
+		assertEquals(1, manager.painted.size());
+		assertEquals(2, manager.requests);
+
+		manager.performUpdate();
+		assertPainted(damage);
+		assertEquals(2, manager.requests);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -27,7 +27,9 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({
 	FanRouterTest.class,
+	ConnectionLayerTest.class,
 	ShortestPathRoutingTest.class,
+	OrthogonalRoutingTest.class,
 	XYLayoutTest.class,
 	TextFlowWrapTest.class,
 	LocalOptimizerTest.class,
@@ -35,6 +37,10 @@ import org.junit.platform.suite.api.Suite;
 	FlowBorderTests.class,
 	GraphicsClipping.class,
 	PaintDamageEraseTest.class,
+	DamageCoalescingStrategyTest.class,
+	DeferredUpdateManagerTest.class,
+	TileCacheTest.class,
+	LevelOfDetailTest.class,
 	LayeredPaneTest.class,
 	ConnectionEndPointMoveTest.class,
 	ImageUtilitiesTest.class,
@@ -58,11 +64,16 @@ import org.junit.platform.suite.api.Suite;
 	GeometryTest.class,
 	ScalablePolygonShapeTest.class,
 	LayerTest.class,
+	FreeformLayerTest.class,
 	ShapeTest.class,
 	InsetsTest.class,
 	DirectedGraphLayoutTest.class,
 	ScrollPaneTests.class,
 	LabelTest.class,
+	TextExtentCacheTest.class,
+	IncrementalFlowLayoutTest.class,
+	VirtualizedFlowPageTest.class,
+	BidiLevelCacheTest.class,
 	PrecisionTests.class,
 	ScaledGraphicsTest.class,
 	HSLTest.class,
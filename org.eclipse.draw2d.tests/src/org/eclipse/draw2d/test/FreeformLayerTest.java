@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.FreeformLayeredPane;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FreeformLayerTest {
+
+	private FreeformLayeredPane pane;
+	private FreeformLayer layer;
+	private int notifications;
+
+	@BeforeEach
+	public void setUp() {
+		pane = new FreeformLayeredPane();
+		layer = new FreeformLayer();
+		pane.add(layer);
+		pane.addFreeformListener(() -> notifications++);
+	}
+
+	@Test
+	public void testExtentFollowsChildren() {
+		IFigure fig1 = createChild(0, 0, 10, 10);
+		IFigure fig2 = createChild(100, 50, 20, 20);
+		assertEquals(new Rectangle(0, 0, 120, 70), layer.getFreeformExtent());
+		assertEquals(new Rectangle(0, 0, 120, 70), pane.getFreeformExtent());
+
+		fig2.setBounds(new Rectangle(-30, -40, 20, 20));
+		assertEquals(new Rectangle(-30, -40, 40, 50), pane.getFreeformExtent());
+
+		layer.remove(fig1);
+		assertEquals(new Rectangle(-30, -40, 20, 20), pane.getFreeformExtent());
+
+		layer.remove(fig2);
+		assertEquals(new Rectangle(0, 0, 0, 0), pane.getFreeformExtent());
+	}
+
+	@Test
+	public void testNotifiesOnlyOnExtentChange() {
+		createChild(0, 0, 100, 100);
+		IFigure inner = createChild(10, 10, 10, 10);
+		pane.getFreeformExtent();
+
+		notifications = 0;
+		inner.setBounds(new Rectangle(50, 50, 10, 10));
+		assertEquals(0, notifications);
+
+		inner.setBounds(new Rectangle(150, 50, 10, 10));
+		assertEquals(1, notifications);
+		assertEquals(new Rectangle(0, 0, 160, 100), pane.getFreeformExtent());
+	}
+
+	private IFigure createChild(int x, int y, int width, int height) {
+		Figure child = new Figure();
+		child.setBounds(new Rectangle(x, y, width, height));
+		layer.add(child);
+		return child;
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.StackLayout;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.text.BlockFlow;
+import org.eclipse.draw2d.text.FlowAdapter;
+import org.eclipse.draw2d.text.FlowPage;
+import org.eclipse.draw2d.text.ParagraphTextLayout;
+import org.eclipse.draw2d.text.TextFlow;
+import org.eclipse.draw2d.text.TextFragmentBox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalFlowLayoutTest extends BaseTestCase {
+
+	private static final String TEXT = "The quick brown fox jumps over the lazy dog"; //$NON-NLS-1$
+
+	private final List<TextFlow> laidOut = new ArrayList<>();
+	private FlowPage page;
+	private List<TextFlow> paragraphs;
+
+	@BeforeEach
+	public void setUp() {
+		page = new FlowPage();
+		page.setFont(TAHOMA);
+		paragraphs = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			paragraphs.add(addParagraph(page, TEXT));
+		}
+		page.setSize(150, 1000);
+		page.validate();
+		laidOut.clear();
+	}
+
+	private TextFlow addParagraph(FlowPage parent, String text) {
+		BlockFlow block = new BlockFlow();
+		TextFlow flow = new TextFlow(text);
+		flow.setLayoutManager(new ParagraphTextLayout(flow) {
+			@Override
+			protected void layout() {
+				laidOut.add(flow);
+				super.layout();
+			}
+		});
+		block.add(flow);
+		parent.add(block);
+		return flow;
+	}
+
+	private static FlowAdapter addAdapter(FlowPage parent, int index) {
+		FlowAdapter adapter = new FlowAdapter();
+		adapter.setLayoutManager(new StackLayout());
+		Figure figure = new Figure();
+		figure.setPreferredSize(40, 20);
+		adapter.add(figure);
+		parent.add(adapter, index);
+		return adapter;
+	}
+
+	private void assertSameLayout(FlowPage expected, FlowPage actual) {
+		assertEquals(expected.getPreferredSize(150, -1), actual.getPreferredSize(150, -1));
+		for (int i = 0; i < expected.getChildren().size(); i++) {
+			BlockFlow expectedBlock = (BlockFlow) expected.getChildren().get(i);
+			BlockFlow actualBlock = (BlockFlow) actual.getChildren().get(i);
+			assertEquals(expectedBlock.getBounds(), actualBlock.getBounds());
+			TextFlow expectedFlow = (TextFlow) expectedBlock.getChildren().get(0);
+			TextFlow actualFlow = (TextFlow) actualBlock.getChildren().get(0);
+			assertEquals(expectedFlow.getFragments().size(), actualFlow.getFragments().size());
+			for (int j = 0; j < expectedFlow.getFragments().size(); j++) {
+				TextFragmentBox expectedBox = expectedFlow.getFragments().get(j);
+				TextFragmentBox actualBox = actualFlow.getFragments().get(j);
+				assertEquals(expectedBox.getX(), actualBox.getX());
+				assertEquals(expectedBox.getBaseline(), actualBox.getBaseline());
+				assertEquals(expectedBox.offset, actualBox.offset);
+				assertEquals(expectedBox.length, actualBox.length);
+			}
+		}
+	}
+
+	private FlowPage createReference() {
+		FlowPage reference = new FlowPage();
+		reference.setFont(TAHOMA);
+		paragraphs.forEach(flow -> addParagraph(reference, flow.getText()));
+		reference.setSize(150, 1000);
+		reference.validate();
+		return reference;
+	}
+
+	@Test
+	public void testOnlyEditedParagraphIsLaidOut() {
+		Rectangle before = paragraphs.get(15).getBounds().getCopy();
+		paragraphs.get(10).setText(TEXT + ' ' + TEXT);
+		page.validate();
+
+		assertEquals(List.of(paragraphs.get(10)), laidOut);
+		// The following paragraphs are moved down
+		assertTrue(paragraphs.get(15).getBounds().y > before.y);
+		assertSameLayout(createReference(), page);
+	}
+
+	@Test
+	public void testRevalidatedParagraph() {
+		Rectangle before = paragraphs.get(15).getBounds().getCopy();
+		paragraphs.get(10).revalidate();
+		page.validate();
+
+		assertEquals(List.of(paragraphs.get(10)), laidOut);
+		assertEquals(before, paragraphs.get(15).getBounds());
+		assertSameLayout(createReference(), page);
+	}
+
+	@Test
+	public void testAddAndRemoveParagraph() {
+		page.remove(page.getChildren().get(3));
+		paragraphs.remove(3);
+		page.validate();
+		assertTrue(laidOut.isEmpty());
+		assertSameLayout(createReference(), page);
+
+		laidOut.clear();
+		TextFlow added = addParagraph(new FlowPage(), TEXT);
+		page.add(added.getParent(), 5);
+		paragraphs.add(5, added);
+		page.validate();
+		assertEquals(List.of(added), laidOut);
+		assertSameLayout(createReference(), page);
+	}
+
+	@Test
+	public void testFlowAdapterAfterEditedParagraph() {
+		FlowAdapter adapter = addAdapter(page, 11);
+		page.validate();
+		laidOut.clear();
+		Rectangle before = adapter.getBounds().getCopy();
+		paragraphs.get(5).setText(TEXT + ' ' + TEXT);
+		page.validate();
+
+		assertEquals(List.of(paragraphs.get(5)), laidOut);
+		// The adapter and its children are moved down with the following lines
+		assertTrue(adapter.getBounds().y > before.y);
+		FlowPage reference = new FlowPage();
+		reference.setFont(TAHOMA);
+		paragraphs.forEach(flow -> addParagraph(reference, flow.getText()));
+		FlowAdapter expected = addAdapter(reference, 11);
+		reference.setSize(150, 1000);
+		reference.validate();
+		assertEquals(expected.getBounds(), adapter.getBounds());
+		assertEquals(expected.getChildren().get(0).getBounds(), adapter.getChildren().get(0).getBounds());
+	}
+
+	@Test
+	public void testWidthChangeLaysOutAllParagraphs() {
+		page.setSize(200, 1000);
+		page.validate();
+		assertEquals(paragraphs, laidOut);
+	}
+
+}
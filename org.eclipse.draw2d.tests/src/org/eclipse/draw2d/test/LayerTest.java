@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,9 +13,16 @@
 package org.eclipse.draw2d.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Layer;
+import org.eclipse.draw2d.MouseListener;
 import org.eclipse.draw2d.geometry.Rectangle;
 
 import org.junit.jupiter.api.Test;
@@ -48,6 +55,69 @@ public class LayerTest {
 		assertEquals(true, layer.containsPoint(60, 60));
 	}
 
+	@Test
+	public void testSpatialIndexFindFigureAt() {
+		FreeformLayer layer = new FreeformLayer();
+		layer.setBounds(new Rectangle(0, 0, 5000, 5000));
+		layer.setSpatialIndexEnabled(true);
+		assertTrue(layer.isSpatialIndexEnabled());
+
+		IFigure[][] grid = new IFigure[50][50];
+		for (int i = 0; i < 50; i++) {
+			for (int j = 0; j < 50; j++) {
+				grid[i][j] = createChild(layer, i * 100, j * 100, 50, 50);
+			}
+		}
+		assertSame(grid[0][0], layer.findFigureAt(10, 10));
+		assertSame(grid[42][17], layer.findFigureAt(4225, 1725));
+		grid[49][49].addMouseListener(new MouseListener.Stub());
+		assertSame(grid[49][49], layer.findMouseEventTargetAt(4949, 4949));
+		assertNull(layer.findMouseEventTargetAt(4849, 4849));
+		assertNull(layer.findFigureAt(75, 75));
+		assertFalse(layer.containsPoint(75, 75));
+		assertTrue(layer.containsPoint(4225, 1725));
+
+		// Moved figures must be found at their new location only
+		grid[0][0].setBounds(new Rectangle(60, 60, 30, 30));
+		assertNull(layer.findFigureAt(10, 10));
+		assertSame(grid[0][0], layer.findFigureAt(75, 75));
+
+		// Removed figures must no longer be found
+		layer.remove(grid[42][17]);
+		assertNull(layer.findFigureAt(4225, 1725));
+	}
+
+	@Test
+	public void testSpatialIndexKeepsZOrder() {
+		Layer layer = new Layer();
+		layer.setBounds(new Rectangle(0, 0, 1000, 1000));
+		layer.setSpatialIndexEnabled(true);
+
+		IFigure bottom = createChild(layer, 0, 0, 100, 100);
+		IFigure large = createChild(layer, 0, 0, 1000, 1000);
+		IFigure top = createChild(layer, 50, 50, 100, 100);
+		assertSame(top, layer.findFigureAt(75, 75));
+		assertSame(large, layer.findFigureAt(25, 25));
+
+		// Re-adding at index 0 moves the figure to the bottom of the z-order
+		layer.add(top, 0);
+		assertSame(large, layer.findFigureAt(75, 75));
+		layer.remove(large);
+		assertSame(bottom, layer.findFigureAt(75, 75));
+		assertSame(top, layer.findFigureAt(125, 125));
+
+		layer.setSpatialIndexEnabled(false);
+		assertFalse(layer.isSpatialIndexEnabled());
+		assertSame(bottom, layer.findFigureAt(75, 75));
+	}
+
+	private static IFigure createChild(IFigure parent, int x, int y, int width, int height) {
+		Figure child = new Figure();
+		child.setBounds(new Rectangle(x, y, width, height));
+		parent.add(child);
+		return child;
+	}
+
 	public class MyLayer extends Layer {
 
 		@Override
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.LevelOfDetail;
+import org.eclipse.draw2d.LineBorder;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+public class LevelOfDetailTest extends BaseTestCase {
+
+	private List<String> log;
+	private Figure figure;
+
+	private class RecordingFigure extends Figure {
+		private final String name;
+
+		RecordingFigure(String name) {
+			this.name = name;
+		}
+
+		@Override
+		protected void paintFigure(Graphics graphics) {
+			log.add(name + ".paintFigure");
+		}
+
+		@Override
+		protected void paintBorder(Graphics graphics) {
+			log.add(name + ".paintBorder");
+		}
+
+		@Override
+		protected void paintSimplified(Graphics graphics) {
+			log.add(name + ".paintSimplified");
+		}
+	}
+
+	@BeforeEach
+	public void setUp() {
+		log = new ArrayList<>();
+		figure = new RecordingFigure("parent");
+		figure.setBounds(new Rectangle(0, 0, 100, 100));
+		figure.setBorder(new LineBorder());
+		Figure child = new RecordingFigure("child");
+		child.setBounds(new Rectangle(10, 10, 20, 20));
+		figure.add(child);
+	}
+
+	@Test
+	public void testThresholds() {
+		assertEquals(LevelOfDetail.FULL, figure.getLevelOfDetail(0.01));
+
+		figure.setLevelOfDetailThreshold(LevelOfDetail.NO_TEXT, 0.5);
+		figure.setLevelOfDetailThreshold(LevelOfDetail.BOUNDS, 0.2);
+		assertEquals(0.5, figure.getLevelOfDetailThreshold(LevelOfDetail.NO_TEXT));
+		assertEquals(0, figure.getLevelOfDetailThreshold(LevelOfDetail.NO_DECORATIONS));
+		assertEquals(LevelOfDetail.FULL, figure.getLevelOfDetail(1.0));
+		assertEquals(LevelOfDetail.FULL, figure.getLevelOfDetail(0.5));
+		assertEquals(LevelOfDetail.NO_TEXT, figure.getLevelOfDetail(0.3));
+		assertEquals(LevelOfDetail.BOUNDS, figure.getLevelOfDetail(0.1));
+
+		figure.setLevelOfDetailThreshold(LevelOfDetail.BOUNDS, 0);
+		assertEquals(LevelOfDetail.NO_TEXT, figure.getLevelOfDetail(0.1));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> figure.setLevelOfDetailThreshold(LevelOfDetail.FULL, 1.0));
+	}
+
+	private void paint(double zoom) {
+		log.clear();
+		Image image = new Image(Display.getDefault(), 100, 100);
+		GC gc = new GC(image);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			graphics.scale(zoom);
+			figure.paint(graphics);
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+			image.dispose();
+		}
+	}
+
+	@Test
+	public void testPaint() {
+		figure.setLevelOfDetailThreshold(LevelOfDetail.NO_DECORATIONS, 0.5);
+		figure.setLevelOfDetailThreshold(LevelOfDetail.BOUNDS, 0.2);
+
+		paint(1.0);
+		assertEquals(List.of("parent.paintFigure", "child.paintFigure", "child.paintBorder", "parent.paintBorder"),
+				log);
+
+		// The border is omitted, but the children are painted with full detail
+		paint(0.4);
+		assertEquals(List.of("parent.paintFigure", "child.paintFigure", "child.paintBorder"), log);
+
+		// Neither the figure nor its children are painted
+		paint(0.1);
+		assertEquals(List.of("parent.paintSimplified"), log);
+	}
+
+}
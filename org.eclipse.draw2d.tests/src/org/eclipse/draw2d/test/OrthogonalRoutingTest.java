@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.OrthogonalRouter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OrthogonalRoutingTest {
+
+	private OrthogonalRouter router;
+	private List<Rectangle> obstacles;
+
+	@BeforeEach
+	public void setUp() {
+		router = new OrthogonalRouter();
+		obstacles = new ArrayList<>();
+	}
+
+	private void addObstacle(Rectangle rect) {
+		obstacles.add(rect);
+		router.addObstacle(rect);
+	}
+
+	private void assertValidRoute(PointList points, Point start, Point end) {
+		assertEquals(start, points.getFirstPoint());
+		assertEquals(end, points.getLastPoint());
+		for (int i = 0; i < points.size() - 1; i++) {
+			Point p1 = points.getPoint(i);
+			Point p2 = points.getPoint(i + 1);
+			assertTrue(p1.x == p2.x || p1.y == p2.y, "Segment " + i + " is not orthogonal"); //$NON-NLS-1$ //$NON-NLS-2$
+			for (Rectangle obstacle : obstacles) {
+				// Only the interior of an obstacle must not be crossed
+				boolean crosses = Math.min(p1.x, p2.x) < obstacle.right() && Math.max(p1.x, p2.x) > obstacle.x
+						&& Math.min(p1.y, p2.y) < obstacle.bottom() && Math.max(p1.y, p2.y) > obstacle.y;
+				assertFalse(crosses, "Segment " + i + " crosses " + obstacle); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	@Test
+	public void testStraightRoute() {
+		Point start = new Point(100, 100);
+		Point end = new Point(300, 100);
+		PointList points = router.route("a", start, PositionConstants.EAST, end, PositionConstants.WEST); //$NON-NLS-1$
+		assertArrayEquals(new int[] { 100, 100, 300, 100 }, points.toIntArray());
+	}
+
+	@Test
+	public void testRouteAroundObstacle() {
+		addObstacle(new Rectangle(150, 50, 100, 100));
+		Point start = new Point(100, 100);
+		Point end = new Point(300, 100);
+		PointList points = router.route("a", start, PositionConstants.EAST, end, PositionConstants.WEST); //$NON-NLS-1$
+		assertValidRoute(points, start, end);
+		// Around the top or bottom side, with four bends
+		assertEquals(6, points.size());
+		int y = points.getPoint(2).y;
+		assertTrue(y == 50 - router.getSpacing() || y == 150 + router.getSpacing());
+	}
+
+	@Test
+	public void testRouteThroughGap() {
+		addObstacle(new Rectangle(150, 0, 100, 90));
+		addObstacle(new Rectangle(150, 110, 100, 90));
+		Point start = new Point(100, 100);
+		Point end = new Point(300, 100);
+		PointList points = router.route("a", start, PositionConstants.EAST, end, PositionConstants.WEST); //$NON-NLS-1$
+		assertValidRoute(points, start, end);
+		assertEquals(2, points.size());
+	}
+
+	@Test
+	public void testParallelSegmentsAreSeparated() {
+		addObstacle(new Rectangle(150, 50, 100, 100));
+		Point start = new Point(100, 100);
+		Point end = new Point(300, 100);
+		PointList first = router.route("a", start, PositionConstants.EAST, end, PositionConstants.WEST); //$NON-NLS-1$
+		PointList second = router.route("b", start, PositionConstants.EAST, end, PositionConstants.WEST); //$NON-NLS-1$
+		assertValidRoute(first, start, end);
+		assertValidRoute(second, start, end);
+		assertNotEquals(first.getPoint(2), second.getPoint(2));
+
+		// Once released, the channel is used again
+		router.release("a"); //$NON-NLS-1$
+		PointList third = router.route("c", start, PositionConstants.EAST, end, PositionConstants.WEST); //$NON-NLS-1$
+		assertArrayEquals(first.toIntArray(), third.toIntArray());
+
+		// Routing again replaces the reservations of the owner
+		PointList again = router.route("b", start, PositionConstants.EAST, end, PositionConstants.WEST); //$NON-NLS-1$
+		assertArrayEquals(second.toIntArray(), again.toIntArray());
+	}
+
+	@Test
+	public void testUpdateObstacle() {
+		Rectangle obstacle = new Rectangle(150, 50, 100, 100);
+		router.addObstacle(obstacle);
+		Point start = new Point(100, 100);
+		Point end = new Point(300, 100);
+		assertEquals(6, router.route("a", start, PositionConstants.EAST, end, PositionConstants.WEST).size()); //$NON-NLS-1$
+		assertTrue(router.updateObstacle(obstacle, obstacle.getTranslated(0, 200)));
+		assertEquals(2, router.route("a", start, PositionConstants.EAST, end, PositionConstants.WEST).size()); //$NON-NLS-1$
+		assertTrue(router.removeObstacle(obstacle.getTranslated(0, 200)));
+		assertFalse(router.removeObstacle(obstacle));
+	}
+
+	@Test
+	public void testManyRoutes() {
+		Random random = new Random(0);
+		List<Rectangle> nodes = new ArrayList<>();
+		for (int row = 0; row < 10; row++) {
+			for (int col = 0; col < 10; col++) {
+				Rectangle node = new Rectangle(col * 120 + random.nextInt(20), row * 100 + random.nextInt(20), 60, 40);
+				nodes.add(node);
+				addObstacle(node);
+			}
+		}
+		for (int i = 0; i < 300; i++) {
+			Rectangle source = nodes.get(random.nextInt(nodes.size()));
+			Rectangle target = nodes.get(random.nextInt(nodes.size()));
+			if (source == target) {
+				continue;
+			}
+			Point start = source.getRight();
+			Point end = target.getLeft();
+			PointList points = router.route(Integer.valueOf(i), start, PositionConstants.EAST, end,
+					PositionConstants.WEST);
+			assertValidRoute(points, start, end);
+		}
+	}
+
+}
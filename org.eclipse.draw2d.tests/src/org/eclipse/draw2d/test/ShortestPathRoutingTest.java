@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,9 +12,17 @@
  *******************************************************************************/
 package org.eclipse.draw2d.test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.draw2d.geometry.Geometry;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -541,6 +549,94 @@ public class ShortestPathRoutingTest {
 		doAssertNoPathsSolved();
 	}
 
+	@Test
+	public void testIncrementalSolve() {
+		routing.setIncremental(true);
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (int row = 0; row < 6; row++) {
+			for (int col = 0; col < 6; col++) {
+				Rectangle obstacle = new Rectangle(col * 150 + row * 7 % 20, row * 120 + col * 11 % 20, 60, 40);
+				obstacles.add(obstacle);
+				routing.addObstacle(obstacle.getCopy());
+			}
+		}
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < obstacles.size(); i++) {
+			if (i % 6 < 5) {
+				Path path = new Path(obstacles.get(i).getCenter(), obstacles.get(i + 1).getCenter());
+				paths.add(path);
+				routing.addPath(path);
+			}
+			if (i + 6 < obstacles.size()) {
+				Path path = new Path(obstacles.get(i).getCenter(), obstacles.get(i + 7 - i % 6 / 5 * 2).getCenter());
+				paths.add(path);
+				routing.addPath(path);
+			}
+		}
+		assertEquals(paths.size(), routing.solve().size());
+
+		// Move an obstacle in the corner along with the end of its path
+		Rectangle moved = obstacles.get(0).getTranslated(15, 20);
+		routing.updateObstacle(obstacles.get(0), moved);
+		obstacles.set(0, moved);
+		paths.get(0).setStartPoint(moved.getCenter());
+		paths.get(1).setStartPoint(moved.getCenter());
+		List<Path> solved = routing.solve();
+		assertTrue(solved.contains(paths.get(0)));
+		assertTrue(solved.contains(paths.get(1)));
+		assertTrue(solved.size() < paths.size() / 2, "Should only route the neighbourhood"); //$NON-NLS-1$
+
+		// The result is the same as when routing all paths
+		ShortestPathRouter fullRouting = new ShortestPathRouter();
+		obstacles.forEach(obstacle -> fullRouting.addObstacle(obstacle.getCopy()));
+		List<Path> fullPaths = new ArrayList<>();
+		for (Path path : paths) {
+			Path fullPath = new Path(path.getStartPoint(), path.getEndPoint());
+			fullPaths.add(fullPath);
+			fullRouting.addPath(fullPath);
+		}
+		fullRouting.solve();
+		for (int i = 0; i < paths.size(); i++) {
+			assertArrayEquals(fullPaths.get(i).getPoints().toIntArray(), paths.get(i).getPoints().toIntArray());
+		}
+	}
+
+	@Test
+	public void testManyObstacles() {
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (int row = 0; row < 10; row++) {
+			for (int col = 0; col < 10; col++) {
+				Rectangle obstacle = new Rectangle(col * 100, row * 80, 60, 40);
+				obstacles.add(obstacle);
+				routing.addObstacle(obstacle.getCopy());
+			}
+		}
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 9; i++) {
+			Path path = new Path(new Point(80 + i * 100, 60), new Point(880 - i * 100, 700));
+			paths.add(path);
+			routing.addPath(path);
+		}
+		routing.solve();
+
+		for (Path path : paths) {
+			PointList points = path.getPoints();
+			assertTrue(points.size() >= 2, "Should have solved path"); //$NON-NLS-1$
+			for (int i = 0; i < points.size() - 1; i++) {
+				Point p1 = points.getPoint(i);
+				Point p2 = points.getPoint(i + 1);
+				for (Rectangle obstacle : obstacles) {
+					Rectangle inner = obstacle.getShrinked(1, 1);
+					assertFalse(Geometry.linesIntersect(p1.x, p1.y, p2.x, p2.y, inner.x, inner.y, inner.right(),
+							inner.bottom())
+							|| Geometry.linesIntersect(p1.x, p1.y, p2.x, p2.y, inner.x, inner.bottom(), inner.right(),
+									inner.y),
+							"Path crosses obstacle " + obstacle); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testOffsetShrink() {
 		routing.addObstacle(offsetRectLeft.getCopy());
@@ -551,6 +647,49 @@ public class ShortestPathRoutingTest {
 		doTestOffsetShrink();
 	}
 
+	@Test
+	public void testParallelSolve() {
+		ShortestPathRouter parallelRouting = new ShortestPathRouter();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		parallelRouting.setExecutor(executor);
+		try {
+			for (int row = 0; row < 8; row++) {
+				for (int col = 0; col < 8; col++) {
+					Rectangle obstacle = new Rectangle(col * 100 + row * 7 % 20, row * 80 + col * 11 % 20, 60, 40);
+					routing.addObstacle(obstacle.getCopy());
+					parallelRouting.addObstacle(obstacle.getCopy());
+				}
+			}
+			List<Path> paths = new ArrayList<>();
+			List<Path> parallelPaths = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				Point start = new Point(30 + i % 8 * 100, 20 + i / 8 * 160);
+				Point end = new Point(730 - i % 8 * 100, 620 - i / 8 * 160);
+				Path path = new Path(start, end);
+				Path parallelPath = new Path(start, end);
+				if (i % 4 == 0) {
+					PointList bendpoints = new PointList();
+					bendpoints.addPoint(385, 300);
+					path.setBendPoints(bendpoints);
+					parallelPath.setBendPoints(bendpoints.getCopy());
+				}
+				paths.add(path);
+				routing.addPath(path);
+				parallelPaths.add(parallelPath);
+				parallelRouting.addPath(parallelPath);
+			}
+			routing.solve();
+			parallelRouting.solve();
+
+			for (int i = 0; i < paths.size(); i++) {
+				assertTrue(paths.get(i).getPoints().size() >= 2, "Should have solved path"); //$NON-NLS-1$
+				assertArrayEquals(paths.get(i).getPoints().toIntArray(), parallelPaths.get(i).getPoints().toIntArray());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test
 	public void testQuadBendHit() {
 		routing.addObstacle(quadBendBottom.getCopy());
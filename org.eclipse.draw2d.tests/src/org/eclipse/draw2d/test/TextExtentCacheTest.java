@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.function.BiFunction;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Point;
+
+import org.eclipse.draw2d.internal.TextExtentCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TextExtentCacheTest extends BaseTestCase {
+
+	private TextExtentCache cache;
+	private int measured;
+
+	private final BiFunction<String, Font, Point> measure = (text, font) -> {
+		measured++;
+		return new Point(text.length() * font.getFontData()[0].getHeight(), font.getFontData()[0].getHeight());
+	};
+
+	@BeforeEach
+	public void setUp() {
+		cache = new TextExtentCache(2);
+		measured = 0;
+	}
+
+	@Test
+	public void testExtentIsMeasuredOnce() {
+		Point first = cache.getExtent("abc", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		Point second = cache.getExtent("abc", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		assertEquals(first, second);
+		assertNotSame(first, second);
+		assertEquals(1, measured);
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		// Modifying a result doesn't modify the cache
+		second.x = 0;
+		assertEquals(first, cache.getExtent("abc", TAHOMA, 100, true, measure)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testKeyIncludesFontZoomAndExpansion() {
+		cache = new TextExtentCache(TextExtentCache.DEFAULT_MAX_SIZE);
+		cache.getExtent("abc", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		cache.getExtent("abc", SERIF, 100, true, measure); //$NON-NLS-1$
+		cache.getExtent("abc", TAHOMA, 200, true, measure); //$NON-NLS-1$
+		cache.getExtent("abc", TAHOMA, 100, false, measure); //$NON-NLS-1$
+		assertEquals(4, measured);
+		assertEquals(4, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedExtentIsEvicted() {
+		cache.getExtent("a", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		cache.getExtent("b", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		cache.getExtent("a", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		cache.getExtent("c", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		assertEquals(2, cache.size());
+		assertEquals(3, measured);
+
+		cache.getExtent("a", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		assertEquals(3, measured);
+		cache.getExtent("b", TAHOMA, 100, true, measure); //$NON-NLS-1$
+		assertEquals(4, measured);
+	}
+
+	@Test
+	public void testFontsAreIdentifiedByDescription() {
+		Font font = new Font(null, "Tahoma", 8, 0); //$NON-NLS-1$
+		cache.getExtent("abc", font, 100, true, measure); //$NON-NLS-1$
+		font.dispose();
+
+		// A new font with the same description shares the extents
+		font = new Font(null, "Tahoma", 8, 0); //$NON-NLS-1$
+		cache.getExtent("abc", font, 100, true, measure); //$NON-NLS-1$
+		assertEquals(1, measured);
+		font.dispose();
+
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+}
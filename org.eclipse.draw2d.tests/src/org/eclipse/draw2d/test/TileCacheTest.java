@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.TileCache;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TileCacheTest extends BaseTestCase {
+
+	private Shell shell;
+	private FigureCanvas canvas;
+	private IFigure box;
+	private TileCache cache;
+
+	@BeforeEach
+	public void setUp() {
+		shell = new Shell();
+		shell.setLayout(new FillLayout());
+		shell.setSize(300, 300);
+		canvas = new FigureCanvas(shell, SWT.DOUBLE_BUFFERED);
+		IFigure contents = new Figure();
+		contents.setLayoutManager(new XYLayout());
+		contents.setOpaque(true);
+		contents.setBackgroundColor(ColorConstants.white);
+		box = new RectangleFigure();
+		contents.add(box, new Rectangle(10, 10, 50, 50));
+		canvas.setContents(contents);
+		cache = new TileCache(100, 4);
+		canvas.getViewport().setTileCache(cache);
+		shell.open();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		shell.dispose();
+		cache.dispose();
+	}
+
+	private void update() {
+		canvas.getLightweightSystem().getUpdateManager().performUpdate();
+		canvas.redraw();
+		canvas.update();
+		Display display = Display.getDefault();
+		while (display.readAndDispatch()) {
+			// process pending events
+		}
+	}
+
+	@Test
+	public void testArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new TileCache(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new TileCache(1, 0));
+	}
+
+	@Test
+	public void testTilesReused() {
+		update();
+		int misses = cache.getMisses();
+		assertTrue(misses > 0);
+		assertTrue(cache.size() <= cache.getMaxTiles());
+
+		update();
+		assertEquals(misses, cache.getMisses());
+		assertTrue(cache.getHits() > 0);
+	}
+
+	@Test
+	public void testTilesInvalidated() {
+		update();
+		int misses = cache.getMisses();
+		box.setBackgroundColor(ColorConstants.red);
+		canvas.getLightweightSystem().getUpdateManager().performUpdate();
+		// Only the tile containing the box is rendered again
+		assertEquals(misses + 1, cache.getMisses());
+
+		cache.invalidate();
+		assertEquals(0, cache.size());
+	}
+
+}
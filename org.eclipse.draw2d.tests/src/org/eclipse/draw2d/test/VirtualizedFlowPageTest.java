@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.text.BlockFlow;
+import org.eclipse.draw2d.text.FlowPage;
+import org.eclipse.draw2d.text.ParagraphTextLayout;
+import org.eclipse.draw2d.text.TextFlow;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VirtualizedFlowPageTest extends BaseTestCase {
+
+	private static final int PARAGRAPHS = 500;
+
+	private final Set<TextFlow> laidOut = new HashSet<>();
+	private final List<TextFlow> paragraphs = new ArrayList<>();
+	private Shell shell;
+	private FigureCanvas canvas;
+	private FlowPage page;
+
+	@BeforeEach
+	public void setUp() {
+		shell = new Shell();
+		shell.setLayout(new FillLayout());
+		shell.setSize(300, 300);
+		canvas = new FigureCanvas(shell, SWT.DOUBLE_BUFFERED);
+		canvas.getViewport().setContentsTracksWidth(true);
+		page = new FlowPage();
+		page.setFont(TAHOMA);
+		page.setVirtualized(true);
+		for (int i = 0; i < PARAGRAPHS; i++) {
+			BlockFlow block = new BlockFlow();
+			TextFlow flow = new TextFlow("Paragraph " + i + " of a long document with many paragraphs"); //$NON-NLS-1$ //$NON-NLS-2$
+			flow.setLayoutManager(new ParagraphTextLayout(flow) {
+				@Override
+				protected void layout() {
+					laidOut.add(flow);
+					super.layout();
+				}
+			});
+			block.add(flow);
+			page.add(block);
+			paragraphs.add(flow);
+		}
+		canvas.setContents(page);
+		shell.open();
+		validate();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private void validate() {
+		canvas.getLightweightSystem().getUpdateManager().performValidation();
+	}
+
+	private void assertVisibleParagraphsLaidOut() {
+		Rectangle visible = canvas.getViewport().getClientArea();
+		for (TextFlow flow : paragraphs) {
+			if (flow.getParent().getBounds().intersects(visible)) {
+				assertTrue(laidOut.contains(flow));
+				assertFalse(flow.getFragments().isEmpty());
+			}
+		}
+	}
+
+	@Test
+	public void testOnlyVisibleParagraphsAreLaidOut() {
+		assertTrue(page.isVirtualized());
+		assertTrue(laidOut.contains(paragraphs.get(0)));
+		assertFalse(laidOut.contains(paragraphs.get(PARAGRAPHS - 1)));
+		assertTrue(laidOut.size() < PARAGRAPHS / 2);
+		// The estimated height of the page allows scrolling to the end
+		assertTrue(page.getBounds().height > canvas.getViewport().getClientArea().height * 10);
+		assertVisibleParagraphsLaidOut();
+	}
+
+	@Test
+	public void testScrolledParagraphsAreLaidOut() {
+		canvas.scrollToY(page.getBounds().height / 2);
+		validate();
+		assertVisibleParagraphsLaidOut();
+
+		canvas.scrollToY(page.getBounds().height);
+		validate();
+		assertVisibleParagraphsLaidOut();
+		assertTrue(laidOut.contains(paragraphs.get(PARAGRAPHS - 1)));
+		assertTrue(laidOut.size() < PARAGRAPHS);
+	}
+
+	@Test
+	public void testDisablingVirtualizationLaysOutAllParagraphs() {
+		page.setVirtualized(false);
+		validate();
+		assertEquals(PARAGRAPHS, laidOut.size());
+		paragraphs.forEach(flow -> assertFalse(flow.getFragments().isEmpty()));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -166,7 +166,31 @@ public abstract class AutomaticRouter extends AbstractRouter {
 			conn.getPoints().removeAllPoints();
 			setEndPoints(conn);
 		}
+		handleOverlap(conn);
+	}
+
+	/**
+	 * Routes the given connections. Passes all connections to the 'next' router
+	 * (if one exists) at once, and then deals with the collisions of each
+	 * connection as in {@link #route(Connection)}.
+	 *
+	 * @param conns the connections to route
+	 * @since 3.24
+	 */
+	@Override
+	public void routeAll(List<Connection> conns) {
+		if (next() != null) {
+			next().routeAll(conns);
+		} else {
+			conns.forEach(conn -> {
+				conn.getPoints().removeAllPoints();
+				setEndPoints(conn);
+			});
+		}
+		conns.forEach(this::handleOverlap);
+	}
 
+	private void handleOverlap(Connection conn) {
 		if (conn.getPoints().size() == 2) {
 			PointList points = conn.getPoints();
 			HashKey connectionKey = new HashKey(conn);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,11 +14,21 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.swt.SWT;
 
 /**
  * Layer designed specifically to handle the presence of connections. This is
  * done due to the necessity of having a router for the connections added.
+ * <p>
+ * When the layer is validated, all of its invalid {@link PolylineConnection
+ * PolylineConnections} are routed in a single pass per router, using
+ * {@link ConnectionRouter#routeAll(List)}, before the connections themselves
+ * are validated.
  */
 public class ConnectionLayer extends FreeformLayer {
 
@@ -59,6 +69,42 @@ public class ConnectionLayer extends FreeformLayer {
 		return connectionRouter;
 	}
 
+	/**
+	 * Lays out this layer and routes its invalid connections.
+	 *
+	 * @see #routeInvalidConnections()
+	 * @since 3.24
+	 */
+	@Override
+	public void layout() {
+		super.layout();
+		routeInvalidConnections();
+	}
+
+	/**
+	 * Routes the invalid connections of this layer, calling
+	 * {@link ConnectionRouter#routeAll(List)} once for each router. Connections
+	 * routed this way aren't routed again when they are validated, unless they are
+	 * revalidated in the meantime. Connections without anchors and connections
+	 * with {@link RoutingListener routing listeners} are left to route themselves.
+	 *
+	 * @since 3.24
+	 */
+	protected void routeInvalidConnections() {
+		Map<ConnectionRouter, List<Connection>> batches = new LinkedHashMap<>();
+		for (IFigure child : getChildren()) {
+			if (child instanceof PolylineConnection conn && conn.canRouteInBatch()) {
+				batches.computeIfAbsent(conn.getConnectionRouter(), router -> new ArrayList<>()).add(conn);
+			}
+		}
+		batches.forEach((router, connections) -> {
+			// Mark the connections first, so that connections revalidated by the
+			// router are routed again
+			connections.forEach(conn -> ((PolylineConnection) conn).setRoutedInBatch(true));
+			router.routeAll(connections);
+		});
+	}
+
 	/**
 	 * @see IFigure#paint(Graphics)
 	 */
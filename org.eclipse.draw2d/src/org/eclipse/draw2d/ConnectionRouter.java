@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.List;
+
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 
@@ -47,6 +49,24 @@ public interface ConnectionRouter {
 	 */
 	void route(Connection connection);
 
+	/**
+	 * Routes the given Connections in a single pass. The {@link ConnectionLayer}
+	 * calls this method once per validation with all of its invalid connections
+	 * using this router, before the connections are laid out. Routers may override
+	 * it to share work between the connections, e.g. to update their obstacles
+	 * only once. A connection which is revalidated while the batch is being routed
+	 * is routed again on its own using {@link #route(Connection)}.
+	 * <p>
+	 * The default implementation routes each connection in turn.
+	 *
+	 * @param connections the Connections to route, in the order of the layer's
+	 *                    children
+	 * @since 3.24
+	 */
+	default void routeAll(List<Connection> connections) {
+		connections.forEach(this::route);
+	}
+
 	/**
 	 * Removes the Connection from this router.
 	 *
@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Decides which regions are repainted by the {@link DeferredUpdateManager} for a
+ * set of damaged regions. Painting fewer regions reduces the overhead per paint,
+ * while painting smaller regions avoids repainting undamaged areas.
+ *
+ * @see DeferredUpdateManager#setDamageCoalescingStrategy(DamageCoalescingStrategy)
+ * @since 3.24
+ */
+public interface DamageCoalescingStrategy {
+
+	/**
+	 * Repaints the smallest rectangle containing all damaged regions. This is the
+	 * default strategy.
+	 */
+	DamageCoalescingStrategy UNION = new UnionStrategy();
+
+	/**
+	 * Returns the regions to repaint for the given damaged regions. The returned
+	 * regions must cover all damaged regions.
+	 *
+	 * @param damage the non-empty damaged regions, in the coordinates of the root
+	 *               figure. The list and its rectangles must not be modified.
+	 * @return the regions to repaint
+	 */
+	List<Rectangle> coalesce(List<Rectangle> damage);
+
+	/**
+	 * Repaints the smallest rectangle containing all damaged regions.
+	 */
+	class UnionStrategy implements DamageCoalescingStrategy {
+
+		UnionStrategy() {
+		}
+
+		@Override
+		public List<Rectangle> coalesce(List<Rectangle> damage) {
+			if (damage.isEmpty()) {
+				return Collections.emptyList();
+			}
+			Rectangle union = new Rectangle(damage.get(0));
+			damage.forEach(union::union);
+			return Collections.singletonList(union);
+		}
+	}
+
+	/**
+	 * Repaints a bounded number of disjoint rectangles. Overlapping regions are
+	 * always merged. As long as there are too many rectangles, the two rectangles
+	 * whose union wastes the least area (i.e. covers the least undamaged area) are
+	 * merged.
+	 */
+	class DisjointRectanglesStrategy implements DamageCoalescingStrategy {
+
+		/**
+		 * If there are more damaged regions than this, their union is repainted
+		 * instead.
+		 */
+		private static final int MAX_DAMAGE = 1024;
+
+		private final int maxRectangles;
+
+		/**
+		 * Creates a new strategy.
+		 *
+		 * @param maxRectangles the maximum number of rectangles painted per update
+		 * @throws IllegalArgumentException if maxRectangles is less than 1
+		 */
+		public DisjointRectanglesStrategy(int maxRectangles) {
+			if (maxRectangles < 1) {
+				throw new IllegalArgumentException("maxRectangles must be at least 1"); //$NON-NLS-1$
+			}
+			this.maxRectangles = maxRectangles;
+		}
+
+		@Override
+		public List<Rectangle> coalesce(List<Rectangle> damage) {
+			if (damage.size() > MAX_DAMAGE) {
+				return UNION.coalesce(damage);
+			}
+			List<Rectangle> result = new ArrayList<>();
+			damage.forEach(region -> add(result, new Rectangle(region)));
+			if (result.size() <= 1) {
+				return result;
+			}
+
+			// The candidate merges, cheapest first. A merge is discarded when it is
+			// polled if one of its rectangles has been merged in the meantime, which
+			// is marked by a null slot.
+			List<Rectangle> slots = new ArrayList<>(result);
+			PriorityQueue<Merge> merges = new PriorityQueue<>();
+			for (int i = 0; i < slots.size(); i++) {
+				for (int j = i + 1; j < slots.size(); j++) {
+					merges.add(new Merge(waste(slots.get(i), slots.get(j)), i, j));
+				}
+			}
+			int count = slots.size();
+			while (count > 1) {
+				Merge merge = merges.poll();
+				Rectangle r1 = slots.get(merge.index1());
+				Rectangle r2 = slots.get(merge.index2());
+				if (r1 == null || r2 == null) {
+					continue;
+				}
+				// Merging is free if the union doesn't cover additional area
+				if (merge.waste() > 0 && count <= maxRectangles) {
+					break;
+				}
+				slots.set(merge.index1(), null);
+				slots.set(merge.index2(), null);
+				count -= 2;
+				Rectangle merged = r1.getUnion(r2);
+				count -= absorb(slots, merged);
+				int index = slots.size();
+				for (int i = 0; i < index; i++) {
+					if (slots.get(i) != null) {
+						merges.add(new Merge(waste(slots.get(i), merged), i, index));
+					}
+				}
+				slots.add(merged);
+				count++;
+			}
+			result.clear();
+			slots.stream().filter(Objects::nonNull).forEach(result::add);
+			return result;
+		}
+
+		/**
+		 * Merges the given rectangle with all rectangles of the slots it intersects,
+		 * and clears their slots.
+		 *
+		 * @return the number of cleared slots
+		 */
+		private static int absorb(List<Rectangle> slots, Rectangle rect) {
+			int absorbed = 0;
+			boolean merged;
+			do {
+				merged = false;
+				for (int i = 0; i < slots.size(); i++) {
+					Rectangle other = slots.get(i);
+					if (other != null && other.intersects(rect)) {
+						rect.union(other);
+						slots.set(i, null);
+						absorbed++;
+						merged = true;
+					}
+				}
+			} while (merged);
+			return absorbed;
+		}
+
+		/**
+		 * Adds the given rectangle, merging it with all rectangles it intersects.
+		 */
+		private static void add(List<Rectangle> result, Rectangle rect) {
+			boolean merged;
+			do {
+				merged = false;
+				for (int i = 0; i < result.size(); i++) {
+					if (result.get(i).intersects(rect)) {
+						rect.union(result.remove(i));
+						merged = true;
+						break;
+					}
+				}
+			} while (merged);
+			result.add(rect);
+		}
+
+		private static long area(Rectangle r) {
+			return (long) r.width * r.height;
+		}
+
+		private static long waste(Rectangle r1, Rectangle r2) {
+			return area(r1.getUnion(r2)) - area(r1) - area(r2);
+		}
+
+		/**
+		 * The merge of the rectangles in two slots. Merges with the same waste are
+		 * ordered by their slots, so that the result doesn't depend on the order in
+		 * which they have been queued.
+		 */
+		private record Merge(long waste, int index1, int index2) implements Comparable<Merge> {
+
+			@Override
+			public int compareTo(Merge other) {
+				int result = Long.compare(waste, other.waste);
+				if (result == 0) {
+					result = Integer.compare(index1, other.index1);
+				}
+				return result != 0 ? result : Integer.compare(index2, other.index2);
+			}
+		}
+	}
+
+	/**
+	 * Repaints the tiles of a uniform grid which contain damaged regions. Adjacent
+	 * damaged tiles are combined into larger rectangles.
+	 */
+	class TileStrategy implements DamageCoalescingStrategy {
+
+		/**
+		 * If the damaged regions span more tiles than this, their union is repainted
+		 * instead.
+		 */
+		private static final int MAX_TILES = 4096;
+
+		private final int tileSize;
+
+		/**
+		 * Creates a new strategy.
+		 *
+		 * @param tileSize the width and height of a tile
+		 * @throws IllegalArgumentException if tileSize is less than 1
+		 */
+		public TileStrategy(int tileSize) {
+			if (tileSize < 1) {
+				throw new IllegalArgumentException("tileSize must be at least 1"); //$NON-NLS-1$
+			}
+			this.tileSize = tileSize;
+		}
+
+		@Override
+		public List<Rectangle> coalesce(List<Rectangle> damage) {
+			List<Rectangle> union = UNION.coalesce(damage);
+			long tiles = 0;
+			for (Rectangle region : damage) {
+				tiles += (long) (Math.floorDiv(region.right() - 1, tileSize) - Math.floorDiv(region.x, tileSize) + 1)
+						* (Math.floorDiv(region.bottom() - 1, tileSize) - Math.floorDiv(region.y, tileSize) + 1);
+			}
+			if (tiles > MAX_TILES || union.isEmpty()) {
+				return union;
+			}
+
+			// The columns of the dirty tiles in each row
+			SortedMap<Integer, SortedSet<Integer>> dirty = new TreeMap<>();
+			for (Rectangle region : damage) {
+				for (int row = Math.floorDiv(region.y, tileSize); row <= Math.floorDiv(region.bottom() - 1,
+						tileSize); row++) {
+					SortedSet<Integer> columns = dirty.computeIfAbsent(Integer.valueOf(row), r -> new TreeSet<>());
+					for (int col = Math.floorDiv(region.x, tileSize); col <= Math.floorDiv(region.right() - 1,
+							tileSize); col++) {
+						columns.add(Integer.valueOf(col));
+					}
+				}
+			}
+
+			// Combine the dirty tiles of each row into runs, and runs spanning the
+			// same columns in consecutive rows into a single rectangle
+			List<Rectangle> result = new ArrayList<>();
+			Map<Long, Rectangle> open = new HashMap<>();
+			int previousRow = Integer.MIN_VALUE;
+			for (Map.Entry<Integer, SortedSet<Integer>> entry : dirty.entrySet()) {
+				int row = entry.getKey().intValue();
+				if (row != previousRow + 1) {
+					result.addAll(open.values());
+					open.clear();
+				}
+				Map<Long, Rectangle> next = new HashMap<>();
+				Iterator<Integer> columns = entry.getValue().iterator();
+				int start = columns.next().intValue();
+				int end = start;
+				while (start != Integer.MAX_VALUE) {
+					int col = columns.hasNext() ? columns.next().intValue() : Integer.MAX_VALUE;
+					if (col == end + 1) {
+						end = col;
+						continue;
+					}
+					Long key = Long.valueOf(((long) start << 32) | (end & 0xFFFFFFFFL));
+					Rectangle rect = open.remove(key);
+					if (rect == null) {
+						rect = new Rectangle(start * tileSize, row * tileSize, (end - start + 1) * tileSize, tileSize);
+					} else {
+						rect.height += tileSize;
+					}
+					next.put(key, rect);
+					start = end = col;
+				}
+				result.addAll(open.values());
+				open = next;
+				previousRow = row;
+			}
+			result.addAll(open.values());
+			Rectangle bounds = union.get(0);
+			result.forEach(rect -> rect.intersect(bounds));
+			return result;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,7 @@
 package org.eclipse.draw2d;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +60,13 @@ public class DeferredUpdateManager extends UpdateManager {
 	private boolean validating;
 	private List<Runnable> afterUpdate = new ArrayList<>();
 	private int refreshRate = -1;
+	private DamageCoalescingStrategy coalescingStrategy = DamageCoalescingStrategy.UNION;
+	private int frameBudget = -1;
+	/**
+	 * The value of {@link System#nanoTime()} at which the current update should
+	 * yield, or 0 if it may take as long as needed.
+	 */
+	private long frameDeadline;
 
 	/**
 	 * Empty constructor.
@@ -175,7 +183,14 @@ public class DeferredUpdateManager extends UpdateManager {
 		}
 		updating = true;
 		try {
-			performValidation();
+			frameDeadline = frameBudget > 0 ? System.nanoTime() + frameBudget * 1_000_000L : 0;
+			if (!performValidation(frameDeadline)) {
+				// Figures can't be painted before all of them are valid, so
+				// continue validating in the next cycle
+				updateQueued = false;
+				queueWork();
+				return;
+			}
 			updateQueued = false;
 			repairDamage();
 			if (!afterUpdate.isEmpty()) {
@@ -188,6 +203,7 @@ public class DeferredUpdateManager extends UpdateManager {
 			}
 		} finally {
 			updating = false;
+			frameDeadline = 0;
 		}
 	}
 
@@ -214,6 +230,41 @@ public class DeferredUpdateManager extends UpdateManager {
 		}
 	}
 
+	/**
+	 * Validates the invalid figures until the given deadline has passed. At least
+	 * one figure is validated.
+	 *
+	 * @param deadline the value of {@link System#nanoTime()} after which no more
+	 *                 figures are validated, or 0 to validate all figures
+	 * @return <code>true</code> if all figures have been validated
+	 */
+	private boolean performValidation(long deadline) {
+		if (deadline == 0) {
+			performValidation();
+			return true;
+		}
+		if (invalidFigures.isEmpty() || validating) {
+			return true;
+		}
+		int validated = 0;
+		try {
+			validating = true;
+			fireValidating();
+			while (validated < invalidFigures.size()) {
+				IFigure fig = invalidFigures.get(validated);
+				invalidFigures.set(validated++, null);
+				fig.validate();
+				if (System.nanoTime() - deadline >= 0) {
+					break;
+				}
+			}
+		} finally {
+			invalidFigures.subList(0, validated).clear();
+			validating = false;
+		}
+		return invalidFigures.isEmpty();
+	}
+
 	/**
 	 * Adds the given exposed region to the update queue and then performs the
 	 * update.
@@ -267,23 +318,34 @@ public class DeferredUpdateManager extends UpdateManager {
 	/**
 	 * Repaints the dirty regions on the update queue and calls
 	 * {@link UpdateManager#firePainting(Rectangle, Map)}, unless there are no dirty
-	 * regions.
+	 * regions. The regions to repaint are determined by the
+	 * {@link #setDamageCoalescingStrategy(DamageCoalescingStrategy) damage
+	 * coalescing strategy}.
 	 */
 	protected void repairDamage() {
 		// Any regions marked dirty while calculating
 		// the damage are processed in the next cycle
 		Map<IFigure, Rectangle> oldRegions = dirtyRegions;
 		dirtyRegions = new HashMap<>();
+		List<Rectangle> contributions = new ArrayList<>(oldRegions.size());
+		List<Rectangle> dirty = new ArrayList<>(oldRegions.size());
 
 		oldRegions.forEach((figure, contribution) -> {
 			IFigure walker = figure.getParent();
 			// A figure can't paint beyond its own bounds
 			contribution.intersect(figure.getBounds());
+			// Listeners may cache content outside of the visible area
+			Rectangle absolute = contribution.getCopy();
+			figure.translateToAbsolute(absolute);
+			dirty.add(absolute);
 			while (!contribution.isEmpty() && walker != null) {
 				walker.translateToParent(contribution);
 				contribution.intersect(walker.getBounds());
 				walker = walker.getParent();
 			}
+			if (!contribution.isEmpty()) {
+				contributions.add(contribution);
+			}
 			if (damage == null) {
 				damage = new Rectangle(contribution);
 			} else {
@@ -292,14 +354,26 @@ public class DeferredUpdateManager extends UpdateManager {
 		});
 
 		if (!oldRegions.isEmpty()) {
+			fireDamaged(dirty);
 			firePainting(damage, oldRegions);
 		}
 
 		if (damage != null && !damage.isEmpty()) {
-			Graphics graphics = getGraphics(damage);
-			if (graphics != null) {
-				root.paint(graphics);
-				releaseGraphics(graphics);
+			List<Rectangle> regions = coalescingStrategy == DamageCoalescingStrategy.UNION
+					? Collections.singletonList(damage)
+					: coalescingStrategy.coalesce(contributions);
+			for (int i = 0; i < regions.size(); i++) {
+				if (i > 0 && frameDeadline != 0 && System.nanoTime() - frameDeadline >= 0) {
+					// Out of time, the remaining regions are painted in the next cycle
+					regions.subList(i, regions.size()).forEach(region -> addDirtyRegion(root, region));
+					break;
+				}
+				damage = regions.get(i);
+				Graphics graphics = getGraphics(damage);
+				if (graphics != null) {
+					root.paint(graphics);
+					releaseGraphics(graphics);
+				}
 			}
 		}
 		damage = null;
@@ -357,6 +431,47 @@ public class DeferredUpdateManager extends UpdateManager {
 		this.refreshRate = refreshRate;
 	}
 
+	/**
+	 * Sets the strategy which determines the regions repainted for the damaged
+	 * regions of an update. By default, the smallest rectangle containing all
+	 * damaged regions is repainted.
+	 *
+	 * @param strategy the strategy, must not be <code>null</code>
+	 * @see DamageCoalescingStrategy#UNION
+	 * @since 3.24
+	 */
+	public void setDamageCoalescingStrategy(DamageCoalescingStrategy strategy) {
+		coalescingStrategy = strategy;
+	}
+
+	/**
+	 * Returns the strategy which determines the regions repainted for the damaged
+	 * regions of an update.
+	 *
+	 * @return the strategy
+	 * @since 3.24
+	 */
+	public DamageCoalescingStrategy getDamageCoalescingStrategy() {
+		return coalescingStrategy;
+	}
+
+	/**
+	 * Sets the time an update may take before the remaining work is deferred to
+	 * the next display cycle. If the invalid figures can't be validated within
+	 * the budget, the validation is continued in the next cycle and the dirty
+	 * regions are painted afterwards. If the damage is painted in multiple
+	 * regions, the regions which can't be painted within the budget are painted
+	 * in the next cycle. If set to either {@code 0} or a negative value, updates
+	 * are always performed at once (default behavior).
+	 *
+	 * @param frameBudget The time in ms an update may take.
+	 * @see #setDamageCoalescingStrategy(DamageCoalescingStrategy)
+	 * @since 3.24
+	 */
+	public void setFrameBudget(int frameBudget) {
+		this.frameBudget = frameBudget;
+	}
+
 	/**
 	 * Validates all invalid figures on the update queue and calls
 	 * {@link UpdateManager#fireValidating()} unless there are no invalid figures.
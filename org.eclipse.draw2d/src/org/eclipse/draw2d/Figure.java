@@ -145,6 +145,14 @@ public class Figure implements IFigure {
 
 	private AncestorHelper ancestorHelper;
 
+	private static final LevelOfDetail[] LEVELS_OF_DETAIL = LevelOfDetail.values();
+
+	/**
+	 * The scale below which each level of detail is used, indexed by ordinal.
+	 * <code>null</code> if no thresholds have been set.
+	 */
+	private double[] levelOfDetailThresholds;
+
 	/**
 	 * Calls {@link #add(IFigure, Object, int)} with -1 as the index.
 	 *
@@ -773,6 +781,55 @@ public class Figure implements IFigure {
 		return layoutManager;
 	}
 
+	/**
+	 * Returns the least detailed level whose threshold is greater than the given
+	 * scale, or {@link LevelOfDetail#FULL} if there is none.
+	 *
+	 * @see IFigure#getLevelOfDetail(double)
+	 * @see #setLevelOfDetailThreshold(LevelOfDetail, double)
+	 * @since 3.24
+	 */
+	@Override
+	public LevelOfDetail getLevelOfDetail(double scale) {
+		if (levelOfDetailThresholds != null) {
+			for (int i = LEVELS_OF_DETAIL.length - 1; i > 0; i--) {
+				if (scale < levelOfDetailThresholds[i]) {
+					return LEVELS_OF_DETAIL[i];
+				}
+			}
+		}
+		return LevelOfDetail.FULL;
+	}
+
+	/**
+	 * Returns the level of detail with which this Figure is painted on the given
+	 * Graphics.
+	 *
+	 * @param graphics the Graphics used to paint
+	 * @return the level of detail for the absolute scale of the Graphics
+	 * @see #getLevelOfDetail(double)
+	 * @since 3.24
+	 */
+	protected LevelOfDetail getLevelOfDetail(Graphics graphics) {
+		return getLevelOfDetail(graphics.getAbsoluteScale());
+	}
+
+	/**
+	 * Returns the scale below which this Figure is painted with the given level of
+	 * detail.
+	 *
+	 * @param detail the level of detail
+	 * @return the threshold, or 0 if none has been set
+	 * @see #setLevelOfDetailThreshold(LevelOfDetail, double)
+	 * @since 3.24
+	 */
+	public double getLevelOfDetailThreshold(LevelOfDetail detail) {
+		if (levelOfDetailThresholds == null) {
+			return 0;
+		}
+		return levelOfDetailThresholds[detail.ordinal()];
+	}
+
 	/**
 	 * Returns an Iterator over the listeners of type <i>clazz</i> that are
 	 * listening to this Figure. If there are no listeners of type <i>clazz</i>, an
@@ -1254,12 +1311,15 @@ public class Figure implements IFigure {
 	}
 
 	/**
-	 * Paints this Figure and its children.
+	 * Paints this Figure and its children. Depending on the
+	 * {@link #getLevelOfDetail(Graphics) level of detail}, the border is omitted
+	 * or only a simplified representation is painted.
 	 *
 	 * @param graphics The Graphics object used for painting
 	 * @see #paintFigure(Graphics)
 	 * @see #paintClientArea(Graphics)
 	 * @see #paintBorder(Graphics)
+	 * @see #paintSimplified(Graphics)
 	 */
 	@Override
 	public void paint(Graphics graphics) {
@@ -1273,12 +1333,19 @@ public class Figure implements IFigure {
 			graphics.setFont(getLocalFont());
 		}
 
+		LevelOfDetail detail = getLevelOfDetail(graphics);
 		graphics.pushState();
 		try {
+			if (detail == LevelOfDetail.BOUNDS) {
+				paintSimplified(graphics);
+				return;
+			}
 			paintFigure(graphics);
 			graphics.restoreState();
 			paintClientArea(graphics);
-			paintBorder(graphics);
+			if (detail.compareTo(LevelOfDetail.NO_DECORATIONS) < 0) {
+				paintBorder(graphics);
+			}
 		} finally {
 			graphics.popState();
 		}
@@ -1394,6 +1461,25 @@ public class Figure implements IFigure {
 		}
 	}
 
+	/**
+	 * Paints the simplified representation of this Figure, which is used instead
+	 * of {@link #paintFigure(Graphics)}, {@link #paintClientArea(Graphics)} and
+	 * {@link #paintBorder(Graphics)} at the {@link LevelOfDetail#BOUNDS} level of
+	 * detail. The default implementation fills the bounds if this Figure is opaque
+	 * and outlines them otherwise.
+	 *
+	 * @param graphics The Graphics used to paint
+	 * @since 3.24
+	 */
+	protected void paintSimplified(Graphics graphics) {
+		Rectangle bounds = getBounds();
+		if (isOpaque()) {
+			graphics.fillRectangle(bounds);
+		} else {
+			graphics.drawRectangle(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+		}
+	}
+
 	/**
 	 * Translates this Figure's bounds, without firing a move.
 	 *
@@ -1887,6 +1973,40 @@ public class Figure implements IFigure {
 		revalidate();
 	}
 
+	/**
+	 * Sets the scale below which this Figure is painted with the given level of
+	 * detail. If the thresholds of several levels are greater than the scale, the
+	 * least detailed of them is used. For example, a Figure may omit its text
+	 * below 50% and paint only its bounds below 20%:
+	 *
+	 * <pre>
+	 * figure.setLevelOfDetailThreshold(LevelOfDetail.NO_TEXT, 0.5);
+	 * figure.setLevelOfDetailThreshold(LevelOfDetail.BOUNDS, 0.2);
+	 * </pre>
+	 *
+	 * By default, no thresholds are set and the Figure is always painted with full
+	 * detail.
+	 *
+	 * @param detail the level of detail, must not be {@link LevelOfDetail#FULL}
+	 * @param scale  the threshold, or 0 to remove it
+	 * @throws IllegalArgumentException if detail is {@link LevelOfDetail#FULL}
+	 * @see Graphics#getAbsoluteScale()
+	 * @since 3.24
+	 */
+	public void setLevelOfDetailThreshold(LevelOfDetail detail, double scale) {
+		if (detail == LevelOfDetail.FULL) {
+			throw new IllegalArgumentException("FULL is used above all thresholds"); //$NON-NLS-1$
+		}
+		if (levelOfDetailThresholds == null) {
+			if (scale <= 0) {
+				return;
+			}
+			levelOfDetailThresholds = new double[LEVELS_OF_DETAIL.length];
+		}
+		levelOfDetailThresholds[detail.ordinal()] = scale;
+		repaint();
+	}
+
 	/**
 	 * @see IFigure#setLocation(Point)
 	 */
@@ -26,6 +26,7 @@ import org.eclipse.draw2d.colors.HSL;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.internal.InternalDraw2dUtils;
+import org.eclipse.draw2d.internal.TextExtentCache;
 
 /**
  * Provides miscellaneous Figure operations.
@@ -35,6 +36,8 @@ public class FigureUtilities {
 	private static GC gc;
 	private static Font appliedFont;
 	private static FontMetrics metrics;
+	/** The zoom of the shell of {@link #gc}, in percent. */
+	private static int zoom = 100;
 	@Deprecated(forRemoval = true, since = "2026-06")
 	private static Color ghostFillColor = new Color(31, 31, 31);
 
@@ -98,9 +101,8 @@ public class FigureUtilities {
 	protected static GC getGC() {
 		if (gc == null) {
 			Shell shell = new Shell();
-			InternalDraw2dUtils.configureForAutoscalingMode(shell, event -> {
-				// ignored
-			});
+			zoom = Math.round(InternalDraw2dUtils.calculateScale(shell) * 100);
+			InternalDraw2dUtils.configureForAutoscalingMode(shell, shellZoom -> zoom = (int) Math.round(shellZoom * 100));
 			gc = new GC(shell);
 			gc.setAdvanced(true);
 			appliedFont = gc.getFont();
@@ -110,7 +112,8 @@ public class FigureUtilities {
 
 	/**
 	 * Returns the dimensions of the String <i>s</i> using the font <i>f</i>. Tab
-	 * expansion and carriage return processing are performed.
+	 * expansion and carriage return processing are performed. The dimensions are
+	 * cached per font, zoom and text.
 	 *
 	 * @param s the string
 	 * @param f the font
@@ -118,8 +121,11 @@ public class FigureUtilities {
 	 * @see GC#textExtent(String)
 	 */
 	protected static org.eclipse.swt.graphics.Point getTextDimension(String s, Font f) {
-		setFont(f);
-		return getGC().textExtent(s);
+		GC measuringGC = getGC();
+		return TextExtentCache.INSTANCE.getExtent(s, f, zoom, true, (text, font) -> {
+			setFont(font);
+			return measuringGC.textExtent(text);
+		});
 	}
 
 	/**
@@ -138,7 +144,8 @@ public class FigureUtilities {
 
 	/**
 	 * Returns the dimensions of the String <i>s</i> using the font <i>f</i>. No tab
-	 * expansion or carriage return processing will be performed.
+	 * expansion or carriage return processing will be performed. The dimensions are
+	 * cached per font, zoom and text.
 	 *
 	 * @param s the string
 	 * @param f the font
@@ -146,8 +153,11 @@ public class FigureUtilities {
 	 * @see GC#stringExtent(java.lang.String)
 	 */
 	protected static org.eclipse.swt.graphics.Point getStringDimension(String s, Font f) {
-		setFont(f);
-		return getGC().stringExtent(s);
+		GC measuringGC = getGC();
+		return TextExtentCache.INSTANCE.getExtent(s, f, zoom, false, (string, font) -> {
+			setFont(font);
+			return measuringGC.stringExtent(string);
+		});
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,12 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.eclipse.draw2d.geometry.Insets;
 import org.eclipse.draw2d.geometry.Rectangle;
 
@@ -20,7 +26,41 @@ class FreeformHelper implements FreeformListener {
 	class ChildTracker implements FigureListener {
 		@Override
 		public void figureMoved(IFigure source) {
-			invalidate();
+			if (update(source)) {
+				refresh();
+			}
+		}
+	}
+
+	/**
+	 * A sorted multiset of coordinates, used to track the outermost edge of all
+	 * children on one side in logarithmic time.
+	 */
+	private static final class EdgeSet {
+		private final TreeMap<Integer, int[]> counts = new TreeMap<>();
+
+		void add(int value) {
+			counts.computeIfAbsent(Integer.valueOf(value), k -> new int[1])[0]++;
+		}
+
+		void remove(int value) {
+			Integer key = Integer.valueOf(value);
+			int[] count = counts.get(key);
+			if (count != null && --count[0] == 0) {
+				counts.remove(key);
+			}
+		}
+
+		boolean isEmpty() {
+			return counts.isEmpty();
+		}
+
+		int min() {
+			return counts.firstKey().intValue();
+		}
+
+		int max() {
+			return counts.lastKey().intValue();
 		}
 	}
 
@@ -28,25 +68,84 @@ class FreeformHelper implements FreeformListener {
 	private Rectangle freeformExtent;
 	private final FigureListener figureListener = new ChildTracker();
 
+	/**
+	 * The area each hooked child contributes to the extent, in the coordinate
+	 * system of the children. Only non-empty areas are added to the edge sets.
+	 */
+	private final Map<IFigure, Rectangle> contributions = new IdentityHashMap<>();
+	private final List<FreeformFigure> freeformChildren = new ArrayList<>();
+	private final EdgeSet left = new EdgeSet();
+	private final EdgeSet top = new EdgeSet();
+	private final EdgeSet right = new EdgeSet();
+	private final EdgeSet bottom = new EdgeSet();
+
 	FreeformHelper(FreeformFigure host) {
 		this.host = host;
 	}
 
+	private static Rectangle getContribution(IFigure child) {
+		if (child instanceof FreeformFigure freeFormFig) {
+			return freeFormFig.getFreeformExtent().getCopy();
+		}
+		return child.getBounds().getCopy();
+	}
+
+	private void addContribution(IFigure child) {
+		Rectangle r = getContribution(child);
+		contributions.put(child, r);
+		if (!r.isEmpty()) {
+			left.add(r.x);
+			top.add(r.y);
+			right.add(r.right());
+			bottom.add(r.bottom());
+		}
+	}
+
+	private void removeContribution(IFigure child) {
+		Rectangle r = contributions.remove(child);
+		if (r != null && !r.isEmpty()) {
+			left.remove(r.x);
+			top.remove(r.y);
+			right.remove(r.right());
+			bottom.remove(r.bottom());
+		}
+	}
+
+	/**
+	 * Updates the contribution of the given child.
+	 *
+	 * @return <code>true</code> if the contribution has changed
+	 */
+	private boolean update(IFigure child) {
+		Rectangle old = contributions.get(child);
+		if (old == null) {
+			return false;
+		}
+		Rectangle r = getContribution(child);
+		if (r.equals(old)) {
+			return false;
+		}
+		removeContribution(child);
+		addContribution(child);
+		return true;
+	}
+
 	public Rectangle getFreeformExtent() {
 		if (freeformExtent != null) {
 			return freeformExtent;
 		}
-		Rectangle r;
+		// The first child is always taken into account, even if it is empty
+		Rectangle first = null;
 		for (IFigure child : host.getChildren()) {
-			if (child instanceof FreeformFigure freeFormFig) {
-				r = freeFormFig.getFreeformExtent();
-			} else {
-				r = child.getBounds();
+			first = contributions.get(child);
+			if (first != null) {
+				break;
 			}
-			if (freeformExtent == null) {
-				freeformExtent = r.getCopy();
-			} else {
-				freeformExtent.union(r);
+		}
+		if (first != null) {
+			freeformExtent = first.getCopy();
+			if (!left.isEmpty()) {
+				freeformExtent.union(left.min(), top.min(), right.max() - left.min(), bottom.max() - top.min());
 			}
 		}
 		Insets insets = host.getInsets();
@@ -60,12 +159,14 @@ class FreeformHelper implements FreeformListener {
 	}
 
 	public void hookChild(IFigure child) {
-		invalidate();
+		addContribution(child);
 		if (child instanceof FreeformFigure freeFormFig) {
+			freeformChildren.add(freeFormFig);
 			freeFormFig.addFreeformListener(this);
 		} else {
 			child.addFigureListener(figureListener);
 		}
+		refresh();
 	}
 
 	void invalidate() {
@@ -78,11 +179,32 @@ class FreeformHelper implements FreeformListener {
 		}
 	}
 
+	/**
+	 * Recomputes the extent from the tracked contributions and only notifies the
+	 * host if it has actually changed.
+	 */
+	private void refresh() {
+		Rectangle old = freeformExtent;
+		if (old != null) {
+			freeformExtent = null;
+			if (old.equals(getFreeformExtent())) {
+				return;
+			}
+		}
+		invalidate();
+	}
+
 	@Override
 	public void notifyFreeformExtentChanged() {
 		// A childs freeform extent has changed, therefore this extent must be
 		// recalculated
-		invalidate();
+		boolean changed = false;
+		for (FreeformFigure child : freeformChildren) {
+			changed |= update(child);
+		}
+		if (changed) {
+			refresh();
+		}
 	}
 
 	public void setFreeformBounds(Rectangle bounds) {
@@ -97,12 +219,14 @@ class FreeformHelper implements FreeformListener {
 	}
 
 	public void unhookChild(IFigure child) {
-		invalidate();
 		if (child instanceof FreeformFigure freeFormFig) {
+			freeformChildren.remove(freeFormFig);
 			freeFormFig.removeFreeformListener(this);
 		} else {
 			child.removeFigureListener(figureListener);
 		}
+		removeContribution(child);
+		refresh();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -371,6 +371,20 @@ public interface IFigure {
 	 */
 	LayoutManager getLayoutManager();
 
+	/**
+	 * Returns the level of detail with which this IFigure is painted when the
+	 * graphics it paints on is scaled by the given factor. The default
+	 * implementation always returns {@link LevelOfDetail#FULL}.
+	 *
+	 * @param scale the absolute scale of the graphics, see
+	 *              {@link Graphics#getAbsoluteScale()}
+	 * @return the level of detail
+	 * @since 3.24
+	 */
+	default LevelOfDetail getLevelOfDetail(double scale) {
+		return LevelOfDetail.FULL;
+	}
+
 	/**
 	 * Returns the background Color of this Figure. Does not inherit this Color from
 	 * the parent, may return null.
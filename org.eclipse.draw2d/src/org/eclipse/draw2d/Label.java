@@ -497,6 +497,9 @@ public class Label extends Figure implements PositionConstants {
 			Point iconLoc = getIconLocation();
 			graphics.drawImage(icon, bounds.x + iconLoc.x, bounds.y + iconLoc.y);
 		}
+		if (getLevelOfDetail(graphics) != LevelOfDetail.FULL) {
+			return;
+		}
 		Point curTextLocation = getTextLocation();
 		final int tx = bounds.x + curTextLocation.x;
 		final int ty = bounds.y + curTextLocation.y;
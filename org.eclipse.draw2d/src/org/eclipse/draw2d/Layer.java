@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.List;
+
 import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
 
 /**
  * A transparent figure intended to be added exclusively to a
@@ -20,6 +23,19 @@ import org.eclipse.draw2d.geometry.Point;
  */
 public class Layer extends Figure {
 
+	private SpatialIndex spatialIndex;
+
+	/**
+	 * @see IFigure#add(IFigure, Object, int)
+	 */
+	@Override
+	public void add(IFigure child, Object constraint, int index) {
+		super.add(child, constraint, index);
+		if (spatialIndex != null) {
+			spatialIndex.hookChild(child, index == -1 || index == getChildren().size() - 1);
+		}
+	}
+
 	/**
 	 * Overridden to implement transparent behavior.
 	 *
@@ -36,7 +52,8 @@ public class Layer extends Figure {
 		translateFromParent(pt);
 		x = pt.x;
 		y = pt.y;
-		for (IFigure child : getChildren()) {
+		List<? extends IFigure> candidates = spatialIndex != null ? spatialIndex.getChildrenAt(x, y) : getChildren();
+		for (IFigure child : candidates) {
 			if (child.containsPoint(x, y)) {
 				return true;
 			}
@@ -65,4 +82,141 @@ public class Layer extends Figure {
 		return f;
 	}
 
+	/**
+	 * Overridden to only visit the children near the given point if the spatial
+	 * index is enabled.
+	 *
+	 * @see Figure#findDescendantAtExcluding(int, int, TreeSearch)
+	 */
+	@Override
+	protected IFigure findDescendantAtExcluding(int x, int y, TreeSearch search) {
+		if (spatialIndex == null) {
+			return super.findDescendantAtExcluding(x, y, search);
+		}
+		Point pt = Point.SINGLETON;
+		pt.setLocation(x, y);
+		translateFromParent(pt);
+		if (!getClientArea(Rectangle.SINGLETON).contains(pt)) {
+			return null;
+		}
+		x = pt.x;
+		y = pt.y;
+
+		List<IFigure> candidates = spatialIndex.getChildrenAt(x, y);
+		for (int i = candidates.size() - 1; i >= 0; i--) {
+			IFigure fig = candidates.get(i);
+			if (fig.isVisible()) {
+				fig = fig.findFigureAt(x, y, search);
+				if (fig != null) {
+					return fig;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Overridden to only visit the children near the given point if the spatial
+	 * index is enabled.
+	 *
+	 * @see Figure#findMouseEventTargetInDescendantsAt(int, int)
+	 */
+	@Override
+	protected IFigure findMouseEventTargetInDescendantsAt(int x, int y) {
+		if (spatialIndex == null) {
+			return super.findMouseEventTargetInDescendantsAt(x, y);
+		}
+		Point pt = Point.SINGLETON;
+		pt.setLocation(x, y);
+		translateFromParent(pt);
+		x = pt.x;
+		y = pt.y;
+		if (!getClientArea(Rectangle.SINGLETON).contains(x, y)) {
+			return null;
+		}
+
+		List<IFigure> candidates = spatialIndex.getChildrenAt(x, y);
+		for (int i = candidates.size() - 1; i >= 0; i--) {
+			IFigure fig = candidates.get(i);
+			if (fig.isVisible() && fig.isEnabled() && fig.containsPoint(x, y)) {
+				fig = fig.findMouseEventTargetAt(x, y);
+				if (fig != null) {
+					return fig;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the children of this layer are tracked by a spatial index.
+	 *
+	 * @return <code>true</code> if the spatial index is enabled
+	 * @see #setSpatialIndexEnabled(boolean)
+	 * @since 3.24
+	 */
+	public boolean isSpatialIndexEnabled() {
+		return spatialIndex != null;
+	}
+
+	/**
+	 * Overridden to only paint the children intersecting the clip if the spatial
+	 * index is enabled and no {@link IClippingStrategy} is set.
+	 *
+	 * @see Figure#paintChildren(Graphics)
+	 */
+	@Override
+	protected void paintChildren(Graphics graphics) {
+		if (spatialIndex == null || getClippingStrategy() != null) {
+			super.paintChildren(graphics);
+			return;
+		}
+		Rectangle clip = graphics.getClip(new Rectangle());
+		for (IFigure child : spatialIndex.getChildrenIntersecting(clip)) {
+			if (child.isVisible() && child.getBounds().intersects(clip)) {
+				graphics.clipRect(child.getBounds());
+				child.paint(graphics);
+				graphics.restoreState();
+			}
+		}
+	}
+
+	/**
+	 * @see IFigure#remove(IFigure)
+	 */
+	@Override
+	public void remove(IFigure child) {
+		if (spatialIndex != null && child != null && child.getParent() == this) {
+			spatialIndex.unhookChild(child);
+		}
+		super.remove(child);
+	}
+
+	/**
+	 * Enables or disables the spatial index of this layer. If enabled, hit-testing
+	 * and painting only visit the children whose bounds are near the requested
+	 * location, instead of all children. This is intended for layers with a large
+	 * number of children, such as the primary layer of big diagrams. The z-order in
+	 * which children are painted and searched is not affected.
+	 * <p>
+	 * The index is updated whenever a child fires
+	 * {@link FigureListener#figureMoved(IFigure)}. Children must therefore notify
+	 * every change of their bounds and must not contain points considerably
+	 * outside of their bounds. Freeform children are always visited.
+	 *
+	 * @param value <code>true</code> to enable the spatial index
+	 * @since 3.24
+	 */
+	public void setSpatialIndexEnabled(boolean value) {
+		if (value == isSpatialIndexEnabled()) {
+			return;
+		}
+		if (value) {
+			spatialIndex = new SpatialIndex(this);
+		} else {
+			spatialIndex.dispose();
+			spatialIndex = null;
+		}
+	}
+
 }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+/**
+ * The amount of detail with which a figure is painted. When a diagram is zoomed
+ * out, details such as text or arrow heads become too small to be recognized,
+ * so figures may skip painting them. The levels are ordered from the most to
+ * the least detailed; each level omits everything that is omitted by the
+ * previous levels.
+ *
+ * @see IFigure#getLevelOfDetail(double)
+ * @see Figure#setLevelOfDetailThreshold(LevelOfDetail, double)
+ * @since 3.24
+ */
+public enum LevelOfDetail {
+
+	/**
+	 * The figure is painted completely.
+	 */
+	FULL,
+
+	/**
+	 * The text of the figure is omitted, e.g. the text of a {@link Label}.
+	 */
+	NO_TEXT,
+
+	/**
+	 * The border of the figure is omitted, as are the decorations of a
+	 * {@link PolylineConnection}.
+	 */
+	NO_DECORATIONS,
+
+	/**
+	 * Only a simplified representation of the figure is painted, by default its
+	 * bounding box. The children of the figure are not painted.
+	 *
+	 * @see Figure#paintSimplified(Graphics)
+	 */
+	BOUNDS;
+
+}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.OrthogonalRouter;
+
+/**
+ * Routes connections using horizontal and vertical segments only, around the
+ * children of a given container figure. Unlike the
+ * {@link ManhattanConnectionRouter}, connections avoid the obstacles, and
+ * parallel segments of different connections are kept apart by reserving the
+ * channels they use. Each connection is routed on its own, so that the effort of
+ * routing a connection doesn't grow with the number of connections.
+ * <p>
+ * Connections leave and enter their anchors perpendicular to the side of the
+ * anchor's owner closest to the anchor location. When a child of the container
+ * moves, the connections passing through its old or new bounds are routed
+ * again.
+ *
+ * @see OrthogonalRouter
+ * @since 3.24
+ */
+public final class OrthogonalConnectionRouter extends AbstractRouter {
+
+	private class LayoutTracker extends LayoutListener.Stub {
+		@Override
+		public void remove(IFigure child) {
+			removeChild(child);
+		}
+
+		@Override
+		public void setConstraint(IFigure child, Object constraint) {
+			addChild(child);
+		}
+	}
+
+	private final OrthogonalRouter algorithm = new OrthogonalRouter();
+	private final IFigure container;
+	private final LayoutListener listener = new LayoutTracker();
+	private Map<IFigure, Rectangle> figuresToBounds;
+	/** The bounds of the current route of each connection, relative to the container. */
+	private final Map<Connection, Rectangle> routeBounds = new HashMap<>();
+
+	private final FigureListener figureListener = source -> {
+		Rectangle oldBounds = figuresToBounds.get(source);
+		Rectangle newBounds = source.getBounds().getCopy();
+		if (algorithm.updateObstacle(oldBounds, newBounds)) {
+			revalidateConnections(oldBounds);
+			revalidateConnections(newBounds);
+		}
+		figuresToBounds.put(source, newBounds);
+	};
+
+	/**
+	 * Creates a new orthogonal router with the given container. The container
+	 * contains all the figures which will be treated as obstacles for the
+	 * connections to avoid. The connections being routed must not be contained
+	 * within the container.
+	 *
+	 * @param container the container
+	 */
+	public OrthogonalConnectionRouter(IFigure container) {
+		this.container = container;
+	}
+
+	void addChild(IFigure child) {
+		if (figuresToBounds == null || figuresToBounds.containsKey(child)) {
+			return;
+		}
+		Rectangle bounds = child.getBounds().getCopy();
+		algorithm.addObstacle(bounds);
+		figuresToBounds.put(child, bounds);
+		child.addFigureListener(figureListener);
+		revalidateConnections(bounds);
+	}
+
+	void removeChild(IFigure child) {
+		if (figuresToBounds == null) {
+			return;
+		}
+		Rectangle bounds = figuresToBounds.remove(child);
+		if (bounds != null) {
+			algorithm.removeObstacle(bounds);
+			child.removeFigureListener(figureListener);
+		}
+	}
+
+	private void hookAll() {
+		figuresToBounds = new HashMap<>();
+		container.getChildren().forEach(this::addChild);
+		container.addLayoutListener(listener);
+	}
+
+	private void unhookAll() {
+		container.removeLayoutListener(listener);
+		new ArrayList<>(figuresToBounds.keySet()).forEach(this::removeChild);
+		figuresToBounds = null;
+	}
+
+	/**
+	 * Revalidates the connections whose routes intersect the given region.
+	 */
+	private void revalidateConnections(Rectangle region) {
+		List<Connection> affected = new ArrayList<>();
+		routeBounds.forEach((conn, bounds) -> {
+			if (bounds.intersects(region)) {
+				affected.add(conn);
+			}
+		});
+		affected.forEach(Connection::revalidate);
+	}
+
+	/**
+	 * Returns the container whose children are avoided by the connections.
+	 *
+	 * @return the container
+	 */
+	public IFigure getContainer() {
+		return container;
+	}
+
+	/**
+	 * Returns the distance kept between connections and obstacles. Parallel
+	 * segments of different connections are separated by half this distance. The
+	 * default value is {@value OrthogonalRouter#DEFAULT_SPACING}.
+	 *
+	 * @return the spacing
+	 */
+	public int getSpacing() {
+		return algorithm.getSpacing();
+	}
+
+	/**
+	 * Sets the distance kept between connections and obstacles.
+	 *
+	 * @param spacing the spacing, at least 1
+	 */
+	public void setSpacing(int spacing) {
+		algorithm.setSpacing(spacing);
+	}
+
+	/**
+	 * @see ConnectionRouter#remove(Connection)
+	 */
+	@Override
+	public void remove(Connection connection) {
+		algorithm.release(connection);
+		routeBounds.remove(connection);
+		if (routeBounds.isEmpty() && figuresToBounds != null) {
+			unhookAll();
+		}
+	}
+
+	/**
+	 * @see ConnectionRouter#route(Connection)
+	 */
+	@Override
+	public void route(Connection conn) {
+		if (figuresToBounds == null) {
+			hookAll();
+		}
+		Point start = getStartPoint(conn);
+		Point end = getEndPoint(conn);
+		int startDirection = getDirection(conn.getSourceAnchor(), start);
+		int endDirection = getDirection(conn.getTargetAnchor(), end);
+		container.translateToRelative(start);
+		container.translateToRelative(end);
+
+		PointList points = algorithm.route(conn, start, startDirection, end, endDirection);
+		routeBounds.put(conn, points.getBounds().getCopy());
+		container.translateToAbsolute(points);
+		conn.translateToRelative(points);
+		conn.setPoints(points);
+	}
+
+	/**
+	 * Routes the given connections. The channels reserved by all of them are
+	 * released first, so that the connections are routed as if they were added in
+	 * the given order.
+	 *
+	 * @see ConnectionRouter#routeAll(List)
+	 */
+	@Override
+	public void routeAll(List<Connection> connections) {
+		connections.forEach(algorithm::release);
+		connections.forEach(this::route);
+	}
+
+	/**
+	 * Returns the side of the anchor's owner closest to the given location, as
+	 * one of the {@link PositionConstants}, or {@link PositionConstants#NONE} if
+	 * the anchor has no owner.
+	 */
+	private static int getDirection(ConnectionAnchor anchor, Point location) {
+		IFigure owner = anchor.getOwner();
+		if (owner == null) {
+			return PositionConstants.NONE;
+		}
+		Rectangle r = owner.getBounds().getCopy();
+		owner.translateToAbsolute(r);
+		int direction = PositionConstants.WEST;
+		int distance = Math.abs(r.x - location.x);
+		int i = Math.abs(r.y - location.y);
+		if (i <= distance) {
+			distance = i;
+			direction = PositionConstants.NORTH;
+		}
+		i = Math.abs(r.bottom() - location.y);
+		if (i <= distance) {
+			distance = i;
+			direction = PositionConstants.SOUTH;
+		}
+		i = Math.abs(r.right() - location.x);
+		if (i < distance) {
+			direction = PositionConstants.EAST;
+		}
+		return direction;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -94,6 +94,17 @@ public class Polyline extends AbstractPointListShape {
 		g.drawPolyline(points);
 	}
 
+	/**
+	 * Draws the points of this Polyline as a thin line.
+	 *
+	 * @see Figure#paintSimplified(Graphics)
+	 * @since 3.24
+	 */
+	@Override
+	protected void paintSimplified(Graphics graphics) {
+		graphics.drawPolyline(points);
+	}
+
 	/**
 	 * @see Figure#primTranslate(int, int)
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -38,6 +38,7 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	private ConnectionRouter connectionRouter = ConnectionRouter.NULL;
 	private RotatableDecoration startArrow;
 	private RotatableDecoration endArrow;
+	private boolean routedInBatch;
 
 	{
 		setLayoutManager(new DelegatingLayout());
@@ -172,12 +173,15 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 
 	/**
 	 * Layouts this polyline. If the start and end anchors are present, the
-	 * connection router is used to route this, after which it is laid out. It also
-	 * fires a moved method.
+	 * connection router is used to route this, after which it is laid out. The
+	 * routing is skipped if the {@link ConnectionLayer} has already routed this
+	 * connection in a batch. It also fires a moved method.
 	 */
 	@Override
 	public void layout() {
-		if (getSourceAnchor() != null && getTargetAnchor() != null) {
+		if (routedInBatch) {
+			routedInBatch = false;
+		} else if (getSourceAnchor() != null && getTargetAnchor() != null) {
 			connectionRouter.route(this);
 		}
 
@@ -194,6 +198,20 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 		fireFigureMoved();
 	}
 
+	/**
+	 * Paints the decorations and other children of this connection, unless the
+	 * level of detail omits decorations.
+	 *
+	 * @see Figure#paintClientArea(Graphics)
+	 * @since 3.24
+	 */
+	@Override
+	protected void paintClientArea(Graphics graphics) {
+		if (getLevelOfDetail(graphics).compareTo(LevelOfDetail.NO_DECORATIONS) < 0) {
+			super.paintClientArea(graphics);
+		}
+	}
+
 	/**
 	 * Called just before the receiver is being removed from its parent. Results in
 	 * removing itself from the connection router.
@@ -228,10 +246,28 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	 */
 	@Override
 	public void revalidate() {
+		routedInBatch = false;
 		super.revalidate();
 		connectionRouter.invalidate(this);
 	}
 
+	/**
+	 * Returns whether this connection is invalid and may be routed together with
+	 * other connections by its {@link ConnectionLayer}.
+	 */
+	boolean canRouteInBatch() {
+		return !isValid() && getSourceAnchor() != null && getTargetAnchor() != null
+				&& !(connectionRouter instanceof RoutingNotifier);
+	}
+
+	/**
+	 * Sets whether this connection has been routed by its {@link ConnectionLayer},
+	 * so that it isn't routed again when it is laid out.
+	 */
+	void setRoutedInBatch(boolean routed) {
+		routedInBatch = routed;
+	}
+
 	/**
 	 * Sets the connection router which handles the layout of this polyline.
 	 * Generally set by the parent handling the polyline connection.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -153,6 +153,21 @@ public abstract class Shape extends Figure {
 		}
 	}
 
+	/**
+	 * Fills the bounds of this Shape if it is filled, and outlines them otherwise.
+	 *
+	 * @see Figure#paintSimplified(Graphics)
+	 * @since 3.24
+	 */
+	@Override
+	protected void paintSimplified(Graphics graphics) {
+		if (fill) {
+			graphics.fillRectangle(getBounds());
+		} else {
+			super.paintSimplified(graphics);
+		}
+	}
+
 	private void paintOutline(Graphics graphics) {
 		// synchronize the line width and style attributes to the
 		// public fields which may have been assigned
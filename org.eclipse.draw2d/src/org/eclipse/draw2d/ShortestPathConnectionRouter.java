@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -291,10 +291,25 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		}
 	}
 
+	/**
+	 * Routes all connections at once. Since all dirty paths are solved together,
+	 * the given connections only trigger a single solve.
+	 *
+	 * @see ConnectionRouter#routeAll(List)
+	 * @since 3.24
+	 */
+	@Override
+	public void routeAll(List<Connection> connections) {
+		if (!connections.isEmpty()) {
+			route(connections.get(0));
+		}
+	}
+
 	/**
 	 * @return All connection paths after routing dirty paths. Some of the paths
 	 *         that were not dirty may change as well, as a consequence of new
-	 *         routings.
+	 *         routings. When routing {@link #setIncremental(boolean)
+	 *         incrementally}, only the paths which have been routed again.
 	 * @since 3.5
 	 */
 	public List<Path> getPathsAfterRouting() {
@@ -320,6 +335,33 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		isDirty = true;
 	}
 
+	/**
+	 * Sets whether connections are routed incrementally. When a child of the
+	 * container moves, only the connections passing close to it and the
+	 * connections sharing a bend with those are routed again, and only their
+	 * points are updated. Otherwise, all connections are routed again, so that the
+	 * effort of moving a figure grows with the number of connections. The
+	 * default is <code>false</code>.
+	 *
+	 * @param incremental whether to route incrementally
+	 * @see ShortestPathRouter#setIncremental(boolean)
+	 * @since 3.24
+	 */
+	public void setIncremental(boolean incremental) {
+		algorithm.setIncremental(incremental);
+	}
+
+	/**
+	 * Returns whether connections are routed incrementally.
+	 *
+	 * @return <code>true</code> if only the connections affected by a change are
+	 *         routed again
+	 * @since 3.24
+	 */
+	public boolean isIncremental() {
+		return algorithm.isIncremental();
+	}
+
 	/**
 	 * Sets the default space that should be maintained on either side of a
 	 * connection. This causes the connections to be separated from each other and
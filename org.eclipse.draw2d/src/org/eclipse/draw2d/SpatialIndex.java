@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A uniform grid over the children of a figure, used to find the children
+ * overlapping a given area without visiting all of them. The grid is kept up to
+ * date by listening to the children's {@link FigureListener#figureMoved(IFigure)
+ * move} notifications.
+ * <p>
+ * Children which span too many cells, and freeform children (which don't fire
+ * move notifications), are not stored in the grid and are always reported as
+ * candidates. Query results are returned in z-order, i.e. in the same order as
+ * {@link IFigure#getChildren()}.
+ */
+class SpatialIndex implements FigureListener {
+
+	/**
+	 * The size of a grid cell, in the coordinate system of the children.
+	 */
+	static final int CELL_SIZE = 256;
+
+	/**
+	 * Children occupying more cells than this are not stored in the grid.
+	 */
+	private static final int MAX_CELLS_PER_CHILD = 64;
+
+	/**
+	 * Point queries are expanded by this amount, as some figures (e.g.
+	 * {@link Polyline}) accept points slightly outside of their bounds.
+	 */
+	static final int POINT_TOLERANCE = 8;
+
+	private final IFigure host;
+	private final Map<Long, List<IFigure>> cells = new HashMap<>();
+	/**
+	 * Maps each child to the range of cells it is stored in, or to
+	 * <code>null</code> if it is contained in {@link #unbounded}.
+	 */
+	private final Map<IFigure, Rectangle> cellRanges = new IdentityHashMap<>();
+	private final List<IFigure> unbounded = new ArrayList<>();
+	private Map<IFigure, Integer> zOrder;
+
+	SpatialIndex(IFigure host) {
+		this.host = host;
+		host.getChildren().forEach(child -> hookChild(child, true));
+	}
+
+	private static long key(int col, int row) {
+		return ((long) col << 32) | (row & 0xFFFFFFFFL);
+	}
+
+	private static Rectangle toCells(Rectangle r) {
+		int x1 = Math.floorDiv(r.x, CELL_SIZE);
+		int y1 = Math.floorDiv(r.y, CELL_SIZE);
+		int x2 = Math.floorDiv(r.x + Math.max(r.width, 1) - 1, CELL_SIZE);
+		int y2 = Math.floorDiv(r.y + Math.max(r.height, 1) - 1, CELL_SIZE);
+		return new Rectangle(x1, y1, x2 - x1 + 1, y2 - y1 + 1);
+	}
+
+	/**
+	 * Starts tracking the given child.
+	 *
+	 * @param child    the child which has been added to the host
+	 * @param appended <code>true</code> if the child has been added as last child
+	 */
+	void hookChild(IFigure child, boolean appended) {
+		insert(child);
+		child.addFigureListener(this);
+		if (zOrder != null && appended) {
+			zOrder.put(child, Integer.valueOf(zOrder.size()));
+		} else {
+			zOrder = null;
+		}
+	}
+
+	/**
+	 * Stops tracking the given child.
+	 *
+	 * @param child the child which is about to be removed from the host
+	 */
+	void unhookChild(IFigure child) {
+		child.removeFigureListener(this);
+		delete(child);
+		zOrder = null;
+	}
+
+	/**
+	 * Detaches this index from all children of the host.
+	 */
+	void dispose() {
+		cellRanges.keySet().forEach(child -> child.removeFigureListener(this));
+		cellRanges.clear();
+		cells.clear();
+		unbounded.clear();
+		zOrder = null;
+	}
+
+	@Override
+	public void figureMoved(IFigure source) {
+		delete(source);
+		insert(source);
+	}
+
+	private void insert(IFigure child) {
+		Rectangle range = null;
+		if (!(child instanceof FreeformFigure)) {
+			range = toCells(child.getBounds());
+			if ((long) range.width * range.height > MAX_CELLS_PER_CHILD) {
+				range = null;
+			}
+		}
+		cellRanges.put(child, range);
+		if (range == null) {
+			unbounded.add(child);
+			return;
+		}
+		for (int col = range.x; col < range.right(); col++) {
+			for (int row = range.y; row < range.bottom(); row++) {
+				cells.computeIfAbsent(Long.valueOf(key(col, row)), k -> new ArrayList<>(4)).add(child);
+			}
+		}
+	}
+
+	private void delete(IFigure child) {
+		if (!cellRanges.containsKey(child)) {
+			return;
+		}
+		Rectangle range = cellRanges.remove(child);
+		if (range == null) {
+			unbounded.remove(child);
+			return;
+		}
+		for (int col = range.x; col < range.right(); col++) {
+			for (int row = range.y; row < range.bottom(); row++) {
+				Long key = Long.valueOf(key(col, row));
+				List<IFigure> cell = cells.get(key);
+				if (cell != null) {
+					cell.remove(child);
+					if (cell.isEmpty()) {
+						cells.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+	private Map<IFigure, Integer> getZOrder() {
+		if (zOrder == null) {
+			List<? extends IFigure> children = host.getChildren();
+			zOrder = new IdentityHashMap<>(children.size());
+			for (int i = 0; i < children.size(); i++) {
+				zOrder.put(children.get(i), Integer.valueOf(i));
+			}
+		}
+		return zOrder;
+	}
+
+	/**
+	 * Returns the children which may contain the given point, in z-order.
+	 *
+	 * @param x the x coordinate, relative to the children
+	 * @param y the y coordinate, relative to the children
+	 * @return the candidate children, bottom-most first
+	 */
+	List<IFigure> getChildrenAt(int x, int y) {
+		return getChildrenIntersecting(new Rectangle(x - POINT_TOLERANCE, y - POINT_TOLERANCE,
+				2 * POINT_TOLERANCE + 1, 2 * POINT_TOLERANCE + 1));
+	}
+
+	/**
+	 * Returns the children whose bounds intersect the given area, in z-order.
+	 * Children which are not stored in the grid are always included.
+	 *
+	 * @param area the area, relative to the children
+	 * @return the candidate children, bottom-most first
+	 */
+	List<IFigure> getChildrenIntersecting(Rectangle area) {
+		Map<IFigure, Boolean> found = new IdentityHashMap<>();
+		unbounded.forEach(child -> found.put(child, Boolean.TRUE));
+		Rectangle range = toCells(area);
+		if ((long) range.width * range.height > cells.size()) {
+			// Cheaper to visit the occupied cells than the requested ones
+			cells.values().forEach(cell -> collect(cell, area, found));
+		} else {
+			for (int col = range.x; col < range.right(); col++) {
+				for (int row = range.y; row < range.bottom(); row++) {
+					List<IFigure> cell = cells.get(Long.valueOf(key(col, row)));
+					if (cell != null) {
+						collect(cell, area, found);
+					}
+				}
+			}
+		}
+		if (found.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<IFigure> result = new ArrayList<>(found.keySet());
+		Map<IFigure, Integer> order = getZOrder();
+		result.sort((f1, f2) -> Integer.compare(order.get(f1).intValue(), order.get(f2).intValue()));
+		return result;
+	}
+
+	private static void collect(List<IFigure> cell, Rectangle area, Map<IFigure, Boolean> found) {
+		for (IFigure child : cell) {
+			if (child.getBounds().intersects(area)) {
+				found.put(child, Boolean.TRUE);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A cache of rendered tiles of the contents of a {@link Viewport}. The contents
+ * are divided into square tiles of a fixed size. Each tile is rendered into an
+ * image once and then copied to the screen whenever the corresponding area is
+ * painted again, e.g. after scrolling. Tiles are kept per zoom level, so that
+ * returning to a previous zoom level can reuse its tiles.
+ * <p>
+ * The cache holds at most a fixed number of tiles. If it is full, the least
+ * recently used tile is discarded. Tiles are invalidated when the figures they
+ * contain are repainted by the {@link UpdateManager}.
+ * <p>
+ * A cache must only be used by a single viewport and must be
+ * {@link #dispose() disposed} once it is no longer needed.
+ *
+ * @see Viewport#setTileCache(TileCache)
+ * @since 3.24
+ */
+public class TileCache {
+
+	/**
+	 * The default width and height of a tile.
+	 */
+	public static final int DEFAULT_TILE_SIZE = 256;
+
+	/**
+	 * The default maximum number of tiles kept in the cache.
+	 */
+	public static final int DEFAULT_MAX_TILES = 128;
+
+	private record TileKey(double zoom, int column, int row) {
+	}
+
+	private final int tileSize;
+	private final int maxTiles;
+	private final Map<TileKey, Image> tiles;
+	private int hits;
+	private int misses;
+
+	/**
+	 * Creates a cache with the default tile size and capacity.
+	 */
+	public TileCache() {
+		this(DEFAULT_TILE_SIZE, DEFAULT_MAX_TILES);
+	}
+
+	/**
+	 * Creates a cache with the given tile size and capacity.
+	 *
+	 * @param tileSize the width and height of a tile, in pixels
+	 * @param maxTiles the maximum number of tiles kept in the cache
+	 * @throws IllegalArgumentException if either argument is less than 1
+	 */
+	public TileCache(int tileSize, int maxTiles) {
+		if (tileSize < 1 || maxTiles < 1) {
+			throw new IllegalArgumentException("tileSize and maxTiles must be at least 1"); //$NON-NLS-1$
+		}
+		this.tileSize = tileSize;
+		this.maxTiles = maxTiles;
+		this.tiles = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<TileKey, Image> eldest) {
+				if (size() > TileCache.this.maxTiles) {
+					eldest.getValue().dispose();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the width and height of a tile.
+	 *
+	 * @return the tile size, in pixels
+	 */
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	/**
+	 * Returns the maximum number of tiles kept in the cache.
+	 *
+	 * @return the capacity of the cache
+	 */
+	public int getMaxTiles() {
+		return maxTiles;
+	}
+
+	/**
+	 * Returns the number of tiles currently in the cache.
+	 *
+	 * @return the number of cached tiles
+	 */
+	public int size() {
+		return tiles.size();
+	}
+
+	/**
+	 * Returns how often a tile has been painted from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public int getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns how often a tile had to be rendered.
+	 *
+	 * @return the number of cache misses
+	 */
+	public int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the cached image of a tile, or <code>null</code> if the tile has not
+	 * been rendered yet.
+	 */
+	Image getTile(double zoom, int column, int row) {
+		Image tile = tiles.get(new TileKey(zoom, column, row));
+		if (tile != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return tile;
+	}
+
+	/**
+	 * Stores the image of a tile. The cache takes ownership of the image.
+	 */
+	void putTile(double zoom, int column, int row, Image tile) {
+		Image old = tiles.put(new TileKey(zoom, column, row), tile);
+		if (old != null && old != tile) {
+			old.dispose();
+		}
+	}
+
+	/**
+	 * Discards all tiles intersecting the given region.
+	 *
+	 * @param region the region, in the coordinates of the viewport's contents at
+	 *               the given zoom level
+	 * @param zoom   the zoom level of the region
+	 */
+	public void invalidate(Rectangle region, double zoom) {
+		if (region.isEmpty()) {
+			return;
+		}
+		for (Iterator<Map.Entry<TileKey, Image>> it = tiles.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<TileKey, Image> entry = it.next();
+			TileKey key = entry.getKey();
+			// Map the region to the zoom level of the tile, rounding outwards
+			double scale = key.zoom() / zoom;
+			int x1 = (int) Math.floor(region.x * scale) - 1;
+			int y1 = (int) Math.floor(region.y * scale) - 1;
+			int x2 = (int) Math.ceil(region.right() * scale) + 1;
+			int y2 = (int) Math.ceil(region.bottom() * scale) + 1;
+			int left = key.column() * tileSize;
+			int top = key.row() * tileSize;
+			if (x1 < left + tileSize && x2 > left && y1 < top + tileSize && y2 > top) {
+				entry.getValue().dispose();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Discards all tiles.
+	 */
+	public void invalidate() {
+		tiles.values().forEach(Image::dispose);
+		tiles.clear();
+	}
+
+	/**
+	 * Discards all tiles and releases their resources. The cache may still be used
+	 * afterwards.
+	 */
+	public void dispose() {
+		invalidate();
+	}
+
+}
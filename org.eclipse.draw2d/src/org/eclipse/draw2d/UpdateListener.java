@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -40,6 +41,19 @@ public interface UpdateListener {
 	 */
 	void notifyValidating();
 
+	/**
+	 * Notifies the listener that the given regions have been marked dirty and are
+	 * about to be repainted. Unlike {@link #notifyPainting(Rectangle, Map)}, this
+	 * is not called for regions which are only repainted because they have been
+	 * exposed, e.g. by scrolling. This default implementation does nothing.
+	 *
+	 * @param damage the dirty regions, in absolute coordinates
+	 * @since 3.24
+	 */
+	default void notifyDamaged(List<Rectangle> damage) {
+		// may be overwritten by subclasses
+	}
+
 	/**
 	 * An empty implementation of {@link UpdateListener} for convenience.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -117,6 +117,16 @@ public abstract class UpdateManager {
 		listeners.forEach(localListener -> localListener.notifyPainting(damage, dirtyRegions));
 	}
 
+	/**
+	 * Notifies listeners that the given dirty regions are about to be repainted.
+	 *
+	 * @param damage the dirty regions, in absolute coordinates
+	 * @since 3.24
+	 */
+	protected void fireDamaged(List<Rectangle> damage) {
+		listeners.forEach(localListener -> localListener.notifyDamaged(damage));
+	}
+
 	/**
 	 * Notifies listeners that validation is about to occur.
 	 */
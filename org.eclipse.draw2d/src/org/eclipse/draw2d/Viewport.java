@@ -14,6 +14,11 @@ package org.eclipse.draw2d;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.List;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -34,6 +39,24 @@ public class Viewport extends Figure implements PropertyChangeListener {
 	private boolean trackHeight = false;
 	private boolean ignoreScroll = false;
 	private RangeModel horiztonalRangeModel = null, verticalRangeModel = null;
+	private TileCache tileCache;
+	private UpdateManager tileCacheManager;
+	private final UpdateListener tileCacheInvalidator = new UpdateListener.Stub() {
+		@Override
+		public void notifyDamaged(List<Rectangle> damage) {
+			if (tileCache == null) {
+				return;
+			}
+			double zoom = getZoom();
+			for (Rectangle region : damage) {
+				// The tiles are in the coordinates of the children
+				Rectangle relative = region.getCopy();
+				translateToRelative(relative);
+				translateFromParent(relative);
+				tileCache.invalidate(relative, zoom);
+			}
+		}
+	};
 
 	{
 		setLayoutManager(new ViewportLayout());
@@ -158,7 +181,11 @@ public class Viewport extends Figure implements PropertyChangeListener {
 			try {
 				g.translate(-p.x, -p.y);
 				g.pushState();
-				super.paintClientArea(g);
+				if (tileCache != null && !getChildren().isEmpty()) {
+					paintTiles(g);
+				} else {
+					super.paintClientArea(g);
+				}
 				g.popState();
 			} finally {
 				g.translate(p.x, p.y);
@@ -168,6 +195,128 @@ public class Viewport extends Figure implements PropertyChangeListener {
 		}
 	}
 
+	/**
+	 * Paints the children using the tile cache. Tiles which are not cached yet are
+	 * rendered first.
+	 */
+	private void paintTiles(Graphics g) {
+		hookTileCache();
+		Rectangle clientArea = getClientArea(new Rectangle());
+		g.clipRect(clientArea);
+		Rectangle clip = g.getClip(new Rectangle()).intersect(clientArea);
+		if (clip.isEmpty()) {
+			return;
+		}
+		double zoom = getZoom();
+		int size = tileCache.getTileSize();
+		for (int row = Math.floorDiv(clip.y, size); row <= Math.floorDiv(clip.bottom() - 1, size); row++) {
+			for (int column = Math.floorDiv(clip.x, size); column <= Math.floorDiv(clip.right() - 1, size); column++) {
+				Image tile = tileCache.getTile(zoom, column, row);
+				if (tile == null) {
+					tile = renderTile(column * size, row * size, size);
+					tileCache.putTile(zoom, column, row, tile);
+				}
+				g.drawImage(tile, column * size, row * size);
+			}
+		}
+	}
+
+	private Image renderTile(int x, int y, int size) {
+		Image tile = new Image(Display.getCurrent(), size, size);
+		GC gc = new GC(tile);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			graphics.setBackgroundColor(getBackgroundColor());
+			graphics.fillRectangle(0, 0, size, size);
+			graphics.setForegroundColor(getForegroundColor());
+			graphics.setFont(getFont());
+			graphics.translate(-x, -y);
+			graphics.clipRect(new Rectangle(x, y, size, size));
+			graphics.pushState();
+			paintChildren(graphics);
+			graphics.popState();
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+		}
+		return tile;
+	}
+
+	/**
+	 * Makes sure that the tile cache is notified of the dirty regions of the
+	 * current update manager.
+	 */
+	private void hookTileCache() {
+		UpdateManager manager = getUpdateManager();
+		if (manager != tileCacheManager) {
+			unhookTileCache();
+			manager.addUpdateListener(tileCacheInvalidator);
+			tileCacheManager = manager;
+		}
+	}
+
+	private void unhookTileCache() {
+		if (tileCacheManager != null) {
+			tileCacheManager.removeUpdateListener(tileCacheInvalidator);
+			tileCacheManager = null;
+		}
+	}
+
+	private double getZoom() {
+		if (getContents() instanceof ScalableFigure scalable) {
+			return scalable.getScale();
+		}
+		return 1.0;
+	}
+
+	/**
+	 * Returns the cache of rendered tiles used to paint the contents of this
+	 * viewport.
+	 *
+	 * @return the tile cache, or <code>null</code> if the contents are painted
+	 *         directly
+	 * @since 3.24
+	 */
+	public TileCache getTileCache() {
+		return tileCache;
+	}
+
+	/**
+	 * Sets the cache of rendered tiles used to paint the contents of this
+	 * viewport. If set, the contents are rendered tile by tile into images, which
+	 * are painted again when the same area is exposed, e.g. after scrolling. Tiles
+	 * are invalidated when the figures they contain are repainted. The tiles are
+	 * filled with the background color of this viewport before the contents are
+	 * rendered. The cache is only used if this viewport
+	 * {@link #useGraphicsTranslate() uses graphics translation}. The viewport
+	 * doesn't dispose the cache.
+	 *
+	 * @param cache the tile cache, or <code>null</code> to paint the contents
+	 *              directly (default behavior)
+	 * @since 3.24
+	 */
+	public void setTileCache(TileCache cache) {
+		if (tileCache == cache) {
+			return;
+		}
+		if (cache == null) {
+			unhookTileCache();
+		} else {
+			cache.invalidate();
+		}
+		tileCache = cache;
+		repaint();
+	}
+
+	/**
+	 * @see org.eclipse.draw2d.Figure#removeNotify()
+	 */
+	@Override
+	public void removeNotify() {
+		unhookTileCache();
+		super.removeNotify();
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.Figure#isCoordinateSystem()
 	 */
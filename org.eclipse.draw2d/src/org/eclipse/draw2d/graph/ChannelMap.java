@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.Arrays;
+
+/**
+ * The reserved parts of the channels used by orthogonal routing. A channel is a
+ * horizontal or vertical line, identified by its coordinate, and each reserved
+ * part is a closed interval along the line. The intervals reserved on a line
+ * never overlap, so that they are sorted by both their start and their end, and
+ * a lookup only needs two binary searches. All data is held in primitive arrays.
+ *
+ * @since 3.24
+ */
+class ChannelMap {
+
+	private static final int[] EMPTY = new int[0];
+
+	/** The sorted coordinates of the lines with reserved intervals. */
+	private int[] lines = new int[16];
+	/**
+	 * The reserved intervals of each line, as consecutive pairs of start and end,
+	 * sorted by their start.
+	 */
+	private int[][] intervals = new int[16][];
+	/** The number of used entries of each array in {@link #intervals}. */
+	private int[] sizes = new int[16];
+	private int lineCount;
+
+	/**
+	 * Removes all reservations.
+	 */
+	void clear() {
+		lineCount = 0;
+	}
+
+	/**
+	 * Returns whether no part of the given interval is reserved.
+	 *
+	 * @param line the coordinate of the line
+	 * @param from the start of the interval
+	 * @param to   the end of the interval, not less than from
+	 * @return <code>true</code> if the interval is free
+	 */
+	boolean isFree(int line, int from, int to) {
+		int index = Arrays.binarySearch(lines, 0, lineCount, line);
+		if (index < 0) {
+			return true;
+		}
+		int[] data = intervals[index];
+		// The last interval starting at or before the end of the given interval is
+		// the only one which may overlap it
+		int candidate = findLastStartingAtOrBefore(data, sizes[index], to);
+		return candidate < 0 || data[candidate + 1] < from;
+	}
+
+	/**
+	 * Reserves the given interval. The interval must be {@link #isFree(int, int, int)
+	 * free}.
+	 *
+	 * @param line the coordinate of the line
+	 * @param from the start of the interval
+	 * @param to   the end of the interval, not less than from
+	 */
+	void reserve(int line, int from, int to) {
+		int index = Arrays.binarySearch(lines, 0, lineCount, line);
+		if (index < 0) {
+			index = insertLine(-index - 1, line);
+		}
+		int[] data = intervals[index];
+		int size = sizes[index];
+		if (size + 2 > data.length) {
+			data = intervals[index] = Arrays.copyOf(data, Math.max(4, data.length * 2));
+		}
+		int position = findLastStartingAtOrBefore(data, size, from) + 2;
+		System.arraycopy(data, position, data, position + 2, size - position);
+		data[position] = from;
+		data[position + 1] = to;
+		sizes[index] = size + 2;
+	}
+
+	/**
+	 * Releases an interval previously {@link #reserve(int, int, int) reserved}.
+	 *
+	 * @param line the coordinate of the line
+	 * @param from the start of the interval
+	 * @param to   the end of the interval
+	 */
+	void release(int line, int from, int to) {
+		int index = Arrays.binarySearch(lines, 0, lineCount, line);
+		if (index < 0) {
+			return;
+		}
+		int[] data = intervals[index];
+		int size = sizes[index];
+		int position = findLastStartingAtOrBefore(data, size, from);
+		if (position >= 0 && data[position] == from && data[position + 1] == to) {
+			System.arraycopy(data, position + 2, data, position, size - position - 2);
+			sizes[index] = size - 2;
+		}
+	}
+
+	/**
+	 * Returns the position of the last interval starting at or before the given
+	 * coordinate, or -2 if there is none.
+	 */
+	private static int findLastStartingAtOrBefore(int[] data, int size, int coordinate) {
+		int low = 0;
+		int high = size / 2 - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (data[mid * 2] <= coordinate) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return high * 2;
+	}
+
+	private int insertLine(int index, int line) {
+		if (lineCount == lines.length) {
+			int capacity = lines.length * 2;
+			lines = Arrays.copyOf(lines, capacity);
+			intervals = Arrays.copyOf(intervals, capacity);
+			sizes = Arrays.copyOf(sizes, capacity);
+		}
+		System.arraycopy(lines, index, lines, index + 1, lineCount - index);
+		System.arraycopy(intervals, index, intervals, index + 1, lineCount - index);
+		System.arraycopy(sizes, index, sizes, index + 1, lineCount - index);
+		lines[index] = line;
+		intervals[index] = EMPTY;
+		sizes[index] = 0;
+		lineCount++;
+		return index;
+	}
+
+}
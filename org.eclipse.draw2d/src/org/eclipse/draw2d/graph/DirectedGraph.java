@@ -62,6 +62,7 @@ public class DirectedGraph {
 	int tensorStrength;
 	int tensorSize;
 	Dimension size = new Dimension();
+	LayoutMonitor monitor;
 
 	/**
 	 * Returns the default padding for nodes.
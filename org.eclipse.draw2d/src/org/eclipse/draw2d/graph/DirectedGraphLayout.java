@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2023 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,11 @@ package org.eclipse.draw2d.graph;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * Performs a graph layout of a <code>DirectedGraph</code>. The directed graph
@@ -66,6 +71,16 @@ import java.util.Deque;
  * </UL>
  * <P>
  * This class is not guaranteed to produce the same results for each invocation.
+ * <P>
+ * Large graphs may take a considerable amount of time to lay out. Such graphs
+ * can be laid out in the background using
+ * {@link #visitAsync(DirectedGraph, Executor, LayoutMonitor)}, while the
+ * results are applied to the figures on the display thread once the layout has
+ * completed, e.g.:
+ *
+ * <pre>
+ * layout.visitAsync(graph, executor, monitor).thenAcceptAsync(g -&gt; applyResults(g), display::asyncExec);
+ * </pre>
  *
  * @author Randy Hudson
  * @since 2.1.2
@@ -95,6 +110,53 @@ public class DirectedGraphLayout {
 		steps.add(new HorizontalPlacement());
 	}
 
+	/**
+	 * Sets the maximum number of down and up sweeps used to reduce edge crossings.
+	 * The default value is 45. Larger values may reduce the number of crossings of
+	 * complex graphs, at the cost of a longer layout.
+	 *
+	 * @param sweeps the maximum number of sweeps, must be positive
+	 * @since 3.24
+	 */
+	public void setCrossingReductionSweeps(int sweeps) {
+		if (sweeps < 1) {
+			throw new IllegalArgumentException("The number of sweeps must be positive"); //$NON-NLS-1$
+		}
+		getMinCrossSteps().forEach(step -> step.setMaxSweeps(sweeps));
+	}
+
+	/**
+	 * Enables or disables the adaptive crossing reduction. If enabled, the edge
+	 * crossings are counted after each sweep and the ordering with the fewest
+	 * crossings is kept. The sweeps stop as soon as the number of crossings no
+	 * longer improves, or once the time budget is exhausted. Disabled by default.
+	 *
+	 * @param value <code>true</code> to enable the adaptive crossing reduction
+	 * @see #setCrossingReductionSweeps(int)
+	 * @see #setCrossingReductionTimeBudget(long)
+	 * @since 3.24
+	 */
+	public void setAdaptiveCrossingReduction(boolean value) {
+		getMinCrossSteps().forEach(step -> step.setAdaptive(value));
+	}
+
+	/**
+	 * Sets the time after which the adaptive crossing reduction stops and keeps the
+	 * best ordering found so far. Has no effect unless the adaptive crossing
+	 * reduction is enabled.
+	 *
+	 * @param millis the time budget in milliseconds, or 0 for no limit
+	 * @see #setAdaptiveCrossingReduction(boolean)
+	 * @since 3.24
+	 */
+	public void setCrossingReductionTimeBudget(long millis) {
+		getMinCrossSteps().forEach(step -> step.setTimeBudget(millis));
+	}
+
+	private Stream<MinCross> getMinCrossSteps() {
+		return steps.stream().filter(MinCross.class::isInstance).map(MinCross.class::cast);
+	}
+
 	/**
 	 * Lays out the given graph
 	 *
@@ -104,8 +166,88 @@ public class DirectedGraphLayout {
 		if (graph.nodes.isEmpty()) {
 			return;
 		}
-		steps.iterator().forEachRemaining(visitor -> visitor.visit(graph));
-		steps.descendingIterator().forEachRemaining(visitor -> visitor.revisit(graph));
+		int total = 2 * steps.size();
+		int step = 0;
+		for (GraphVisitor visitor : steps) {
+			stepStarted(graph, visitor, step++, total);
+			visitor.visit(graph);
+		}
+		for (Iterator<GraphVisitor> iter = steps.descendingIterator(); iter.hasNext();) {
+			GraphVisitor visitor = iter.next();
+			stepStarted(graph, visitor, step++, total);
+			visitor.revisit(graph);
+		}
+	}
+
+	/**
+	 * Lays out the given graph, reporting the progress to the given monitor. If the
+	 * monitor requests the layout to be canceled, a {@link CancellationException}
+	 * is thrown and the graph is left in an undefined state.
+	 *
+	 * @param graph   the graph to layout
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @throws CancellationException if the layout has been canceled
+	 * @since 3.24
+	 */
+	public void visit(DirectedGraph graph, LayoutMonitor monitor) {
+		graph.monitor = monitor;
+		try {
+			visit(graph);
+		} finally {
+			graph.monitor = null;
+		}
+	}
+
+	/**
+	 * Lays out the given graph using the given executor. The returned future is
+	 * completed with the graph once the layout has finished. The layout can be
+	 * canceled either through the monitor or by canceling the returned future, in
+	 * which case the graph must be discarded.
+	 * <P>
+	 * The graph must not be accessed while the layout is running, and a single
+	 * instance of this class must not lay out several graphs concurrently. As the
+	 * layout only operates on the graph, it can safely be run outside of the
+	 * display thread. Applying the results to figures must happen on the display
+	 * thread, e.g. by completing the returned future with
+	 * {@code thenAcceptAsync(action, display::asyncExec)}.
+	 *
+	 * @param graph    the graph to layout
+	 * @param executor the executor running the layout
+	 * @param monitor  the progress monitor, may be <code>null</code>
+	 * @return the future completed with the laid out graph
+	 * @since 3.24
+	 */
+	public CompletableFuture<DirectedGraph> visitAsync(DirectedGraph graph, Executor executor, LayoutMonitor monitor) {
+		CompletableFuture<DirectedGraph> result = new CompletableFuture<>();
+		LayoutMonitor futureMonitor = new LayoutMonitor() {
+			@Override
+			public void stepStarted(String name, int step, int total) {
+				if (monitor != null) {
+					monitor.stepStarted(name, step, total);
+				}
+			}
+
+			@Override
+			public boolean isCanceled() {
+				return result.isCancelled() || (monitor != null && monitor.isCanceled());
+			}
+		};
+		executor.execute(() -> {
+			try {
+				visit(graph, futureMonitor);
+				result.complete(graph);
+			} catch (Throwable t) {
+				result.completeExceptionally(t);
+			}
+		});
+		return result;
+	}
+
+	private static void stepStarted(DirectedGraph graph, GraphVisitor visitor, int step, int total) {
+		GraphVisitor.checkCanceled(graph);
+		if (graph.monitor != null) {
+			graph.monitor.stepStarted(visitor.getClass().getSimpleName(), step, total);
+		}
 	}
 
 }
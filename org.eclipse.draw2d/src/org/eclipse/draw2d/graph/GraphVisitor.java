@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.draw2d.graph;
 
+import java.util.concurrent.CancellationException;
+
 /**
  * Performs some action on a Graph.
  *
@@ -37,4 +39,17 @@ abstract class GraphVisitor {
 	void revisit(DirectedGraph g) {
 	}
 
+	/**
+	 * Throws a {@link CancellationException} if the monitor of the given graph
+	 * requests the layout to be canceled. Long running steps should call this
+	 * periodically.
+	 *
+	 * @param g the graph being laid out
+	 */
+	static void checkCanceled(DirectedGraph g) {
+		if (g.monitor != null && g.monitor.isCanceled()) {
+			throw new CancellationException();
+		}
+	}
+
 }
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+/**
+ * Observes the progress of a {@link DirectedGraphLayout} and allows it to be
+ * canceled. A layout is performed as a sequence of steps, each of which visits
+ * the graph once on the way down and once on the way back. The monitor is
+ * notified before each of these visits, and is polled for cancellation between
+ * them as well as periodically within long running steps.
+ * <p>
+ * The methods of this interface are called from the thread performing the
+ * layout, which is not necessarily the display thread.
+ *
+ * @since 3.24
+ */
+public interface LayoutMonitor {
+
+	/**
+	 * Called before the layout performs the next step.
+	 *
+	 * @param name  a human-readable name of the step
+	 * @param step  the zero-based index of the step
+	 * @param total the total number of steps
+	 */
+	default void stepStarted(String name, int step, int total) {
+		// do nothing by default
+	}
+
+	/**
+	 * Returns whether the layout should be aborted. If so, the layout throws a
+	 * {@link java.util.concurrent.CancellationException} and the graph is left in
+	 * an undefined state.
+	 *
+	 * @return <code>true</code> if the layout should be canceled
+	 */
+	default boolean isCanceled() {
+		return false;
+	}
+
+}
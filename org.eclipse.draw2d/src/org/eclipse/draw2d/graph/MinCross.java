@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2025 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,8 +12,16 @@
  *******************************************************************************/
 package org.eclipse.draw2d.graph;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Sweeps up and down the ranks rearranging them so as to reduce edge crossings.
+ * <P>
+ * By default, a fixed number of sweeps is performed. In adaptive mode, the
+ * crossings are counted after each sweep and the best ordering found is kept.
+ * The sweeps stop early once the number of crossings hasn't improved for
+ * {@link #PATIENCE} sweeps, when there are no crossings left, or when the time
+ * budget is exhausted.
  *
  * @author Randy Hudson
  * @since 2.1.2
@@ -22,8 +30,17 @@ class MinCross extends GraphVisitor {
 
 	static final int MAX = 45;
 
+	/**
+	 * The number of consecutive sweeps without improvement after which the
+	 * adaptive mode stops.
+	 */
+	static final int PATIENCE = 4;
+
 	private DirectedGraph g;
 	private RankSorter sorter = new RankSorter();
+	private int maxSweeps = MAX;
+	private boolean adaptive;
+	private long timeBudget;
 
 	public MinCross() {
 	}
@@ -39,22 +56,75 @@ class MinCross extends GraphVisitor {
 		this.sorter = sorter;
 	}
 
-	@SuppressWarnings("removal")
+	void setAdaptive(boolean adaptive) {
+		this.adaptive = adaptive;
+	}
+
+	void setMaxSweeps(int maxSweeps) {
+		this.maxSweeps = maxSweeps;
+	}
+
+	void setTimeBudget(long timeBudget) {
+		this.timeBudget = timeBudget;
+	}
+
 	void solve() {
-		Rank rank;
-		for (int loop = 0; loop < MAX; loop++) {
-			for (int row = 1; row < g.ranks.size(); row++) {
-				rank = g.ranks.getRank(row);
-				sorter.sortRankIncoming(g, rank, row, (double) loop / MAX);
-			}
-			if (loop == MAX - 1) {
-				continue;
+		for (int loop = 0; loop < maxSweeps; loop++) {
+			checkCanceled(g);
+			sweep(loop);
+		}
+	}
+
+	@SuppressWarnings("removal")
+	void solveAdaptive() {
+		long deadline = timeBudget > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudget)
+				: Long.MAX_VALUE;
+		long best = CrossingCounter.countCrossings(g);
+		Node[][] bestOrder = getOrder();
+		int stale = 0;
+		for (int loop = 0; loop < maxSweeps && best > 0 && stale < PATIENCE; loop++) {
+			checkCanceled(g);
+			if (System.nanoTime() > deadline) {
+				break;
 			}
-			for (int row = g.ranks.size() - 2; row >= 0; row--) {
-				rank = g.ranks.getRank(row);
-				sorter.sortRankOutgoing(g, rank, row, (double) loop / MAX);
+			sweep(loop);
+			long crossings = CrossingCounter.countCrossings(g);
+			if (crossings < best) {
+				best = crossings;
+				bestOrder = getOrder();
+				stale = 0;
+			} else {
+				stale++;
 			}
 		}
+		for (int row = 0; row < bestOrder.length; row++) {
+			sorter.restoreRank(g.ranks.getRank(row), row, bestOrder[row]);
+		}
+	}
+
+	@SuppressWarnings("removal")
+	private Node[][] getOrder() {
+		Node[][] order = new Node[g.ranks.size()][];
+		for (int row = 0; row < order.length; row++) {
+			order[row] = g.ranks.getRank(row).toArray(new Node[0]);
+		}
+		return order;
+	}
+
+	@SuppressWarnings("removal")
+	private void sweep(int loop) {
+		Rank rank;
+		for (int row = 1; row < g.ranks.size(); row++) {
+			rank = g.ranks.getRank(row);
+			sorter.sortRankIncoming(g, rank, row, (double) loop / maxSweeps);
+		}
+		if (loop == maxSweeps - 1) {
+			return;
+		}
+		for (int row = g.ranks.size() - 2; row >= 0; row--) {
+			rank = g.ranks.getRank(row);
+			sorter.sortRankOutgoing(g, rank, row, (double) loop / maxSweeps);
+		}
 	}
 
 	/**
@@ -64,7 +134,11 @@ class MinCross extends GraphVisitor {
 	public void visit(DirectedGraph g) {
 		sorter.init(g);
 		this.g = g;
-		solve();
+		if (adaptive) {
+			solveAdaptive();
+		} else {
+			solve();
+		}
 		sorter.optimize(g);
 	}
 
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.List;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A uniform grid of buckets over a list of rectangular obstacles, used by the
+ * orthogonal routing to find out whether a horizontal or vertical segment
+ * crosses an obstacle without testing every obstacle. Each bucket holds the
+ * indices of the obstacles overlapping it. The grid may be queried concurrently.
+ *
+ * @since 3.24
+ */
+class ObstacleGrid {
+
+	/** The maximum number of buckets in either direction. */
+	private static final int MAX_BUCKETS = 512;
+
+	private final int[] left;
+	private final int[] top;
+	private final int[] right;
+	private final int[] bottom;
+
+	private final int originX;
+	private final int originY;
+	private final int bucketSize;
+	private final int columns;
+	private final int rows;
+	/**
+	 * The obstacles of bucket <i>b</i> are found at the indices from
+	 * <code>bucketStart[b]</code> to <code>bucketStart[b + 1]</code> of
+	 * {@link #bucketItems}.
+	 */
+	private final int[] bucketStart;
+	private final int[] bucketItems;
+
+	/**
+	 * Creates the grid for the given obstacles. The grid must be rebuilt if
+	 * obstacles are added, removed or moved.
+	 *
+	 * @param obstacles the obstacles
+	 */
+	ObstacleGrid(List<Rectangle> obstacles) {
+		int n = obstacles.size();
+		left = new int[n];
+		top = new int[n];
+		right = new int[n];
+		bottom = new int[n];
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		long extent = 0;
+		for (int i = 0; i < n; i++) {
+			Rectangle r = obstacles.get(i);
+			left[i] = r.x;
+			top[i] = r.y;
+			right[i] = r.right();
+			bottom[i] = r.bottom();
+			minX = Math.min(minX, left[i]);
+			minY = Math.min(minY, top[i]);
+			maxX = Math.max(maxX, right[i]);
+			maxY = Math.max(maxY, bottom[i]);
+			extent += Math.max(r.width, r.height);
+		}
+		if (n == 0) {
+			originX = originY = 0;
+			bucketSize = 1;
+			columns = rows = 0;
+			bucketStart = new int[1];
+			bucketItems = new int[0];
+			return;
+		}
+
+		// Buckets about twice the size of an average obstacle keep both the number
+		// of buckets per obstacle and the number of obstacles per bucket small
+		long size = Math.max(16, 2 * extent / n);
+		size = Math.max(size, ((long) maxX - minX) / MAX_BUCKETS + 1);
+		size = Math.max(size, ((long) maxY - minY) / MAX_BUCKETS + 1);
+		originX = minX;
+		originY = minY;
+		bucketSize = (int) Math.min(size, Integer.MAX_VALUE);
+		columns = (int) (((long) maxX - minX) / bucketSize) + 1;
+		rows = (int) (((long) maxY - minY) / bucketSize) + 1;
+
+		bucketStart = new int[columns * rows + 1];
+		for (int i = 0; i < n; i++) {
+			for (int row = row(top[i]); row <= row(bottom[i]); row++) {
+				for (int col = column(left[i]); col <= column(right[i]); col++) {
+					bucketStart[row * columns + col + 1]++;
+				}
+			}
+		}
+		for (int b = 0; b < columns * rows; b++) {
+			bucketStart[b + 1] += bucketStart[b];
+		}
+		bucketItems = new int[bucketStart[columns * rows]];
+		int[] fill = new int[columns * rows];
+		for (int i = 0; i < n; i++) {
+			for (int row = row(top[i]); row <= row(bottom[i]); row++) {
+				for (int col = column(left[i]); col <= column(right[i]); col++) {
+					int b = row * columns + col;
+					bucketItems[bucketStart[b] + fill[b]++] = i;
+				}
+			}
+		}
+	}
+
+	private int column(int x) {
+		return (int) Math.max(0, Math.min(columns - 1, ((long) x - originX) / bucketSize));
+	}
+
+	private int row(int y) {
+		return (int) Math.max(0, Math.min(rows - 1, ((long) y - originY) / bucketSize));
+	}
+
+	/**
+	 * Returns where a ray starting at the given point in the given horizontal or
+	 * vertical direction enters the interior of an obstacle, i.e. the coordinate
+	 * along the ray's axis of the first obstacle side it hits. If the point lies
+	 * inside an obstacle, its own coordinate is returned.
+	 *
+	 * @param x  the x coordinate of the start of the ray
+	 * @param y  the y coordinate of the start of the ray
+	 * @param dx the horizontal direction, -1, 0 or 1
+	 * @param dy the vertical direction, -1, 0 or 1
+	 * @return the coordinate at which the ray is blocked, or
+	 *         {@link Integer#MIN_VALUE} or {@link Integer#MAX_VALUE} if it is never
+	 *         blocked
+	 */
+	int castRay(int x, int y, int dx, int dy) {
+		boolean vertical = dx == 0;
+		int sign = vertical ? dy : dx;
+		int best = sign < 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		if (columns == 0) {
+			return best;
+		}
+		int along = vertical ? y : x;
+		int across = vertical ? x : y;
+		int fixedBucket = vertical ? column(x) : row(y);
+		int lastBucket = sign < 0 ? 0 : (vertical ? rows : columns) - 1;
+		for (int k = vertical ? row(y) : column(x); sign < 0 ? k >= lastBucket : k <= lastBucket; k += sign) {
+			int b = vertical ? k * columns + fixedBucket : fixedBucket * columns + k;
+			for (int n = bucketStart[b]; n < bucketStart[b + 1]; n++) {
+				int i = bucketItems[n];
+				int low = vertical ? left[i] : top[i];
+				int high = vertical ? right[i] : bottom[i];
+				if (across <= low || across >= high) {
+					continue;
+				}
+				int near = vertical ? (sign < 0 ? bottom[i] : top[i]) : (sign < 0 ? right[i] : left[i]);
+				int far = vertical ? (sign < 0 ? top[i] : bottom[i]) : (sign < 0 ? left[i] : right[i]);
+				if (sign < 0 ? far < along : far > along) {
+					int blocked = sign < 0 ? Math.min(near, along) : Math.max(near, along);
+					best = sign < 0 ? Math.max(best, blocked) : Math.min(best, blocked);
+				}
+			}
+			// Obstacles blocking the ray closer than the best one found so far are
+			// registered in the buckets up to the one containing it
+			if (best != Integer.MIN_VALUE && best != Integer.MAX_VALUE) {
+				int bestBucket = vertical ? row(best) : column(best);
+				if (sign < 0 ? k <= bestBucket : k >= bestBucket) {
+					break;
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns whether the given horizontal or vertical segment intersects the
+	 * interior of an obstacle. Segments running along or ending at the border of
+	 * an obstacle don't intersect it.
+	 *
+	 * @param x1 x coordinate of the start of the segment
+	 * @param y1 y coordinate of the start of the segment
+	 * @param x2 x coordinate of the end of the segment
+	 * @param y2 y coordinate of the end of the segment
+	 * @return <code>true</code> if the segment crosses an obstacle
+	 */
+	boolean intersects(int x1, int y1, int x2, int y2) {
+		if (columns == 0) {
+			return false;
+		}
+		int minX = Math.min(x1, x2);
+		int maxX = Math.max(x1, x2);
+		int minY = Math.min(y1, y2);
+		int maxY = Math.max(y1, y2);
+		for (int row = row(minY); row <= row(maxY); row++) {
+			for (int col = column(minX); col <= column(maxX); col++) {
+				int b = row * columns + col;
+				for (int k = bucketStart[b]; k < bucketStart[b + 1]; k++) {
+					int i = bucketItems[k];
+					// A point of the segment must lie strictly inside the obstacle
+					if (minX < right[i] && maxX > left[i] && minY < bottom[i] && maxY > top[i]) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+}
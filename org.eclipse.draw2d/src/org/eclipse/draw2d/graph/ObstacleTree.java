@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A static R-tree over a list of obstacles, used by the shortest path routing to
+ * find the obstacles hit by a segment without testing every obstacle. The tree
+ * is bulk-loaded using the sort-tile-recursive algorithm.
+ * <p>
+ * Each obstacle is represented by the bounding box of its diagonals, which
+ * contains every point at which a segment may hit the obstacle. Queries return
+ * the first obstacle in list order, so that the result is the same as when
+ * iterating over the list. The tree may be queried concurrently.
+ *
+ * @since 3.24
+ */
+class ObstacleTree {
+
+	private static final int NODE_SIZE = 4;
+
+	private final Obstacle[] obstacles;
+
+	/*
+	 * The items of the tree. The first obstacles.length items are the leaves,
+	 * sorted so that neighbouring leaves are close to each other. They are
+	 * followed by the inner nodes, level by level, each referring to a range of
+	 * consecutive items of the level below. The last item is the root.
+	 */
+	private final int[] minX;
+	private final int[] minY;
+	private final int[] maxX;
+	private final int[] maxY;
+	/**
+	 * The smallest list index of the obstacles below each item. For a leaf, this
+	 * is the index of its obstacle.
+	 */
+	private final int[] minIndex;
+	private final int[] firstChild;
+	private final int[] childCount;
+	private final int stackSize;
+
+	/**
+	 * Creates the tree for the given obstacles. The tree must be rebuilt if
+	 * obstacles are added, removed or moved.
+	 *
+	 * @param obstacleList the obstacles
+	 */
+	ObstacleTree(List<Obstacle> obstacleList) {
+		obstacles = obstacleList.toArray(new Obstacle[obstacleList.size()]);
+		int n = obstacles.length;
+		int capacity = n;
+		int depth = 1;
+		for (int count = n; count > 1; count = (count + NODE_SIZE - 1) / NODE_SIZE) {
+			capacity += (count + NODE_SIZE - 1) / NODE_SIZE;
+			depth++;
+		}
+		minX = new int[capacity];
+		minY = new int[capacity];
+		maxX = new int[capacity];
+		maxY = new int[capacity];
+		minIndex = new int[capacity];
+		firstChild = new int[capacity];
+		childCount = new int[capacity];
+		stackSize = depth * NODE_SIZE + 1;
+
+		int[] order = sortTileRecursive();
+		for (int leaf = 0; leaf < n; leaf++) {
+			Obstacle obs = obstacles[order[leaf]];
+			int right = obs.right() - 1;
+			int bottom = obs.bottom() - 1;
+			minX[leaf] = Math.min(obs.x, right);
+			minY[leaf] = Math.min(obs.y, bottom);
+			maxX[leaf] = Math.max(obs.x, right);
+			maxY[leaf] = Math.max(obs.y, bottom);
+			minIndex[leaf] = order[leaf];
+		}
+
+		int start = 0;
+		int count = n;
+		int next = n;
+		while (count > 1) {
+			int levelStart = next;
+			for (int i = 0; i < count; i += NODE_SIZE) {
+				int node = next++;
+				firstChild[node] = start + i;
+				childCount[node] = Math.min(NODE_SIZE, count - i);
+				minX[node] = Integer.MAX_VALUE;
+				minY[node] = Integer.MAX_VALUE;
+				maxX[node] = Integer.MIN_VALUE;
+				maxY[node] = Integer.MIN_VALUE;
+				minIndex[node] = Integer.MAX_VALUE;
+				for (int child = start + i; child < start + i + childCount[node]; child++) {
+					minX[node] = Math.min(minX[node], minX[child]);
+					minY[node] = Math.min(minY[node], minY[child]);
+					maxX[node] = Math.max(maxX[node], maxX[child]);
+					maxY[node] = Math.max(maxY[node], maxY[child]);
+					minIndex[node] = Math.min(minIndex[node], minIndex[child]);
+				}
+			}
+			start = levelStart;
+			count = next - levelStart;
+		}
+	}
+
+	/**
+	 * Sorts the obstacles into vertical slices by x, and each slice by y, so that
+	 * consecutive groups of obstacles are close to each other.
+	 *
+	 * @return the list indices of the obstacles in sorted order
+	 */
+	private int[] sortTileRecursive() {
+		int n = obstacles.length;
+		// Sort keys holding the coordinate in the upper and the index in the lower
+		// half, which avoids boxing
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = sortKey(obstacles[i].x + obstacles[i].width / 2, i);
+		}
+		int leaves = (n + NODE_SIZE - 1) / NODE_SIZE;
+		int sliceSize = (int) Math.ceil(Math.sqrt(leaves)) * NODE_SIZE;
+		Arrays.sort(keys);
+		for (int s = 0; s < n; s += sliceSize) {
+			int end = Math.min(n, s + sliceSize);
+			for (int k = s; k < end; k++) {
+				int i = (int) keys[k];
+				keys[k] = sortKey(obstacles[i].y + obstacles[i].height / 2, i);
+			}
+			Arrays.sort(keys, s, end);
+		}
+		int[] result = new int[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = (int) keys[i];
+		}
+		return result;
+	}
+
+	private static long sortKey(int coordinate, int index) {
+		return ((long) coordinate << 32) | index;
+	}
+
+	/**
+	 * Returns the first obstacle in list order which satisfies the given test and
+	 * whose bounds may be hit by the segment between the given points. The test
+	 * must only accept obstacles which the segment intersects.
+	 *
+	 * @param x1   x coordinate of the start of the segment
+	 * @param y1   y coordinate of the start of the segment
+	 * @param x2   x coordinate of the end of the segment
+	 * @param y2   y coordinate of the end of the segment
+	 * @param test the exact intersection test
+	 * @return the first obstacle hit, or <code>null</code>
+	 */
+	Obstacle findFirst(int x1, int y1, int x2, int y2, Predicate<Obstacle> test) {
+		if (obstacles.length == 0) {
+			return null;
+		}
+		int segMinX = Math.min(x1, x2);
+		int segMinY = Math.min(y1, y2);
+		int segMaxX = Math.max(x1, x2);
+		int segMaxY = Math.max(y1, y2);
+		long dx = (long) x2 - x1;
+		long dy = (long) y2 - y1;
+
+		int best = Integer.MAX_VALUE;
+		int[] stack = new int[stackSize];
+		int top = 0;
+		stack[top++] = minX.length - 1;
+		while (top > 0) {
+			int item = stack[--top];
+			if (minIndex[item] >= best || maxX[item] < segMinX || minX[item] > segMaxX || maxY[item] < segMinY
+					|| minY[item] > segMaxY || isOnOneSide(item, x1, y1, dx, dy)) {
+				continue;
+			}
+			if (item < obstacles.length) {
+				if (test.test(obstacles[minIndex[item]])) {
+					best = minIndex[item];
+				}
+				continue;
+			}
+			// Push the children so that those containing the lowest list index are
+			// visited first, which finds the first hit early and prunes the rest
+			int base = top;
+			for (int child = firstChild[item]; child < firstChild[item] + childCount[item]; child++) {
+				int pos = top++;
+				while (pos > base && minIndex[stack[pos - 1]] < minIndex[child]) {
+					stack[pos] = stack[pos - 1];
+					pos--;
+				}
+				stack[pos] = child;
+			}
+		}
+		return best == Integer.MAX_VALUE ? null : obstacles[best];
+	}
+
+	/**
+	 * Returns whether all corners of the bounds of the given item lie strictly on
+	 * the same side of the line through the segment, in which case the segment
+	 * can't intersect anything within the bounds.
+	 */
+	private boolean isOnOneSide(int item, int x1, int y1, long dx, long dy) {
+		long left = minX[item] - (long) x1;
+		long right = maxX[item] - (long) x1;
+		long top = minY[item] - (long) y1;
+		long bottom = maxY[item] - (long) y1;
+		int sign = Long.signum(dx * top - dy * left);
+		return sign != 0 && Long.signum(dx * top - dy * right) == sign
+				&& Long.signum(dx * bottom - dy * left) == sign && Long.signum(dx * bottom - dy * right) == sign;
+	}
+
+}
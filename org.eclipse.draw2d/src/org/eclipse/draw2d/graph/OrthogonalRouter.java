@@ -0,0 +1,838 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Routes orthogonal paths around rectangular obstacles. Paths consist of
+ * horizontal and vertical segments only and keep a distance of
+ * {@link #getSpacing() spacing} to the obstacles where possible. The cheapest
+ * route is chosen, where the cost of a route is its length plus a
+ * {@link #getBendCost() cost} for each bend.
+ * <p>
+ * Routes are searched with A* on a sparse orthogonal visibility graph. Its
+ * lines pass along the sides of the obstacles, at the given spacing, and
+ * through the centers of their sides, and extend from the obstacle until they
+ * hit another obstacle. Additional lines pass through the ends of each path. The
+ * vertices are the points where two lines cross. The graph is never built
+ * explicitly; the lines are looked up and checked against a bucket grid of the
+ * obstacles while searching.
+ * <p>
+ * Each routed path reserves the channels used by its inner segments, i.e. the
+ * parts of the horizontal and vertical lines it passes along. Paths routed later
+ * are moved to nearby parallel lines instead of overlapping reserved segments.
+ * The reservations of a path are kept until it is routed again or
+ * {@link #release(Object) released}.
+ *
+ * @since 3.24
+ */
+public class OrthogonalRouter {
+
+	/**
+	 * The default spacing.
+	 */
+	public static final int DEFAULT_SPACING = 8;
+
+	private static final int EAST = 0;
+	private static final int WEST = 1;
+	private static final int SOUTH = 2;
+	private static final int NORTH = 3;
+	private static final int[] DX = { 1, -1, 0, 0 };
+	private static final int[] DY = { 0, 0, 1, -1 };
+
+	/** The number of parallel lines tried on either side of a reserved segment. */
+	private static final int MAX_LANES = 8;
+
+	/** The number of states after which the search gives up. */
+	private static final int MAX_STATES = 1 << 21;
+
+	private final List<Rectangle> obstacles = new ArrayList<>();
+	private int spacing = DEFAULT_SPACING;
+	private int bendCost = 4 * DEFAULT_SPACING;
+
+	private ObstacleGrid grid;
+	private Lines verticalLines;
+	private Lines horizontalLines;
+
+	private final ChannelMap horizontal = new ChannelMap();
+	private final ChannelMap vertical = new ChannelMap();
+	/**
+	 * The segments reserved by each owner, as consecutive quadruples of the
+	 * orientation (1 for horizontal), the line, and the start and end of the
+	 * interval.
+	 */
+	private final Map<Object, int[]> reservations = new HashMap<>();
+
+	private final Search search = new Search();
+
+	/**
+	 * Adds an obstacle with the given bounds.
+	 *
+	 * @param rect the bounds of the obstacle
+	 */
+	public void addObstacle(Rectangle rect) {
+		obstacles.add(rect.getCopy());
+		invalidateObstacles();
+	}
+
+	/**
+	 * Removes the obstacle with the given bounds.
+	 *
+	 * @param rect the bounds of the obstacle
+	 * @return <code>true</code> if the obstacle was found and removed
+	 */
+	public boolean removeObstacle(Rectangle rect) {
+		if (obstacles.remove(rect)) {
+			invalidateObstacles();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Updates the bounds of an obstacle.
+	 *
+	 * @param oldBounds the current bounds of the obstacle
+	 * @param newBounds the new bounds of the obstacle
+	 * @return <code>true</code> if the bounds have changed
+	 */
+	public boolean updateObstacle(Rectangle oldBounds, Rectangle newBounds) {
+		if (oldBounds.equals(newBounds)) {
+			return false;
+		}
+		int index = obstacles.indexOf(oldBounds);
+		if (index < 0) {
+			obstacles.add(newBounds.getCopy());
+		} else {
+			obstacles.set(index, newBounds.getCopy());
+		}
+		invalidateObstacles();
+		return true;
+	}
+
+	private void invalidateObstacles() {
+		grid = null;
+		verticalLines = null;
+		horizontalLines = null;
+	}
+
+	/**
+	 * Returns the distance kept between paths and obstacles. Parallel segments of
+	 * different paths are separated by half this distance. The default value is
+	 * {@value #DEFAULT_SPACING}.
+	 *
+	 * @return the spacing
+	 */
+	public int getSpacing() {
+		return spacing;
+	}
+
+	/**
+	 * Sets the distance kept between paths and obstacles.
+	 *
+	 * @param spacing the spacing, at least 1
+	 * @throws IllegalArgumentException if spacing is less than 1
+	 */
+	public void setSpacing(int spacing) {
+		if (spacing < 1) {
+			throw new IllegalArgumentException("spacing must be at least 1"); //$NON-NLS-1$
+		}
+		this.spacing = spacing;
+		invalidateObstacles();
+	}
+
+	/**
+	 * Returns the cost of a bend, in terms of path length. A route with one bend
+	 * less is preferred as long as it is at most this much longer. The default
+	 * value is four times the default spacing.
+	 *
+	 * @return the cost of a bend
+	 */
+	public int getBendCost() {
+		return bendCost;
+	}
+
+	/**
+	 * Sets the cost of a bend, in terms of path length.
+	 *
+	 * @param bendCost the cost of a bend, not negative
+	 * @throws IllegalArgumentException if bendCost is negative
+	 */
+	public void setBendCost(int bendCost) {
+		if (bendCost < 0) {
+			throw new IllegalArgumentException("bendCost must not be negative"); //$NON-NLS-1$
+		}
+		this.bendCost = bendCost;
+	}
+
+	/**
+	 * Routes a path between the given points and reserves the channels used by
+	 * it. Any channels previously reserved by the owner are released first. The
+	 * path leaves the start point and enters the end point in the given
+	 * directions, which are usually the sides of the connected figures the points
+	 * lie on.
+	 *
+	 * @param owner          the owner of the reservations, e.g. a connection
+	 * @param start          the start point
+	 * @param startDirection the direction in which the path leaves the start
+	 *                       point, one of {@link PositionConstants#NORTH},
+	 *                       {@link PositionConstants#SOUTH},
+	 *                       {@link PositionConstants#EAST} and
+	 *                       {@link PositionConstants#WEST}, or
+	 *                       {@link PositionConstants#NONE} to let the router decide
+	 * @param end            the end point
+	 * @param endDirection   the direction in which the path leaves the end point
+	 *                       when traversed backwards, e.g. {@link PositionConstants#WEST}
+	 *                       if the end point lies on the left side of a figure
+	 * @return the points of the path, starting and ending with the given points
+	 */
+	public PointList route(Object owner, Point start, int startDirection, Point end, int endDirection) {
+		release(owner);
+		ensureObstacleIndex();
+		int startDir = toDirection(startDirection, start, end);
+		int endDir = toDirection(endDirection, end, start);
+		Point startPort = new Point(start.x + DX[startDir] * spacing, start.y + DY[startDir] * spacing);
+		Point endPort = new Point(end.x + DX[endDir] * spacing, end.y + DY[endDir] * spacing);
+
+		Lines pathXs = verticalLines.withPorts(startPort.x, endPort.x);
+		Lines pathYs = horizontalLines.withPorts(startPort.y, endPort.y);
+		PointList points = new PointList();
+		points.addPoint(start);
+		if (!search.run(pathXs, pathYs, startPort, startDir, endPort, reverse(endDir), points)) {
+			// No route around the obstacles, e.g. because a port lies inside an
+			// obstacle; fall back to a simple orthogonal path
+			points.addPoint(startPort);
+			if (startDir == EAST || startDir == WEST) {
+				points.addPoint(endPort.x, startPort.y);
+			} else {
+				points.addPoint(startPort.x, endPort.y);
+			}
+			points.addPoint(endPort);
+		}
+		points.addPoint(end);
+		return reserveChannels(owner, removeRedundantPoints(points));
+	}
+
+	/**
+	 * Releases the channels reserved by the given owner.
+	 *
+	 * @param owner the owner passed to
+	 *              {@link #route(Object, Point, int, Point, int)}
+	 */
+	public void release(Object owner) {
+		int[] reserved = reservations.remove(owner);
+		if (reserved == null) {
+			return;
+		}
+		for (int k = 0; k < reserved.length; k += 4) {
+			ChannelMap channels = reserved[k] == 1 ? horizontal : vertical;
+			channels.release(reserved[k + 1], reserved[k + 2], reserved[k + 3]);
+		}
+	}
+
+	/**
+	 * Releases the channels reserved by all owners.
+	 */
+	public void releaseAll() {
+		reservations.clear();
+		horizontal.clear();
+		vertical.clear();
+	}
+
+	private void ensureObstacleIndex() {
+		if (grid != null) {
+			return;
+		}
+		grid = new ObstacleGrid(obstacles);
+		int n = obstacles.size();
+		int[] xLines = new int[4 * n];
+		int[] xFrom = new int[4 * n];
+		int[] xTo = new int[4 * n];
+		int[] yLines = new int[4 * n];
+		int[] yFrom = new int[4 * n];
+		int[] yTo = new int[4 * n];
+		for (int i = 0; i < n; i++) {
+			Rectangle r = obstacles.get(i);
+			int left = r.x - spacing;
+			int right = r.right() + spacing;
+			int top = r.y - spacing;
+			int bottom = r.bottom() + spacing;
+			int centerX = r.x + r.width / 2;
+			int centerY = r.y + r.height / 2;
+			int k = 4 * i;
+			// The lines along the sides extend beyond both corners, the lines
+			// through the centers of the sides start at the obstacle
+			setLine(xLines, xFrom, xTo, k, left, grid.castRay(left, top, 0, -1), grid.castRay(left, bottom, 0, 1));
+			setLine(xLines, xFrom, xTo, k + 1, right, grid.castRay(right, top, 0, -1),
+					grid.castRay(right, bottom, 0, 1));
+			setLine(xLines, xFrom, xTo, k + 2, centerX, grid.castRay(centerX, r.y, 0, -1), r.y);
+			setLine(xLines, xFrom, xTo, k + 3, centerX, r.bottom(), grid.castRay(centerX, r.bottom(), 0, 1));
+			setLine(yLines, yFrom, yTo, k, top, grid.castRay(left, top, -1, 0), grid.castRay(right, top, 1, 0));
+			setLine(yLines, yFrom, yTo, k + 1, bottom, grid.castRay(left, bottom, -1, 0),
+					grid.castRay(right, bottom, 1, 0));
+			setLine(yLines, yFrom, yTo, k + 2, centerY, grid.castRay(r.x, centerY, -1, 0), r.x);
+			setLine(yLines, yFrom, yTo, k + 3, centerY, r.right(), grid.castRay(r.right(), centerY, 1, 0));
+		}
+		verticalLines = new Lines(xLines, xFrom, xTo);
+		horizontalLines = new Lines(yLines, yFrom, yTo);
+	}
+
+	private static void setLine(int[] lines, int[] from, int[] to, int index, int line, int start, int end) {
+		lines[index] = line;
+		from[index] = start;
+		to[index] = end;
+	}
+
+	private static int toDirection(int position, Point from, Point to) {
+		switch (position) {
+		case PositionConstants.EAST:
+			return EAST;
+		case PositionConstants.WEST:
+			return WEST;
+		case PositionConstants.SOUTH:
+			return SOUTH;
+		case PositionConstants.NORTH:
+			return NORTH;
+		default:
+			if (Math.abs(to.x - from.x) >= Math.abs(to.y - from.y)) {
+				return to.x >= from.x ? EAST : WEST;
+			}
+			return to.y >= from.y ? SOUTH : NORTH;
+		}
+	}
+
+	private static int reverse(int direction) {
+		return direction ^ 1;
+	}
+
+	/**
+	 * Returns the coordinates of the given points without duplicate points and
+	 * points in the middle of a straight line.
+	 */
+	private static int[] removeRedundantPoints(PointList points) {
+		int[] data = points.toIntArray().clone();
+		int count = 0;
+		for (int i = 0; i < data.length; i += 2) {
+			int x = data[i];
+			int y = data[i + 1];
+			if (count >= 2 && data[count - 2] == x && data[count - 1] == y) {
+				continue;
+			}
+			if (count >= 4) {
+				int px = data[count - 4];
+				int py = data[count - 3];
+				int cx = data[count - 2];
+				int cy = data[count - 1];
+				if ((px == cx && cx == x && (cy - py) * (y - cy) > 0)
+						|| (py == cy && cy == y && (cx - px) * (x - cx) > 0)) {
+					count -= 2;
+				}
+			}
+			data[count++] = x;
+			data[count++] = y;
+		}
+		return Arrays.copyOf(data, count);
+	}
+
+	/**
+	 * Moves the inner segments of the given path to free parallel lines nearby,
+	 * if the lines they are on are already reserved, and reserves the segments.
+	 * Returns the points of the resulting path.
+	 * The first and the last segment are attached to the start and end point and
+	 * are never moved.
+	 */
+	private PointList reserveChannels(Object owner, int[] p) {
+		int count = p.length / 2;
+		if (count < 4) {
+			return new PointList(p);
+		}
+		int step = Math.max(1, spacing / 2);
+		for (int s = 1; s < count - 2; s++) {
+			int a = 2 * s;
+			int b = a + 2;
+			boolean isHorizontal = p[a + 1] == p[b + 1];
+			int axis = isHorizontal ? 1 : 0;
+			int line = p[a + axis];
+			for (int lane = 0; lane <= 2 * MAX_LANES; lane++) {
+				int offset = ((lane + 1) / 2) * step * (lane % 2 == 0 ? -1 : 1);
+				if (isFree(isHorizontal, p, a, line + offset) && (offset == 0 || canMove(p, a, axis, line + offset))) {
+					p[a + axis] = p[b + axis] = line + offset;
+					break;
+				}
+			}
+		}
+
+		int[] reserved = new int[4 * (count - 3)];
+		int size = 0;
+		for (int s = 1; s < count - 2; s++) {
+			int a = 2 * s;
+			boolean isHorizontal = p[a + 1] == p[a + 3];
+			int axis = isHorizontal ? 1 : 0;
+			int from = Math.min(p[a + 1 - axis], p[a + 3 - axis]);
+			int to = Math.max(p[a + 1 - axis], p[a + 3 - axis]);
+			// Segments which still overlap others, because no free line was found
+			// nearby, are left unreserved
+			if (isFree(isHorizontal, p, a, p[a + axis])) {
+				(isHorizontal ? horizontal : vertical).reserve(p[a + axis], from, to);
+				reserved[size++] = isHorizontal ? 1 : 0;
+				reserved[size++] = p[a + axis];
+				reserved[size++] = from;
+				reserved[size++] = to;
+			}
+		}
+		if (size > 0) {
+			reservations.put(owner, Arrays.copyOf(reserved, size));
+		}
+		return new PointList(p);
+	}
+
+	private boolean isFree(boolean isHorizontal, int[] p, int a, int line) {
+		int axis = isHorizontal ? 1 : 0;
+		int from = Math.min(p[a + 1 - axis], p[a + 3 - axis]);
+		int to = Math.max(p[a + 1 - axis], p[a + 3 - axis]);
+		return (isHorizontal ? horizontal : vertical).isFree(line, from, to);
+	}
+
+	/**
+	 * Returns whether the segment starting at the given index can be moved to the
+	 * given line without crossing an obstacle and without reversing the direction
+	 * of the adjacent segments.
+	 */
+	private boolean canMove(int[] p, int a, int axis, int line) {
+		int b = a + 2;
+		int before = a - 2;
+		int after = b + 2;
+		if (Integer.signum(line - p[before + axis]) != Integer.signum(p[a + axis] - p[before + axis])
+				|| Integer.signum(p[after + axis] - line) != Integer.signum(p[after + axis] - p[b + axis])
+				|| line == p[before + axis] || line == p[after + axis]) {
+			return false;
+		}
+		int[] moved = new int[] { p[before], p[before + 1], p[a], p[a + 1], p[b], p[b + 1], p[after],
+				p[after + 1] };
+		moved[2 + axis] = moved[4 + axis] = line;
+		for (int k = 0; k < 6; k += 2) {
+			if (grid.intersects(moved[k], moved[k + 1], moved[k + 2], moved[k + 3])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The horizontal or vertical lines of the visibility graph. Each line is given
+	 * by its coordinate and the disjoint intervals along which it is visible. The
+	 * lines through the ends of a path are visible everywhere.
+	 */
+	private static final class Lines {
+
+		/** The sorted coordinates of the lines. */
+		final int[] coordinates;
+		/**
+		 * The intervals of line <i>i</i> are found at the indices from
+		 * <code>2 * intervalStart[i]</code> to <code>2 * intervalStart[i + 1]</code>
+		 * of {@link #intervals}, as pairs of start and end sorted by their start.
+		 */
+		private final int[] intervalStart;
+		private final int[] intervals;
+		private final int portA;
+		private final int portB;
+
+		/**
+		 * Creates the lines from the given possibly overlapping pieces.
+		 */
+		Lines(int[] lines, int[] from, int[] to) {
+			int n = lines.length;
+			// Sort the pieces by line and start, using primitive keys holding the
+			// coordinate in the upper and the index in the lower half
+			long[] keys = new long[n];
+			for (int i = 0; i < n; i++) {
+				keys[i] = ((long) lines[i] << 32) | i;
+			}
+			Arrays.sort(keys);
+			int[] coords = new int[n];
+			int[] starts = new int[n + 1];
+			int[] merged = new int[2 * n];
+			int lineCount = 0;
+			int intervalCount = 0;
+			long[] pieces = new long[n];
+			for (int first = 0; first < n;) {
+				int line = (int) (keys[first] >> 32);
+				int last = first;
+				while (last < n && (int) (keys[last] >> 32) == line) {
+					int i = (int) keys[last];
+					pieces[last - first] = ((long) from[i] << 32) | i;
+					last++;
+				}
+				Arrays.sort(pieces, 0, last - first);
+				coords[lineCount] = line;
+				starts[lineCount++] = intervalCount;
+				for (int k = 0; k < last - first; k++) {
+					int i = (int) pieces[k];
+					if (intervalCount > starts[lineCount - 1] && from[i] <= merged[2 * intervalCount - 1]) {
+						merged[2 * intervalCount - 1] = Math.max(merged[2 * intervalCount - 1], to[i]);
+					} else {
+						merged[2 * intervalCount] = from[i];
+						merged[2 * intervalCount + 1] = to[i];
+						intervalCount++;
+					}
+				}
+				first = last;
+			}
+			starts[lineCount] = intervalCount;
+			coordinates = Arrays.copyOf(coords, lineCount);
+			intervalStart = Arrays.copyOf(starts, lineCount + 1);
+			intervals = Arrays.copyOf(merged, 2 * intervalCount);
+			portA = portB = Integer.MIN_VALUE;
+		}
+
+		private Lines(int[] coordinates, int[] intervalStart, int[] intervals, int portA, int portB) {
+			this.coordinates = coordinates;
+			this.intervalStart = intervalStart;
+			this.intervals = intervals;
+			this.portA = portA;
+			this.portB = portB;
+		}
+
+		/**
+		 * Returns a copy of these lines including lines through the given
+		 * coordinates, which are visible everywhere.
+		 */
+		Lines withPorts(int a, int b) {
+			int n = coordinates.length;
+			int[] coords = new int[n + 2];
+			int[] starts = new int[n + 3];
+			int count = 0;
+			int low = Math.min(a, b);
+			int high = Math.max(a, b);
+			int i = 0;
+			for (int port : new int[] { low, high }) {
+				while (i < n && coordinates[i] < port) {
+					coords[count] = coordinates[i];
+					starts[count++] = intervalStart[i++];
+				}
+				if ((i == n || coordinates[i] != port) && (count == 0 || coords[count - 1] != port)) {
+					coords[count] = port;
+					starts[count++] = intervalStart[i];
+				}
+			}
+			while (i < n) {
+				coords[count] = coordinates[i];
+				starts[count++] = intervalStart[i++];
+			}
+			starts[count] = intervalStart[n];
+			return new Lines(Arrays.copyOf(coords, count), Arrays.copyOf(starts, count + 1), intervals, a, b);
+		}
+
+		/**
+		 * Returns whether the line with the given index is visible at the given
+		 * coordinate.
+		 */
+		boolean isVisible(int index, int coordinate) {
+			int line = coordinates[index];
+			if (line == portA || line == portB) {
+				return true;
+			}
+			int low = intervalStart[index];
+			int high = intervalStart[index + 1] - 1;
+			// Find the last interval starting at or before the coordinate
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (intervals[2 * mid] <= coordinate) {
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return high >= intervalStart[index] && intervals[2 * high + 1] >= coordinate;
+		}
+
+	}
+
+	/**
+	 * The A* search over the orthogonal visibility graph. A state is a vertex of
+	 * the graph together with the direction in which it has been entered, so that
+	 * bends can be charged. States are kept in an open addressing hash table with
+	 * primitive keys, and the open states in a binary heap. The arrays are reused
+	 * between searches.
+	 */
+	private final class Search {
+
+		private static final long FINAL = -1;
+
+		private long[] tableKeys = new long[1 << 10];
+		private int[] tableSlots = new int[1 << 10];
+		private int[] tableStamps = new int[1 << 10];
+		private int stamp;
+
+		private long[] keys = new long[256];
+		private int[] costs = new int[256];
+		private int[] parents = new int[256];
+		private boolean[] closed = new boolean[256];
+		private int slotCount;
+
+		private long[] heapPriorities = new long[256];
+		private int[] heapSlots = new int[256];
+		private int heapSize;
+
+		private Lines verticals;
+		private Lines horizontals;
+		private int[] gridXs;
+		private int[] gridYs;
+		private int endX;
+		private int endY;
+
+		/**
+		 * Searches the cheapest route and appends its points, from the start port to
+		 * the end port, to the given list.
+		 *
+		 * @return <code>false</code> if there is no route
+		 */
+		boolean run(Lines pathXs, Lines pathYs, Point startPort, int startDir, Point endPort, int endDir,
+				PointList points) {
+			verticals = pathXs;
+			horizontals = pathYs;
+			gridXs = pathXs.coordinates;
+			gridYs = pathYs.coordinates;
+			endX = endPort.x;
+			endY = endPort.y;
+			stamp++;
+			slotCount = 0;
+			heapSize = 0;
+			int ei = Arrays.binarySearch(gridXs, endPort.x);
+			int ej = Arrays.binarySearch(gridYs, endPort.y);
+			int start = slot(key(Arrays.binarySearch(gridXs, startPort.x), Arrays.binarySearch(gridYs, startPort.y),
+					startDir));
+			costs[start] = 0;
+			parents[start] = -1;
+			push(start);
+
+			while (heapSize > 0 && slotCount < MAX_STATES) {
+				int current = pop();
+				if (closed[current]) {
+					continue;
+				}
+				closed[current] = true;
+				long key = keys[current];
+				if (key == FINAL) {
+					appendPoints(parents[current], points);
+					return true;
+				}
+				int dir = (int) (key & 3);
+				long vertex = key >>> 2;
+				int i = (int) (vertex / gridYs.length);
+				int j = (int) (vertex % gridYs.length);
+				int cost = costs[current];
+				if (i == ei && j == ej) {
+					int turns = dir == endDir ? 0 : dir == reverse(endDir) ? 2 : 1;
+					relax(current, FINAL, cost + turns * bendCost);
+				}
+				for (int next = 0; next < 4; next++) {
+					if (next == reverse(dir)) {
+						continue;
+					}
+					// Skip the crossing lines which aren't visible here
+					int ni = i + DX[next];
+					int nj = j + DY[next];
+					while (ni >= 0 && nj >= 0 && ni < gridXs.length && nj < gridYs.length
+							&& !(next < SOUTH ? verticals.isVisible(ni, gridYs[j])
+									: horizontals.isVisible(nj, gridXs[i]))) {
+						ni += DX[next];
+						nj += DY[next];
+					}
+					if (ni < 0 || nj < 0 || ni >= gridXs.length || nj >= gridYs.length
+							|| grid.intersects(gridXs[i], gridYs[j], gridXs[ni], gridYs[nj])) {
+						continue;
+					}
+					int length = Math.abs(gridXs[ni] - gridXs[i]) + Math.abs(gridYs[nj] - gridYs[j]);
+					relax(current, key(ni, nj, next), cost + length + (next == dir ? 0 : bendCost));
+				}
+			}
+			return false;
+		}
+
+		private long key(int i, int j, int dir) {
+			return (((long) i * gridYs.length + j) << 2) | dir;
+		}
+
+		private void relax(int from, long key, int cost) {
+			int target = slot(key);
+			if (closed[target] || (parents[target] != -2 && costs[target] <= cost)) {
+				return;
+			}
+			costs[target] = cost;
+			parents[target] = from;
+			push(target);
+		}
+
+		/**
+		 * Returns the index of the given state, adding it if necessary. New states
+		 * have no parent yet, indicated by -2.
+		 */
+		private int slot(long key) {
+			int mask = tableKeys.length - 1;
+			int h = hash(key) & mask;
+			while (tableStamps[h] == stamp) {
+				if (tableKeys[h] == key) {
+					return tableSlots[h];
+				}
+				h = (h + 1) & mask;
+			}
+			int slot = slotCount++;
+			if (slot == keys.length) {
+				int capacity = keys.length * 2;
+				keys = Arrays.copyOf(keys, capacity);
+				costs = Arrays.copyOf(costs, capacity);
+				parents = Arrays.copyOf(parents, capacity);
+				closed = Arrays.copyOf(closed, capacity);
+			}
+			keys[slot] = key;
+			parents[slot] = -2;
+			closed[slot] = false;
+			tableKeys[h] = key;
+			tableSlots[h] = slot;
+			tableStamps[h] = stamp;
+			if (slotCount * 2 > tableKeys.length) {
+				rehash();
+			}
+			return slot;
+		}
+
+		private void rehash() {
+			int capacity = tableKeys.length * 2;
+			tableKeys = new long[capacity];
+			tableSlots = new int[capacity];
+			tableStamps = new int[capacity];
+			stamp = 1;
+			for (int slot = 0; slot < slotCount; slot++) {
+				int h = hash(keys[slot]) & (capacity - 1);
+				while (tableStamps[h] == stamp) {
+					h = (h + 1) & (capacity - 1);
+				}
+				tableKeys[h] = keys[slot];
+				tableSlots[h] = slot;
+				tableStamps[h] = stamp;
+			}
+		}
+
+		private static int hash(long key) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+
+		/**
+		 * Returns a lower bound of the remaining cost from the given state to the end
+		 * port, counting the bends needed to reach it.
+		 */
+		private int estimate(long key) {
+			if (key == FINAL) {
+				return 0;
+			}
+			int dir = (int) (key & 3);
+			long vertex = key >>> 2;
+			int x = gridXs[(int) (vertex / gridYs.length)];
+			int y = gridYs[(int) (vertex % gridYs.length)];
+			int dx = endX - x;
+			int dy = endY - y;
+			int turns;
+			if (dx == 0 && dy == 0) {
+				turns = 0;
+			} else if (dx == 0 || dy == 0) {
+				int needed = dx > 0 ? EAST : dx < 0 ? WEST : dy > 0 ? SOUTH : NORTH;
+				turns = dir == needed ? 0 : dir == reverse(needed) ? 2 : 1;
+			} else {
+				int neededX = dx > 0 ? EAST : WEST;
+				int neededY = dy > 0 ? SOUTH : NORTH;
+				turns = dir == neededX || dir == neededY ? 1 : 2;
+			}
+			return Math.abs(dx) + Math.abs(dy) + turns * bendCost;
+		}
+
+		/**
+		 * Pushes the given state with its current cost. Among states with the same
+		 * estimated total cost, those with the higher cost so far, i.e. closer to the
+		 * end, are taken first.
+		 */
+		private void push(int slot) {
+			if (heapSize == heapSlots.length) {
+				heapPriorities = Arrays.copyOf(heapPriorities, heapSize * 2);
+				heapSlots = Arrays.copyOf(heapSlots, heapSize * 2);
+			}
+			long total = (long) costs[slot] + estimate(keys[slot]);
+			long priority = (total << 32) | (Integer.MAX_VALUE - costs[slot]);
+			int pos = heapSize++;
+			while (pos > 0) {
+				int parent = (pos - 1) >>> 1;
+				if (heapPriorities[parent] <= priority) {
+					break;
+				}
+				heapPriorities[pos] = heapPriorities[parent];
+				heapSlots[pos] = heapSlots[parent];
+				pos = parent;
+			}
+			heapPriorities[pos] = priority;
+			heapSlots[pos] = slot;
+		}
+
+		private int pop() {
+			int result = heapSlots[0];
+			long priority = heapPriorities[--heapSize];
+			int slot = heapSlots[heapSize];
+			int pos = 0;
+			while (true) {
+				int child = 2 * pos + 1;
+				if (child >= heapSize) {
+					break;
+				}
+				if (child + 1 < heapSize && heapPriorities[child + 1] < heapPriorities[child]) {
+					child++;
+				}
+				if (heapPriorities[child] >= priority) {
+					break;
+				}
+				heapPriorities[pos] = heapPriorities[child];
+				heapSlots[pos] = heapSlots[child];
+				pos = child;
+			}
+			heapPriorities[pos] = priority;
+			heapSlots[pos] = slot;
+			return result;
+		}
+
+		private void appendPoints(int last, PointList points) {
+			int count = 0;
+			for (int slot = last; slot >= 0; slot = parents[slot]) {
+				count++;
+			}
+			int[] path = new int[count];
+			for (int slot = last; slot >= 0; slot = parents[slot]) {
+				path[--count] = slot;
+			}
+			for (int slot : path) {
+				long vertex = keys[slot] >>> 2;
+				points.addPoint(gridXs[(int) (vertex / gridYs.length)], gridYs[(int) (vertex % gridYs.length)]);
+			}
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,14 +13,18 @@
 package org.eclipse.draw2d.graph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
 
 /**
  * A Path representation for the ShortestPathRouting. A Path has a start and end
@@ -53,6 +57,149 @@ public class Path {
 
 	}
 
+	/**
+	 * The state of a vertex during the shortest path search. It is kept apart from
+	 * the vertex, which may be shared with other paths, so that several paths can
+	 * be solved concurrently.
+	 */
+	private static final class VertexState {
+
+		final Vertex vertex;
+		List<Vertex> neighbors;
+		boolean isPermanent;
+		Vertex label;
+		double cost;
+		/**
+		 * The position of the vertex in the visibility graph while it is labeled, or
+		 * -1.
+		 */
+		int index = -1;
+
+		VertexState(Vertex vertex) {
+			this.vertex = vertex;
+		}
+
+	}
+
+	/**
+	 * The frontier of the shortest path search: an indexed binary heap of the
+	 * labeled, non-permanent vertices of the visibility graph, ordered by cost.
+	 * Vertices of equal cost are ordered by their {@link VertexState#index}, i.e.
+	 * by the iteration order of the visible vertices.
+	 */
+	private static class VertexQueue {
+
+		private final VertexState[] heap;
+		/**
+		 * The position of each vertex in the heap by index, or -1.
+		 */
+		private final int[] positions;
+		/**
+		 * The cost with which each vertex has been queued.
+		 */
+		private final double[] costs;
+		private int size;
+		private int zeroCostCount;
+
+		VertexQueue(int capacity) {
+			heap = new VertexState[capacity];
+			positions = new int[capacity];
+			costs = new double[capacity];
+			Arrays.fill(positions, -1);
+		}
+
+		/**
+		 * Inserts the given vertex or moves it according to its decreased cost.
+		 */
+		void update(VertexState vertex) {
+			int index = vertex.index;
+			if (index < 0) {
+				return;
+			}
+			int pos = positions[index];
+			if (pos < 0) {
+				pos = size++;
+			} else if (costs[index] == 0) {
+				zeroCostCount--;
+			}
+			costs[index] = vertex.cost;
+			if (vertex.cost == 0) {
+				zeroCostCount++;
+			}
+			heap[pos] = vertex;
+			positions[index] = pos;
+			siftUp(pos);
+		}
+
+		VertexState peek() {
+			return size == 0 ? null : heap[0];
+		}
+
+		void remove(VertexState vertex) {
+			int pos = positions[vertex.index];
+			if (pos < 0) {
+				return;
+			}
+			if (costs[vertex.index] == 0) {
+				zeroCostCount--;
+			}
+			positions[vertex.index] = -1;
+			size--;
+			if (pos < size) {
+				heap[pos] = heap[size];
+				positions[heap[pos].index] = pos;
+				siftDown(pos);
+				siftUp(pos);
+			}
+			heap[size] = null;
+		}
+
+		/**
+		 * Returns whether a vertex with a cost of 0 is queued.
+		 */
+		boolean hasZeroCost() {
+			return zeroCostCount > 0;
+		}
+
+		private boolean less(int pos1, int pos2) {
+			VertexState v1 = heap[pos1];
+			VertexState v2 = heap[pos2];
+			double c1 = costs[v1.index];
+			double c2 = costs[v2.index];
+			return c1 < c2 || (c1 == c2 && v1.index < v2.index);
+		}
+
+		private void swap(int pos1, int pos2) {
+			VertexState tmp = heap[pos1];
+			heap[pos1] = heap[pos2];
+			heap[pos2] = tmp;
+			positions[heap[pos1].index] = pos1;
+			positions[heap[pos2].index] = pos2;
+		}
+
+		private void siftUp(int pos) {
+			while (pos > 0 && less(pos, (pos - 1) / 2)) {
+				swap(pos, (pos - 1) / 2);
+				pos = (pos - 1) / 2;
+			}
+		}
+
+		private void siftDown(int pos) {
+			while (2 * pos + 1 < size) {
+				int child = 2 * pos + 1;
+				if (child + 1 < size && less(child + 1, child)) {
+					child++;
+				}
+				if (!less(child, pos)) {
+					break;
+				}
+				swap(pos, child);
+				pos = child;
+			}
+		}
+
+	}
+
 	private static final Point CURRENT = new Point();
 	private static final double EPSILON = 1.04;
 	private static final Point NEXT = new Point();
@@ -92,6 +239,14 @@ public class Path {
 	double threshold;
 	Set<Obstacle> visibleObstacles;
 	Set<Vertex> visibleVertices;
+	/**
+	 * The search state of the vertices of the visibility graph.
+	 */
+	private final Map<Vertex, VertexState> vertexStates;
+	/**
+	 * The length of the shortest path found by the last search.
+	 */
+	double cost;
 
 	/**
 	 * Constructs a new path.
@@ -106,6 +261,7 @@ public class Path {
 		stack = new SegmentStack();
 		visibleObstacles = new HashSet<>();
 		excludedObstacles = new ArrayList<>();
+		vertexStates = new IdentityHashMap<>();
 	}
 
 	/**
@@ -260,31 +416,27 @@ public class Path {
 	 * segment is outside the threshold oval. Then it compares the segment against
 	 * all obstacles. If it is clean, the segment is finally added to the graph.
 	 *
-	 * @param segment      the segment
-	 * @param exclude1     an obstacle to exclude from the search
-	 * @param exclude2     another obstacle to exclude from the search
-	 * @param allObstacles the list of all obstacles
+	 * @param segment   the segment
+	 * @param exclude1  an obstacle to exclude from the search
+	 * @param exclude2  another obstacle to exclude from the search
+	 * @param obstacles the index of all obstacles
 	 */
-	private void addSegment(Segment segment, Obstacle exclude1, Obstacle exclude2, List<Obstacle> allObstacles) {
+	private void addSegment(Segment segment, Obstacle exclude1, Obstacle exclude2, ObstacleTree obstacles) {
 		if (threshold != 0 && (segment.end.getDistance(end) + segment.end.getDistance(start) > threshold
 				|| segment.start.getDistance(end) + segment.start.getDistance(start) > threshold)) {
 			return;
 		}
 
-		for (Obstacle obs : allObstacles) {
-
-			if (obs == exclude1 || obs == exclude2 || obs.exclude) {
-				continue;
-			}
-
-			if (segment.intersects(obs.x, obs.y, obs.right() - 1, obs.bottom() - 1)
-					|| segment.intersects(obs.x, obs.bottom() - 1, obs.right() - 1, obs.y)
-					|| obs.containsProper(segment.start) || obs.containsProper(segment.end)) {
-				if (!visibleObstacles.contains(obs)) {
-					addObstacle(obs);
-				}
-				return;
+		Obstacle obs = obstacles.findFirst(segment.start.x, segment.start.y, segment.end.x, segment.end.y,
+				o -> o != exclude1 && o != exclude2 && !isExcluded(o)
+						&& (segment.intersects(o.x, o.y, o.right() - 1, o.bottom() - 1)
+								|| segment.intersects(o.x, o.bottom() - 1, o.right() - 1, o.y)
+								|| o.containsProper(segment.start) || o.containsProper(segment.end)));
+		if (obs != null) {
+			if (!visibleObstacles.contains(obs)) {
+				addObstacle(obs);
 			}
+			return;
 		}
 
 		linkVertices(segment);
@@ -480,20 +632,21 @@ public class Path {
 	void cleanup() {
 		// segments.clear();
 		visibleVertices.clear();
+		vertexStates.clear();
 	}
 
 	/**
 	 * Begins the creation of the visibility graph with the first segment
 	 *
-	 * @param allObstacles list of all obstacles
+	 * @param obstacles the index of all obstacles
 	 */
-	private void createVisibilityGraph(List<Obstacle> allObstacles) {
+	private void createVisibilityGraph(ObstacleTree obstacles) {
 		stack.push(null);
 		stack.push(null);
 		stack.push(new Segment(start, end));
 
 		while (!stack.isEmpty()) {
-			addSegment(stack.pop(), stack.popObstacle(), stack.popObstacle(), allObstacles);
+			addSegment(stack.pop(), stack.popObstacle(), stack.popObstacle(), obstacles);
 		}
 	}
 
@@ -508,11 +661,12 @@ public class Path {
 			return false;
 		}
 		Vertex vertex = end;
-		prevCostRatio = end.cost / start.getDistance(end);
+		cost = getState(end).cost;
+		prevCostRatio = cost / start.getDistance(end);
 
 		Vertex nextVertex;
 		while (!vertex.equals(start)) {
-			nextVertex = vertex.label;
+			nextVertex = getState(vertex).label;
 			if (nextVertex == null) {
 				return false;
 			}
@@ -530,6 +684,7 @@ public class Path {
 	 */
 	void fullReset() {
 		visibleVertices.clear();
+		vertexStates.clear();
 		segments.clear();
 		if (prevCostRatio == 0) {
 			double distance = start.getDistance(end);
@@ -545,11 +700,11 @@ public class Path {
 	 * Creates the visibility graph and returns whether or not a shortest path could
 	 * be determined.
 	 *
-	 * @param allObstacles the list of all obstacles
+	 * @param obstacles the index of all obstacles
 	 * @return true if a shortest path was found
 	 */
-	boolean generateShortestPath(List<Obstacle> allObstacles) {
-		createVisibilityGraph(allObstacles);
+	boolean generateShortestPath(ObstacleTree obstacles) {
+		createVisibilityGraph(obstacles);
 
 		if (visibleVertices.isEmpty()) {
 			return false;
@@ -645,70 +800,119 @@ public class Path {
 		return visibleObstacles.contains(obs);
 	}
 
+	/**
+	 * Returns whether a path passing through the given rectangle may be shorter
+	 * than the shortest path found by the last search. Otherwise, removing an
+	 * obstacle within the rectangle can't shorten this path.
+	 *
+	 * @param rect the rectangle
+	 * @return <code>false</code> if every path through the rectangle is longer
+	 */
+	boolean mayPassThrough(Rectangle rect) {
+		return getDistance(start, rect) + getDistance(end, rect) <= cost;
+	}
+
+	private static double getDistance(Point p, Rectangle rect) {
+		int dx = Math.max(0, Math.max(rect.x - p.x, p.x - rect.right()));
+		int dy = Math.max(0, Math.max(rect.y - p.y, p.y - rect.bottom()));
+		return Math.sqrt((double) dx * dx + (double) dy * dy);
+	}
+
+	/**
+	 * Returns the search state of the given vertex.
+	 */
+	private VertexState getState(Vertex vertex) {
+		return vertexStates.computeIfAbsent(vertex, VertexState::new);
+	}
+
 	/**
 	 * Labels the visibility graph to assist in finding the shortest path
 	 *
 	 * @return false if there was a gap in the visibility graph
 	 */
 	private boolean labelGraph() {
+		VertexState[] vertices = new VertexState[visibleVertices.size()];
+		int i = 0;
+		for (Vertex visibleVertex : visibleVertices) {
+			vertices[i] = getState(visibleVertex);
+			vertices[i].index = i;
+			i++;
+		}
 		int numPermanentNodes = 1;
-		Vertex vertex = start;
-		Vertex neighborVertex = null;
+		VertexState vertex = getState(start);
+		VertexState neighborVertex = null;
 		vertex.isPermanent = true;
 		double newCost;
-		while (numPermanentNodes != visibleVertices.size()) {
+		VertexQueue queue = new VertexQueue(vertices.length);
+		while (numPermanentNodes != vertices.length) {
 			List<Vertex> neighbors = vertex.neighbors;
 			if (neighbors == null) {
 				return false;
 			}
 			// label neighbors if they have a new shortest path
 			for (Vertex neighbor : neighbors) {
-				neighborVertex = neighbor;
+				neighborVertex = getState(neighbor);
 				if (!neighborVertex.isPermanent) {
-					newCost = vertex.cost + vertex.getDistance(neighborVertex);
-					if (neighborVertex.label == null) {
-						neighborVertex.label = vertex;
-						neighborVertex.cost = newCost;
-					} else if (neighborVertex.cost > newCost) {
-						neighborVertex.label = vertex;
+					newCost = vertex.cost + vertex.vertex.getDistance(neighbor);
+					if (neighborVertex.label == null || neighborVertex.cost > newCost) {
+						neighborVertex.label = vertex.vertex;
 						neighborVertex.cost = newCost;
+						queue.update(neighborVertex);
 					}
 				}
 			}
 			// find the next none-permanent, labeled vertex with smallest cost
-			double smallestCost = 0;
-			Vertex tempVertex = null;
-			for (Vertex visibleVertex : visibleVertices) {
-				tempVertex = visibleVertex;
-				if (!tempVertex.isPermanent && tempVertex.label != null
-						&& (tempVertex.cost < smallestCost || smallestCost == 0)) {
-					smallestCost = tempVertex.cost;
-					vertex = tempVertex;
-				}
+			VertexState next = queue.hasZeroCost() ? findCheapestVertex(vertices) : queue.peek();
+			if (next == null) {
+				// all reachable vertices are permanent
+				return true;
 			}
 			// set the new vertex to permanent.
+			vertex = next;
+			queue.remove(vertex);
 			vertex.isPermanent = true;
 			numPermanentNodes++;
 		}
 		return true;
 	}
 
+	/**
+	 * Finds the next non-permanent, labeled vertex with the smallest cost by
+	 * scanning all vertices. A cost of 0 is treated as not set, i.e. such a vertex
+	 * is only chosen if no other vertex follows it. The queue is only consistent
+	 * with this rule while no vertex has a cost of 0, which is rare.
+	 */
+	private static VertexState findCheapestVertex(VertexState[] vertices) {
+		double smallestCost = 0;
+		VertexState vertex = null;
+		for (VertexState visibleVertex : vertices) {
+			if (!visibleVertex.isPermanent && visibleVertex.label != null
+					&& (visibleVertex.cost < smallestCost || smallestCost == 0)) {
+				smallestCost = visibleVertex.cost;
+				vertex = visibleVertex;
+			}
+		}
+		return vertex;
+	}
+
 	/**
 	 * Links two vertices together in the visibility graph
 	 *
 	 * @param segment the segment to add
 	 */
 	private void linkVertices(Segment segment) {
-		if (segment.start.neighbors == null) {
-			segment.start.neighbors = new ArrayList<>();
+		VertexState startState = getState(segment.start);
+		VertexState endState = getState(segment.end);
+		if (startState.neighbors == null) {
+			startState.neighbors = new ArrayList<>();
 		}
-		if (segment.end.neighbors == null) {
-			segment.end.neighbors = new ArrayList<>();
+		if (endState.neighbors == null) {
+			endState.neighbors = new ArrayList<>();
 		}
 
-		if (!segment.start.neighbors.contains(segment.end)) {
-			segment.start.neighbors.add(segment.end);
-			segment.end.neighbors.add(segment.start);
+		if (!startState.neighbors.contains(segment.end)) {
+			startState.neighbors.add(segment.end);
+			endState.neighbors.add(segment.start);
 		}
 
 		visibleVertices.add(segment.start);
@@ -741,8 +945,8 @@ public class Path {
 	}
 
 	/**
-	 * Refreshes the exclude field on the obstacles in the list. Excludes all
-	 * obstacles that contain the start or end point for this path.
+	 * Refreshes the list of obstacles excluded from this path. Excludes all
+	 * obstacles that contain the start or end point of this path.
 	 *
 	 * @param allObstacles list of all obstacles
 	 */
@@ -750,36 +954,27 @@ public class Path {
 		excludedObstacles.clear();
 
 		for (Obstacle o : allObstacles) {
-			o.exclude = false;
-
-			if (o.contains(start)) {
-				if (o.containsProper(start)) {
-					o.exclude = true;
-				} else {
-					/*
-					 * $TODO Check for corners. If the path begins exactly at the corner of an
-					 * obstacle, the exclude should also be true.
-					 *
-					 * Or, change segment intersection so that two segments that share an endpoint
-					 * do not intersect.
-					 */
-				}
-			}
-
-			if (o.contains(end)) {
-				if (o.containsProper(end)) {
-					o.exclude = true;
-				} else {
-					// check for corners. See above statement.
-				}
-			}
-
-			if (o.exclude && !excludedObstacles.contains(o)) {
+			/*
+			 * $TODO Check for corners. If the path begins exactly at the corner of an
+			 * obstacle, it should also be excluded.
+			 *
+			 * Or, change segment intersection so that two segments that share an endpoint
+			 * do not intersect.
+			 */
+			if (isExcluded(o) && !excludedObstacles.contains(o)) {
 				excludedObstacles.add(o);
 			}
 		}
 	}
 
+	/**
+	 * Returns whether the given obstacle contains the start or end point of this
+	 * path, in which case it is ignored when searching for the shortest path.
+	 */
+	private boolean isExcluded(Obstacle o) {
+		return o.containsProper(start) || o.containsProper(end);
+	}
+
 	/**
 	 * Resets the fields for everything in the solve after the visibility graph
 	 * steps.
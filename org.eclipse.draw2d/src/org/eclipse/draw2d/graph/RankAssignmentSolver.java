@@ -147,6 +147,7 @@ class RankAssignmentSolver extends SpanningTreeVisitor {
 		Edge leave;
 		int count = 0;
 		while ((leave = leave()) != null && count < 900) {
+			checkCanceled(graph);
 
 			count++;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2025 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -174,6 +174,21 @@ class RankSorter {
 		rank.assignIndices();
 	}
 
+	/**
+	 * Replaces the contents of the given rank with a previously recorded order.
+	 *
+	 * @param rank  the rank to restore
+	 * @param row   the row of the rank
+	 * @param order the nodes of the rank in the order to restore
+	 */
+	void restoreRank(Rank rank, int row, Node[] order) {
+		this.currentRow = row;
+		this.rank = rank;
+		rank.clear();
+		Collections.addAll(rank, order);
+		postSort();
+	}
+
 	void sort() {
 		boolean change;
 		do {
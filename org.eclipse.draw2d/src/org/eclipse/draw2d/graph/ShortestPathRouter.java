@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,11 +15,18 @@ package org.eclipse.draw2d.graph;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Geometry;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -38,6 +45,15 @@ import org.eclipse.draw2d.geometry.Rectangle;
  * number of paths, n is the number of obstacles, and s is the average number of
  * segments in each path's final solution.
  * <P>
+ * The shortest paths of the dirty paths are independent of each other and may
+ * be searched concurrently by setting an {@link #setExecutor(Executor)
+ * executor}. All later steps are performed sequentially.
+ * <P>
+ * By default, all paths are offset from each other again whenever the routing
+ * is solved. In {@link #setIncremental(boolean) incremental} mode, only the
+ * paths in the neighbourhood of the changes are routed again, so that moving a
+ * single obstacle doesn't depend on the total number of paths.
+ * <P>
  * This class is not intended to be subclassed.
  *
  * @author Whitney Sorenson
@@ -67,6 +83,22 @@ public class ShortestPathRouter {
 	private static final int NUM_GROW_PASSES = 2;
 
 	private int spacing = 4;
+	private Executor executor;
+	private boolean incremental;
+	/**
+	 * Whether all paths and vertices hold the results of the last solve, which is
+	 * required to solve incrementally.
+	 */
+	private boolean canSolveIncrementally;
+	/**
+	 * The bounds of the obstacles added or removed since the last solve.
+	 */
+	private final List<Rectangle> damagedRegions = new ArrayList<>();
+	/**
+	 * The vertices of paths which have been removed or dirtied since the last
+	 * solve, and of removed obstacles.
+	 */
+	private final Set<Vertex> staleVertices = Collections.newSetFromMap(new IdentityHashMap<>());
 	private boolean growPassChangedObstacles;
 	private List<Path> orderedPaths;
 	private final Map<Path, List<Path>> pathsToChildPaths;
@@ -124,8 +156,8 @@ public class ShortestPathRouter {
 						vertex.count++;
 						path.points.addPoint(vertex.bend(vertex.count));
 					} else {
-						path.points.addPoint(vertex.bend(vertex.totalCount));
-						vertex.totalCount--;
+						path.points.addPoint(vertex.bend(vertex.totalCount - vertex.count));
+						vertex.count++;
 					}
 				}
 			}
@@ -195,10 +227,12 @@ public class ShortestPathRouter {
 	}
 
 	/**
-	 * Checks all vertices along paths for intersections
+	 * Checks all vertices along the given paths for intersections
+	 *
+	 * @param paths the paths
 	 */
-	private void checkVertexIntersections() {
-		for (Path path : workingPaths) {
+	private void checkVertexIntersections(List<Path> paths) {
+		for (Path path : paths) {
 
 			for (int s = 0; s < path.segments.size() - 1; s++) {
 				Vertex vertex = path.segments.get(s).end;
@@ -208,20 +242,36 @@ public class ShortestPathRouter {
 	}
 
 	/**
-	 * Frees up fields which aren't needed between invocations.
+	 * Returns the executor used to search the shortest paths of dirty paths
+	 * concurrently.
+	 *
+	 * @return the executor, or <code>null</code> if paths are solved on the
+	 *         calling thread
+	 * @since 3.24
 	 */
-	private void cleanup() {
-		for (Path path : workingPaths) {
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Frees up fields of the given paths which aren't needed between invocations.
+	 *
+	 * @param paths the paths
+	 */
+	private static void cleanup(List<Path> paths) {
+		for (Path path : paths) {
 			path.cleanup();
 		}
 	}
 
 	/**
-	 * Counts how many paths are on given vertices in order to increment their total
-	 * count.
+	 * Counts how many of the given paths are on given vertices in order to
+	 * increment their total count.
+	 *
+	 * @param paths the paths
 	 */
-	private void countVertices() {
-		for (Path path : workingPaths) {
+	private static void countVertices(List<Path> paths) {
+		for (Path path : paths) {
 			for (int v = 0; v < path.segments.size() - 1; v++) {
 				path.segments.get(v).end.totalCount++;
 			}
@@ -306,29 +356,35 @@ public class ShortestPathRouter {
 	}
 
 	/**
-	 * Grows all obstacles in in routing and tests for new intersections
+	 * Grows all obstacles in in routing and tests the given paths for new
+	 * intersections
+	 *
+	 * @param paths the paths
 	 */
-	private void growObstacles() {
+	private void growObstacles(List<Path> paths) {
 		growPassChangedObstacles = false;
 		for (int i = 0; i < NUM_GROW_PASSES; i++) {
 			if (i == 0 || growPassChangedObstacles) {
-				growObstaclesPass();
+				growObstaclesPass(paths);
 			}
 		}
 	}
 
 	/**
 	 * Performs a single pass of the grow obstacles step, this can be repeated as
-	 * desired. Grows obstacles, then tests paths against the grown obstacles.
+	 * desired. Grows obstacles, then tests the given paths against the grown
+	 * obstacles.
+	 *
+	 * @param paths the paths
 	 */
-	private void growObstaclesPass() {
+	private void growObstaclesPass(List<Path> paths) {
 		// grow obstacles
 		for (Obstacle userObstacle : userObstacles) {
 			userObstacle.growVertices();
 		}
 
 		// go through paths and test segments
-		for (Path path : workingPaths) {
+		for (Path path : paths) {
 
 			for (Obstacle element : path.excludedObstacles) {
 				element.exclude = true;
@@ -365,6 +421,9 @@ public class ShortestPathRouter {
 	 */
 	private boolean internalAddObstacle(Obstacle obs) {
 		userObstacles.add(obs);
+		if (incremental) {
+			damagedRegions.add(new Rectangle(obs));
+		}
 		return testAndDirtyPaths(obs);
 	}
 
@@ -386,6 +445,13 @@ public class ShortestPathRouter {
 		}
 
 		userObstacles.remove(index);
+		if (incremental) {
+			damagedRegions.add(new Rectangle(obs));
+			staleVertices.add(obs.topLeft);
+			staleVertices.add(obs.topRight);
+			staleVertices.add(obs.bottomLeft);
+			staleVertices.add(obs.bottomRight);
+		}
 
 		boolean result = false;
 		result |= dirtyPathsOn(obs.bottomLeft);
@@ -397,7 +463,8 @@ public class ShortestPathRouter {
 			if (path.isDirty) {
 				continue;
 			}
-			if (path.isObstacleVisible(obs)) {
+			// In incremental mode, only paths which may become shorter are solved again
+			if (path.isObstacleVisible(obs) && (!incremental || path.mayPassThrough(obs))) {
 				path.isDirty = result = true;
 			}
 		}
@@ -456,11 +523,13 @@ public class ShortestPathRouter {
 	}
 
 	/**
-	 * Labels all path's vertices in the routing.
+	 * Labels the vertices of the given paths.
+	 *
+	 * @param paths the paths
 	 */
-	private void labelPaths() {
+	private void labelPaths(List<Path> paths) {
 		Path path = null;
-		for (Path workingPath : workingPaths) {
+		for (Path workingPath : paths) {
 			path = workingPath;
 			stack.push(path);
 		}
@@ -474,10 +543,13 @@ public class ShortestPathRouter {
 		}
 
 		// revert is marked so we can use it again in ordering.
-		for (Path workingPath : workingPaths) {
+		for (Path workingPath : paths) {
 			path = workingPath;
 			path.isMarked = false;
 		}
+		for (Path subPath : subPaths) {
+			subPath.isMarked = false;
+		}
 	}
 
 	/**
@@ -548,25 +620,35 @@ public class ShortestPathRouter {
 	}
 
 	/**
-	 * Orders all paths in the graph.
+	 * Orders the given paths and their subpaths.
+	 *
+	 * @param paths the paths
 	 */
-	private void orderPaths() {
-		for (Path path : workingPaths) {
+	private void orderPaths(List<Path> paths) {
+		for (Path path : paths) {
 			orderPath(path);
 		}
+		for (Path subPath : subPaths) {
+			orderPath(subPath);
+		}
 	}
 
 	/**
-	 * Populates the parent paths with all the child paths that were created to
-	 * represent bendpoints.
+	 * Populates the given parent paths with all the child paths that were created
+	 * to represent bendpoints.
+	 *
+	 * @param paths the user paths
 	 */
-	private void recombineChildrenPaths() {
-		for (Entry<Path, List<Path>> entry : pathsToChildPaths.entrySet()) {
-			Path path = entry.getKey();
+	private void recombineChildrenPaths(List<Path> paths) {
+		for (Path path : paths) {
+			List<Path> children = pathsToChildPaths.get(path);
+			if (children == null) {
+				continue;
+			}
 			path.fullReset();
 
 			Path childPath = null;
-			for (Path childPath2 : entry.getValue()) {
+			for (Path childPath2 : children) {
 				childPath = childPath2;
 				path.points.addAll(childPath.getPoints());
 				// path will overlap
@@ -615,19 +697,23 @@ public class ShortestPathRouter {
 		userPaths.remove(path);
 		List<Path> children = pathsToChildPaths.get(path);
 		if (children == null) {
-			workingPaths.remove(path);
+			removeWorkingPath(path);
 		} else {
-			workingPaths.removeAll(children);
+			children.forEach(this::removeWorkingPath);
 		}
 		return true;
 	}
 
 	/**
-	 * Resets exclude field on all obstacles
+	 * Removes the given path from the working paths and remembers the vertices it
+	 * was bent around, so that the paths sharing them can be routed again.
+	 *
+	 * @param path the working path
 	 */
-	private void resetObstacleExclusions() {
-		for (Obstacle userObstacle : userObstacles) {
-			userObstacle.exclude = false;
+	private void removeWorkingPath(Path path) {
+		workingPaths.remove(path);
+		if (incremental) {
+			addVertices(path.grownSegments, staleVertices);
 		}
 	}
 
@@ -645,6 +731,54 @@ public class ShortestPathRouter {
 		}
 	}
 
+	/**
+	 * Sets whether the routing is solved incrementally. In incremental mode, only
+	 * the dirty paths, the paths passing close to added or removed obstacles and
+	 * the paths sharing a vertex with those paths are routed again by
+	 * {@link #solve()}, which then only returns these paths. All other paths keep
+	 * their points. The result may slightly differ from solving all paths, e.g.
+	 * when the spacing of a path would change because of a path far away. The
+	 * first solve after enabling the incremental mode routes all paths.
+	 * <P>
+	 * The default is <code>false</code>.
+	 *
+	 * @param incremental whether to solve incrementally
+	 * @since 3.24
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+		canSolveIncrementally = false;
+		damagedRegions.clear();
+		staleVertices.clear();
+	}
+
+	/**
+	 * Returns whether the routing is solved incrementally.
+	 *
+	 * @return <code>true</code> if only the paths affected by changes are routed
+	 *         again
+	 * @see #setIncremental(boolean)
+	 * @since 3.24
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Sets the executor used to search the shortest paths of dirty paths
+	 * concurrently. The paths are split into as many tasks as there are available
+	 * processors, and {@link #solve()} blocks until all tasks have completed. The
+	 * result is the same as when solving the paths on the calling thread, which
+	 * is the default.
+	 *
+	 * @param executor the executor, or <code>null</code> to solve paths on the
+	 *                 calling thread
+	 * @since 3.24
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	/**
 	 * Sets the default spacing between paths. The spacing is the minimum distance
 	 * that path should be offset from other paths or obstacles. The default value
@@ -656,49 +790,275 @@ public class ShortestPathRouter {
 	 */
 	public void setSpacing(int spacing) {
 		this.spacing = spacing;
+		canSolveIncrementally = false;
 	}
 
 	/**
 	 * Updates the points in the paths in order to represent the current solution
 	 * with the given paths and obstacles.
+	 * <P>
+	 * In {@link #setIncremental(boolean) incremental} mode, only the paths in the
+	 * neighbourhood of the changes since the last invocation are routed again.
 	 *
 	 * @return returns the list of paths which were updated.
 	 */
 	public List<Path> solve() {
+		if (incremental && canSolveIncrementally) {
+			return solveIncrementally();
+		}
+
+		updateChildPaths();
+		List<Path> dirtyPaths = new ArrayList<>();
+		for (Path path : workingPaths) {
+			path.refreshExcludedObstacles(userObstacles);
+			if (path.isDirty) {
+				dirtyPaths.add(path);
+			} else {
+				path.resetPartial();
+			}
+		}
+		solveDirtyPaths(dirtyPaths);
+		resetVertices();
 
-		solveDirtyPaths();
+		List<Path> paths = new ArrayList<>(workingPaths);
+		routePaths(paths);
+		recombineChildrenPaths(userPaths);
+		cleanup(paths);
+
+		canSolveIncrementally = true;
+		damagedRegions.clear();
+		staleVertices.clear();
+		return Collections.unmodifiableList(userPaths);
+	}
+
+	/**
+	 * Routes only the paths affected by the changes since the last solve. These
+	 * are the dirty paths, the paths passing close to added or removed obstacles,
+	 * and all paths sharing a vertex with an affected path, as paths bent around
+	 * the same vertex are offset from each other. The remaining paths keep their
+	 * points.
+	 *
+	 * @return the user paths which were updated
+	 */
+	private List<Path> solveIncrementally() {
+		Set<Path> dirtyUserPaths = new HashSet<>();
+		for (Path path : userPaths) {
+			if (path.isDirty) {
+				dirtyUserPaths.add(path);
+			}
+		}
+		updateChildPaths();
 
-		countVertices();
-		checkVertexIntersections();
-		growObstacles();
+		// The clean paths on each vertex, and the vertices of the previous routes of
+		// the dirty paths
+		Map<Vertex, List<Path>> cleanPaths = new IdentityHashMap<>();
+		List<Path> dirtyPaths = new ArrayList<>();
+		for (Path path : workingPaths) {
+			if (path.isDirty) {
+				dirtyPaths.add(path);
+				addVertices(path.grownSegments, staleVertices);
+			} else {
+				for (int v = 0; v < path.grownSegments.size() - 1; v++) {
+					cleanPaths.computeIfAbsent(path.grownSegments.get(v).end, vertex -> new ArrayList<>()).add(path);
+				}
+			}
+		}
+		for (Path path : dirtyPaths) {
+			path.refreshExcludedObstacles(userObstacles);
+		}
+		solveDirtyPaths(dirtyPaths);
+
+		Set<Path> affected = new HashSet<>();
+		Set<Vertex> vertices = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Path path : dirtyPaths) {
+			addAffectedPath(path, path.segments, affected, vertices, cleanPaths);
+		}
+		for (Vertex vertex : staleVertices) {
+			addAffectedPaths(cleanPaths.get(vertex), affected, vertices, cleanPaths);
+		}
+		for (Path path : workingPaths) {
+			if (!affected.contains(path) && isNearDamagedRegion(path)) {
+				addAffectedPath(path, path.grownSegments, affected, vertices, cleanPaths);
+			}
+		}
+		vertices.addAll(staleVertices);
+		for (Obstacle obs : userObstacles) {
+			if (isNearDamagedRegion(obs)) {
+				vertices.add(obs.topLeft);
+				vertices.add(obs.topRight);
+				vertices.add(obs.bottomLeft);
+				vertices.add(obs.bottomRight);
+			}
+		}
+
+		// Growing the obstacles may add vertices shared with unaffected paths, in
+		// which case these are routed as well
+		List<Path> paths;
+		boolean closed;
+		do {
+			paths = new ArrayList<>();
+			for (Path path : workingPaths) {
+				if (affected.contains(path)) {
+					paths.add(path);
+					path.refreshExcludedObstacles(userObstacles);
+					path.resetPartial();
+					path.start.fullReset();
+					path.end.fullReset();
+				}
+			}
+			for (Vertex vertex : vertices) {
+				if (!hasUnaffectedPaths(vertex, affected, cleanPaths)) {
+					vertex.fullReset();
+				}
+			}
+			routePaths(paths);
+
+			closed = true;
+			for (Path path : paths) {
+				for (int v = 0; v < path.grownSegments.size() - 1; v++) {
+					Vertex vertex = path.grownSegments.get(v).end;
+					if (vertices.add(vertex) && hasUnaffectedPaths(vertex, affected, cleanPaths)) {
+						addAffectedPaths(cleanPaths.get(vertex), affected, vertices, cleanPaths);
+						closed = false;
+					}
+				}
+			}
+		} while (!closed);
+
+		List<Path> result = new ArrayList<>();
+		for (Path path : userPaths) {
+			List<Path> children = pathsToChildPaths.get(path);
+			if (dirtyUserPaths.contains(path) || affected.contains(path)
+					|| (children != null && children.stream().anyMatch(affected::contains))) {
+				result.add(path);
+			}
+		}
+		recombineChildrenPaths(result);
+		cleanup(paths);
+
+		damagedRegions.clear();
+		staleVertices.clear();
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Adds the given path and, transitively, all clean paths sharing a vertex with
+	 * it to the affected paths.
+	 *
+	 * @param path       the path
+	 * @param segments   the segments of the route of the path
+	 * @param affected   the affected paths
+	 * @param vertices   the vertices of the affected paths
+	 * @param cleanPaths the clean paths on each vertex
+	 */
+	private static void addAffectedPath(Path path, List<Segment> segments, Set<Path> affected, Set<Vertex> vertices,
+			Map<Vertex, List<Path>> cleanPaths) {
+		if (!affected.add(path)) {
+			return;
+		}
+		addVertices(segments, vertices);
+		for (int v = 0; v < segments.size() - 1; v++) {
+			addAffectedPaths(cleanPaths.get(segments.get(v).end), affected, vertices, cleanPaths);
+		}
+	}
+
+	private static void addAffectedPaths(List<Path> paths, Set<Path> affected, Set<Vertex> vertices,
+			Map<Vertex, List<Path>> cleanPaths) {
+		if (paths != null) {
+			for (Path path : paths) {
+				addAffectedPath(path, path.grownSegments, affected, vertices, cleanPaths);
+			}
+		}
+	}
+
+	private static boolean hasUnaffectedPaths(Vertex vertex, Set<Path> affected, Map<Vertex, List<Path>> cleanPaths) {
+		List<Path> paths = cleanPaths.get(vertex);
+		return paths != null && !affected.containsAll(paths);
+	}
+
+	/**
+	 * Adds the vertices between the given segments to the given set.
+	 */
+	private static void addVertices(List<Segment> segments, Set<Vertex> vertices) {
+		for (int v = 0; v < segments.size() - 1; v++) {
+			vertices.add(segments.get(v).end);
+		}
+	}
+
+	/**
+	 * Returns whether the route of the given path, or the region in which it is
+	 * offset around its vertices, is close to an obstacle that has been added or
+	 * removed since the last solve.
+	 */
+	private boolean isNearDamagedRegion(Path path) {
+		for (Rectangle region : damagedRegions) {
+			Rectangle grown = region.getExpanded(2 * spacing, 2 * spacing);
+			PointList points = path.getPoints();
+			for (int i = 0; i < points.size() - 1; i++) {
+				Point p1 = points.getPoint(i);
+				Point p2 = points.getPoint(i + 1);
+				if (grown.contains(p1) || grown.contains(p2)
+						|| Geometry.linesIntersect(p1.x, p1.y, p2.x, p2.y, grown.x, grown.y, grown.right() - 1,
+								grown.bottom() - 1)
+						|| Geometry.linesIntersect(p1.x, p1.y, p2.x, p2.y, grown.x, grown.bottom() - 1,
+								grown.right() - 1, grown.y)) {
+					return true;
+				}
+			}
+			for (int v = 0; v < path.grownSegments.size() - 1; v++) {
+				Vertex vertex = path.grownSegments.get(v).end;
+				int sideLength = 2 * (vertex.totalCount * spacing) + 1;
+				if (new Rectangle(vertex.x, vertex.y, 1, 1).expand(sideLength, sideLength).intersects(region)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the given obstacle is close to an obstacle that has been
+	 * added or removed since the last solve.
+	 */
+	private boolean isNearDamagedRegion(Obstacle obs) {
+		for (Rectangle region : damagedRegions) {
+			if (region.getExpanded(2 * spacing, 2 * spacing).intersects(obs)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Routes the given paths, whose shortest paths have been found. Paths sharing
+	 * vertices with other paths are offset from each other.
+	 *
+	 * @param paths the paths
+	 */
+	private void routePaths(List<Path> paths) {
+		countVertices(paths);
+		checkVertexIntersections(paths);
+		growObstacles(paths);
 
 		subPaths = new ArrayList<>();
 		stack = new PathStack();
-		labelPaths();
+		labelPaths(paths);
 		stack = null;
 
 		orderedPaths = new ArrayList<>();
-		orderPaths();
+		orderPaths(paths);
 		bendPaths();
 
 		recombineSubpaths();
 		orderedPaths = null;
 		subPaths = null;
-
-		recombineChildrenPaths();
-		cleanup();
-
-		return Collections.unmodifiableList(userPaths);
 	}
 
 	/**
-	 * Solves paths that are dirty.
-	 *
-	 * @return number of dirty paths
+	 * Updates the child paths of the dirty user paths, which represent the
+	 * sections between their bendpoints.
 	 */
-	private int solveDirtyPaths() {
-		int numSolved = 0;
-
+	private void updateChildPaths() {
 		for (Path path : userPaths) {
 			if (!path.isDirty) {
 				continue;
@@ -721,36 +1081,58 @@ public class ShortestPathRouter {
 			}
 			refreshChildrenEndpoints(path, children);
 		}
+	}
 
-		for (Path path : workingPaths) {
-			path.refreshExcludedObstacles(userObstacles);
-			if (!path.isDirty) {
-				path.resetPartial();
-				continue;
+	/**
+	 * Searches the shortest paths of the given dirty paths, on the executor if one
+	 * is set.
+	 *
+	 * @param dirtyPaths the dirty paths
+	 */
+	private void solveDirtyPaths(List<Path> dirtyPaths) {
+		ObstacleTree obstacles = new ObstacleTree(userObstacles);
+		int numTasks = executor == null ? 1
+				: Math.min(dirtyPaths.size(), Runtime.getRuntime().availableProcessors());
+		if (numTasks <= 1) {
+			dirtyPaths.forEach(path -> solveShortestPath(path, obstacles));
+		} else {
+			// Each task takes the next unsolved path until all paths are solved
+			AtomicInteger next = new AtomicInteger();
+			Runnable task = () -> {
+				for (int i = next.getAndIncrement(); i < dirtyPaths.size(); i = next.getAndIncrement()) {
+					solveShortestPath(dirtyPaths.get(i), obstacles);
+				}
+			};
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[numTasks];
+			for (int i = 0; i < numTasks; i++) {
+				futures[i] = CompletableFuture.runAsync(task, executor);
 			}
-
-			numSolved++;
-			path.fullReset();
-
-			boolean pathFoundCheck = path.generateShortestPath(userObstacles);
-			if (!pathFoundCheck || path.end.cost > path.threshold) {
-				// path not found, or path found was too long
-				resetVertices();
-				path.fullReset();
-				path.threshold = 0;
-				pathFoundCheck = path.generateShortestPath(userObstacles);
+			try {
+				CompletableFuture.allOf(futures).join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw e;
 			}
-
-			resetVertices();
 		}
+	}
 
-		resetObstacleExclusions();
-
-		if (numSolved == 0) {
-			resetVertices();
+	/**
+	 * Searches the shortest path of the given path. The search only modifies the
+	 * given path, so that several paths may be searched concurrently.
+	 *
+	 * @param path      the dirty path
+	 * @param obstacles the index of all obstacles
+	 */
+	private static void solveShortestPath(Path path, ObstacleTree obstacles) {
+		path.fullReset();
+		if (!path.generateShortestPath(obstacles) || path.cost > path.threshold) {
+			// path not found, or path found was too long
+			path.fullReset();
+			path.threshold = 0;
+			path.generateShortestPath(obstacles);
 		}
-
-		return numSolved;
 	}
 
 	/**
@@ -785,14 +1167,14 @@ public class ShortestPathRouter {
 	private List<Path> regenerateChildPaths(Path path, List<Path> children, int currentSize, int newSize) {
 		// Path used to be simple but now is compound, children is EMPTY.
 		if (currentSize == 1) {
-			workingPaths.remove(path);
+			removeWorkingPath(path);
 			currentSize = 0;
 			children = new ArrayList<>(newSize);
 			pathsToChildPaths.put(path, children);
 		} else
 		// Path is becoming simple but was compound. children becomes empty.
 		if (newSize == 1) {
-			workingPaths.removeAll(children);
+			children.forEach(this::removeWorkingPath);
 			workingPaths.add(path);
 			pathsToChildPaths.remove(path);
 			return Collections.emptyList();
@@ -808,7 +1190,7 @@ public class ShortestPathRouter {
 
 		while (currentSize > newSize) {
 			Path child = children.remove(children.size() - 1);
-			workingPaths.remove(child);
+			removeWorkingPath(child);
 			currentSize--;
 		}
 
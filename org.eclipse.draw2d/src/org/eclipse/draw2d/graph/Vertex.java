@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -38,12 +38,6 @@ class Vertex extends Point {
 	static final int INNIE = 1;
 	static final int OUTIE = 2;
 
-	// for shortest path
-	List<Vertex> neighbors;
-	boolean isPermanent = false;
-	Vertex label;
-	double cost = 0;
-
 	// for routing
 	int nearestObstacle = 0;
 	double offset = 0;
@@ -130,15 +124,9 @@ class Vertex extends Point {
 		totalCount = 0;
 		type = NOT_SET;
 		count = 0;
-		cost = 0;
 		offset = getSpacing();
 		nearestObstacle = 0;
-		label = null;
 		nearestObstacleChecked = false;
-		isPermanent = false;
-		if (neighbors != null) {
-			neighbors.clear();
-		}
 		if (cachedCosines != null) {
 			cachedCosines.clear();
 		}
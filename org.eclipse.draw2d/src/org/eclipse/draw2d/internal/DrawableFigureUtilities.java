@@ -32,10 +32,13 @@ public class DrawableFigureUtilities {
 	private GC gc;
 	private Font appliedFont;
 	private FontMetrics metrics;
+	/** The zoom of the source control, in percent. */
+	private int zoom;
 
 	public DrawableFigureUtilities(Control source) {
 		gc = new GC(source);
 		gc.setAdvanced(true);
+		zoom = Math.round(InternalDraw2dUtils.calculateScale(source) * 100);
 		source.addDisposeListener(e -> {
 			gc.dispose();
 		});
@@ -43,7 +46,10 @@ public class DrawableFigureUtilities {
 			gc.dispose();
 			gc = new GC(source);
 			gc.setAdvanced(true);
+			appliedFont = gc.getFont();
 			metrics = null;
+			// Extents measured at the old zoom are kept apart by the zoom in the key
+			zoom = event.detail;
 		});
 		appliedFont = gc.getFont();
 	}
@@ -73,8 +79,10 @@ public class DrawableFigureUtilities {
 	 * @see GC#textExtent(String)
 	 */
 	protected org.eclipse.swt.graphics.Point getTextDimension(String s, Font f) {
-		setFont(f);
-		return gc.textExtent(s);
+		return TextExtentCache.INSTANCE.getExtent(s, f, zoom, true, (text, font) -> {
+			setFont(font);
+			return gc.textExtent(text);
+		});
 	}
 
 	/**
@@ -87,8 +95,10 @@ public class DrawableFigureUtilities {
 	 * @see GC#stringExtent(java.lang.String)
 	 */
 	protected org.eclipse.swt.graphics.Point getStringDimension(String s, Font f) {
-		setFont(f);
-		return gc.stringExtent(s);
+		return TextExtentCache.INSTANCE.getExtent(s, f, zoom, false, (string, font) -> {
+			setFont(font);
+			return gc.stringExtent(string);
+		});
 	}
 
 	/**
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.internal;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * A bounded cache of text extents, shared by the {@code FigureUtilities} and
+ * the {@link DrawableFigureUtilities} of all controls. Extents are cached per
+ * font description, zoom and text. The least recently used extents are evicted
+ * once the cache is full.
+ * <p>
+ * Fonts are identified by their {@link FontData}, so that a disposed font never
+ * matches a font created afterwards, and the zoom the text was measured at is
+ * part of the key, so that extents measured before a DPI change are never
+ * returned after it. Texts longer than {@value #MAX_TEXT_LENGTH} characters are
+ * measured but not cached.
+ * </p>
+ * <p>
+ * The cache must only be accessed from the UI thread.
+ * </p>
+ */
+public final class TextExtentCache {
+
+	/**
+	 * The default maximum number of cached extents.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	/**
+	 * The length of the longest text whose extent is cached.
+	 */
+	public static final int MAX_TEXT_LENGTH = 1024;
+
+	/**
+	 * The cache used for all text measured by Draw2d.
+	 */
+	public static final TextExtentCache INSTANCE = new TextExtentCache(DEFAULT_MAX_SIZE);
+
+	private record Key(List<FontData> fontData, int zoom, String text, boolean expand) {
+	}
+
+	private final int maxSize;
+	private final Map<Key, Point> extents;
+	private long hits;
+	private long misses;
+
+	/**
+	 * The font data of the most recently used font. Fonts are usually measured
+	 * many times in a row, and querying the font data is not free.
+	 */
+	private Font lastFont;
+	private List<FontData> lastFontData;
+
+	/**
+	 * Creates a cache holding at most the given number of extents.
+	 *
+	 * @param maxSize the maximum number of cached extents
+	 */
+	public TextExtentCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size must be positive: " + maxSize); //$NON-NLS-1$
+		}
+		this.maxSize = maxSize;
+		extents = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Point> eldest) {
+				return size() > TextExtentCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the extent of the given text in the given font at the given zoom,
+	 * measuring it with the given function if it is not cached.
+	 *
+	 * @param text    the text
+	 * @param font    the font, or <code>null</code> for the default font of the
+	 *                measuring graphics context
+	 * @param zoom    the zoom the text is measured at, in percent
+	 * @param expand  <code>true</code> if tabs and line delimiters are expanded,
+	 *                <code>false</code> if the text is measured as a single
+	 *                string
+	 * @param measure the function measuring the text in the font
+	 * @return a new point holding the extent
+	 */
+	public Point getExtent(String text, Font font, int zoom, boolean expand, BiFunction<String, Font, Point> measure) {
+		if (font == null || font.isDisposed() || text.length() > MAX_TEXT_LENGTH) {
+			// Let the graphics context handle (or reject) what can't be cached
+			return measure.apply(text, font);
+		}
+		Key key = new Key(getFontData(font), zoom, text, expand);
+		Point extent = extents.get(key);
+		if (extent != null) {
+			hits++;
+		} else {
+			misses++;
+			extent = measure.apply(text, font);
+			extents.put(key, new Point(extent.x, extent.y));
+		}
+		return new Point(extent.x, extent.y);
+	}
+
+	private List<FontData> getFontData(Font font) {
+		if (font != lastFont) {
+			lastFontData = List.of(font.getFontData());
+			lastFont = font;
+		}
+		return lastFontData;
+	}
+
+	/**
+	 * Removes all cached extents. Clients need to call this only if the fonts
+	 * installed on the system change.
+	 */
+	public void clear() {
+		extents.clear();
+		lastFont = null;
+		lastFontData = null;
+	}
+
+	/**
+	 * Returns the number of lookups answered from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of lookups which had to measure the text.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Returns the maximum number of cached extents.
+	 *
+	 * @return the maximum size
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of cached extents.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return extents.size();
+	}
+
+}
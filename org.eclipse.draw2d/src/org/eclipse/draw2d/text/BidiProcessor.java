@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2025 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,7 +13,11 @@
 package org.eclipse.draw2d.text;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 
 import org.eclipse.swt.SWT;
@@ -46,6 +50,7 @@ public final class BidiProcessor {
 		int begin;
 		int end;
 		FlowFigure fig;
+		BidiInfo info;
 
 		BidiEntry(FlowFigure fig, int offset, int length) {
 			this.fig = fig;
@@ -54,6 +59,30 @@ public final class BidiProcessor {
 		}
 	}
 
+	/**
+	 * The result of the Bidi evaluation of the text of a block. The levels are
+	 * reused as long as the text of the block doesn't change, and the Bidi
+	 * information assigned to each contributor is compared with the information
+	 * assigned by the previous evaluation.
+	 */
+	static final class LevelCache {
+		private String text;
+		private int orientation;
+		private int[] levels;
+		private List<BidiEntry> entries = Collections.emptyList();
+		private final List<FlowFigure> changed = new ArrayList<>();
+
+		/**
+		 * Returns the contributors whose Bidi information differs from the one
+		 * assigned by the previous evaluation.
+		 *
+		 * @return the changed contributors
+		 */
+		List<FlowFigure> getChangedFigures() {
+			return changed;
+		}
+	}
+
 	/**
 	 * A singleton instance.
 	 */
@@ -62,9 +91,18 @@ public final class BidiProcessor {
 			.findFirst() //
 			.orElseGet(DefaultBidiProvider::new);
 
-	private StringBuffer bidiText;
+	private StringBuilder bidiText;
 	private final List<BidiEntry> list = new ArrayList<>();
 	private int orientation = SWT.LEFT_TO_RIGHT;
+	/**
+	 * Whether the text contributed so far contains characters which may require
+	 * Bidi evaluation. Text without such characters is displayed left-to-right.
+	 */
+	private boolean mayRequireBidi;
+	/**
+	 * Whether the text processed last required Bidi evaluation.
+	 */
+	boolean requiredBidi;
 
 	private BidiProcessor() {
 	}
@@ -82,6 +120,9 @@ public final class BidiProcessor {
 		// We are currently tracking empty contributions ("")
 		list.add(new BidiEntry(fig, bidiText.length(), str.length()));
 		bidiText.append(str);
+		for (int i = 0; !mayRequireBidi && i < str.length(); i++) {
+			mayRequireBidi = isBidiCharacter(str.charAt(i));
+		}
 	}
 
 	/**
@@ -96,6 +137,7 @@ public final class BidiProcessor {
 	public void add(FlowFigure fig, char c) {
 		list.add(new BidiEntry(fig, bidiText.length(), 1));
 		bidiText.append(c);
+		mayRequireBidi |= isBidiCharacter(c);
 	}
 
 	/**
@@ -107,6 +149,7 @@ public final class BidiProcessor {
 	 */
 	public void addControlChar(char c) {
 		bidiText.append(c);
+		mayRequireBidi |= isBidiCharacter(c);
 	}
 
 	/**
@@ -160,6 +203,7 @@ public final class BidiProcessor {
 						&& isPrecedingJoiner(entry.begin)) {
 					prevInfo.trailingJoiner = info.leadingJoiner = true;
 				}
+				prevEntry.info = prevInfo;
 				prevEntry.fig.setBidiInfo(prevInfo);
 			}
 			prevEntry = entry;
@@ -171,10 +215,37 @@ public final class BidiProcessor {
 			}
 		}
 		if (!list.isEmpty()) {
+			list.get(list.size() - 1).info = info;
 			list.get(list.size() - 1).fig.setBidiInfo(info);
 		}
 	}
 
+	/**
+	 * Returns whether the given character may require Bidi evaluation, i.e. whether
+	 * it is a right-to-left character, an Arabic number, an explicit directional
+	 * formatting character, an unassigned character or part of a surrogate pair.
+	 * All characters below the Hebrew block are left-to-right or neutral.
+	 */
+	private static boolean isBidiCharacter(char c) {
+		if (c < '\u0590') {
+			return false;
+		}
+		if (Character.isSurrogate(c)) {
+			return true;
+		}
+		return switch (Character.getDirectionality(c)) {
+		case Character.DIRECTIONALITY_RIGHT_TO_LEFT, Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC,
+				Character.DIRECTIONALITY_ARABIC_NUMBER, Character.DIRECTIONALITY_LEFT_TO_RIGHT_EMBEDDING,
+				Character.DIRECTIONALITY_LEFT_TO_RIGHT_OVERRIDE, Character.DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING,
+				Character.DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE, Character.DIRECTIONALITY_POP_DIRECTIONAL_FORMAT,
+				Character.DIRECTIONALITY_LEFT_TO_RIGHT_ISOLATE, Character.DIRECTIONALITY_RIGHT_TO_LEFT_ISOLATE,
+				Character.DIRECTIONALITY_FIRST_STRONG_ISOLATE, Character.DIRECTIONALITY_POP_DIRECTIONAL_ISOLATE,
+				Character.DIRECTIONALITY_UNDEFINED ->
+			true;
+		default -> false;
+		};
+	}
+
 	private boolean isJoiner(int begin) {
 		return begin < bidiText.length() && isJoiningCharacter(bidiText.charAt(begin));
 	}
@@ -200,56 +271,130 @@ public final class BidiProcessor {
 	 * discarded at the end of this method.
 	 */
 	public void process() {
+		process(null);
+	}
+
+	/**
+	 * Processes the contributed text like {@link #process()}. The levels of the
+	 * given cache are reused if the text and the orientation are the same as when
+	 * it was last processed with the cache.
+	 *
+	 * @param cache the cache of the block whose text is processed, or
+	 *              <code>null</code>
+	 */
+	void process(LevelCache cache) {
+		requiredBidi = false;
 		try {
-			if (bidiText.length() == 0) {
-				return;
+			if (cache != null) {
+				cache.changed.clear();
 			}
-			char[] chars = new char[bidiText.length()];
-			bidiText.getChars(0, bidiText.length(), chars, 0);
-
-			if (orientation != SWT.RIGHT_TO_LEFT && !BIDI.requiresBidi(chars, 0, chars.length - 1)) {
+			if (bidiText.length() == 0 || orientation != SWT.RIGHT_TO_LEFT && !requiresBidi()) {
+				if (cache != null) {
+					cache.text = null;
+					cache.levels = null;
+					cache.entries = Collections.emptyList();
+				}
 				return;
 			}
+			requiredBidi = true;
 
-			int[] levels = new int[15];
-			TextLayout layout = FlowUtilities.getTextLayout();
-
-			layout.setOrientation(orientation);
-			layout.setText(bidiText.toString());
-			int j = 0, offset, prevLevel = -1;
-			for (offset = 0; offset < chars.length; offset++) {
-				int newLevel = layout.getLevel(offset);
-				if (newLevel != prevLevel) {
-					if (j + 3 > levels.length) {
-						int[] temp = levels;
-						levels = new int[levels.length * 2 + 1];
-						System.arraycopy(temp, 0, levels, 0, temp.length);
-					}
-					levels[j] = offset;
-					j++;
-					levels[j] = newLevel;
-					j++;
-					prevLevel = newLevel;
+			int[] levels;
+			if (cache != null && cache.levels != null && cache.orientation == orientation
+					&& cache.text.contentEquals(bidiText)) {
+				levels = cache.levels;
+			} else {
+				levels = getLevels();
+				if (cache != null) {
+					cache.text = bidiText.toString();
+					cache.orientation = orientation;
+					cache.levels = levels;
 				}
 			}
-			levels[j] = offset;
-			j++;
-
-			if (j != levels.length) {
-				int[] newLevels = new int[j];
-				System.arraycopy(levels, 0, newLevels, 0, j);
-				levels = newLevels;
-			}
 			assignResults(levels);
-
-			// reset the orientation of the layout, in case it was set to RTL
-			layout.setOrientation(SWT.LEFT_TO_RIGHT);
+			if (cache != null) {
+				updateChangedFigures(cache);
+			}
 		} finally {
 			// will cause the fields to be reset for the next string to be
 			// processed
 			bidiText = null;
 			list.clear();
+			mayRequireBidi = false;
+		}
+	}
+
+	private boolean requiresBidi() {
+		if (!mayRequireBidi) {
+			// Only left-to-right and neutral characters have been contributed
+			return false;
+		}
+		char[] chars = new char[bidiText.length()];
+		bidiText.getChars(0, bidiText.length(), chars, 0);
+		return BIDI.requiresBidi(chars, 0, chars.length - 1);
+	}
+
+	/**
+	 * Determines the levels of the contributed text using a TextLayout.
+	 */
+	private int[] getLevels() {
+		int[] levels = new int[15];
+		TextLayout layout = FlowUtilities.getTextLayout();
+
+		layout.setOrientation(orientation);
+		layout.setText(bidiText.toString());
+		int length = bidiText.length();
+		int j = 0, offset, prevLevel = -1;
+		for (offset = 0; offset < length; offset++) {
+			int newLevel = layout.getLevel(offset);
+			if (newLevel != prevLevel) {
+				if (j + 3 > levels.length) {
+					int[] temp = levels;
+					levels = new int[levels.length * 2 + 1];
+					System.arraycopy(temp, 0, levels, 0, temp.length);
+				}
+				levels[j] = offset;
+				j++;
+				levels[j] = newLevel;
+				j++;
+				prevLevel = newLevel;
+			}
 		}
+		levels[j] = offset;
+		j++;
+
+		if (j != levels.length) {
+			int[] newLevels = new int[j];
+			System.arraycopy(levels, 0, newLevels, 0, j);
+			levels = newLevels;
+		}
+
+		// reset the orientation of the layout, in case it was set to RTL
+		layout.setOrientation(SWT.LEFT_TO_RIGHT);
+		return levels;
+	}
+
+	/**
+	 * Compares the Bidi information assigned to each contributor with the
+	 * information assigned by the previous evaluation of the cache, and remembers
+	 * the contributions for the next evaluation.
+	 */
+	private void updateChangedFigures(LevelCache cache) {
+		Map<FlowFigure, BidiInfo> previous = new IdentityHashMap<>();
+		for (BidiEntry entry : cache.entries) {
+			previous.put(entry.fig, entry.info);
+		}
+		for (BidiEntry entry : list) {
+			BidiInfo info = previous.get(entry.fig);
+			if (info == null || !isSameInfo(info, entry.info)) {
+				cache.changed.add(entry.fig);
+			}
+		}
+		cache.entries = new ArrayList<>(list);
+	}
+
+	private static boolean isSameInfo(BidiInfo info, BidiInfo other) {
+		return info.leadingJoiner == other.leadingJoiner && info.trailingJoiner == other.trailingJoiner
+				&& Arrays.equals(info.levelInfo, other.levelInfo);
 	}
 
 	/**
@@ -259,8 +404,9 @@ public final class BidiProcessor {
 	 * @param newOrientation SWT.LEFT_TO_RIGHT or SWT.RIGHT_TO_LEFT
 	 */
 	public void setOrientation(int newOrientation) {
-		bidiText = new StringBuffer();
+		bidiText = new StringBuilder();
 		list.clear();
+		mayRequireBidi = false;
 		orientation = newOrientation;
 	}
 
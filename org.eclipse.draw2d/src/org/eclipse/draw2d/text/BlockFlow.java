@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -48,6 +48,9 @@ public class BlockFlow extends FlowFigure {
 	private int alignment = PositionConstants.NONE;
 	private int orientation = SWT.NONE;
 	private boolean bidiValid;
+	private boolean requiresBidi;
+	private boolean layoutDeferred;
+	private final BidiProcessor.LevelCache levelCache = new BidiProcessor.LevelCache();
 
 	/**
 	 * Constructs a new BlockFlow.
@@ -69,6 +72,18 @@ public class BlockFlow extends FlowFigure {
 		proc.addControlChar(BidiChars.P_SEP);
 	}
 
+	/**
+	 * Marks this block as valid without laying out its children. The block takes
+	 * the given height in its container until it is validated again.
+	 *
+	 * @param height the estimated height of the lines of this block
+	 */
+	void deferLayout(int height) {
+		((BlockFlowLayout) getLayoutManager()).deferLayout(height);
+		layoutDeferred = true;
+		setValid(true);
+	}
+
 	BlockBox createBlockBox() {
 		return new BlockBox(this);
 	}
@@ -103,6 +118,27 @@ public class BlockFlow extends FlowFigure {
 		return margin;
 	}
 
+	/**
+	 * Invalidates the given figure and its ancestors within this block.
+	 */
+	private void invalidateWithAncestors(IFigure figure) {
+		for (IFigure f = figure; f != null && f != this; f = f.getParent()) {
+			f.invalidate();
+		}
+	}
+
+	/**
+	 * Returns whether the layout of the children of this block has been deferred
+	 * since it was last validated.
+	 *
+	 * @return <code>true</code> if only an estimate of this block has been laid
+	 *         out
+	 * @see #deferLayout(int)
+	 */
+	boolean isLayoutDeferred() {
+		return layoutDeferred;
+	}
+
 	/**
 	 * Returns the effective horizontal alignment. This method will never return
 	 * {@link PositionConstants#NONE}. If the value is none, it will return the
@@ -239,12 +275,15 @@ public class BlockFlow extends FlowFigure {
 
 	/**
 	 * A Block will invalidate the Bidi state of all its children, so that it is
-	 * re-evaluated when this block is next validated.
+	 * re-evaluated when this block is next validated. The given figure and its
+	 * ancestors within this block are invalidated, so that only the lines starting
+	 * at the figure are laid out again.
 	 *
 	 * @see org.eclipse.draw2d.text.FlowFigure#revalidateBidi(org.eclipse.draw2d.IFigure)
 	 */
 	@Override
 	protected void revalidateBidi(IFigure origin) {
+		invalidateWithAncestors(origin);
 		if (bidiValid) {
 			bidiValid = false;
 			revalidate();
@@ -311,18 +350,33 @@ public class BlockFlow extends FlowFigure {
 
 	/**
 	 * Re-evaluate the Bidi state of all the fragments if it has been invalidated.
+	 * The children of a block whose layout has been deferred are not validated
+	 * until the block is invalidated.
 	 *
 	 * @see org.eclipse.draw2d.IFigure#validate()
 	 */
 	@Override
 	public void validate() {
+		if (isValid() && layoutDeferred) {
+			return;
+		}
+		layoutDeferred = false;
 		if (!bidiValid) {
 			BidiProcessor.INSTANCE.setOrientation(getOrientation());
 			if (getOrientation() == SWT.LEFT_TO_RIGHT && isMirrored()) {
 				BidiProcessor.INSTANCE.addControlChar(BidiChars.LRE);
 			}
 			super.contributeBidi(BidiProcessor.INSTANCE);
-			BidiProcessor.INSTANCE.process();
+			BidiProcessor.INSTANCE.process(levelCache);
+			boolean bidi = BidiProcessor.INSTANCE.requiredBidi;
+			if (requiresBidi && !bidi) {
+				// The Bidi levels of all children have been reset
+				((BlockFlowLayout) getLayoutManager()).invalidateAllLines();
+			} else {
+				// Only the lines of the children whose levels have changed are laid out again
+				levelCache.getChangedFigures().forEach(this::invalidateWithAncestors);
+			}
+			requiresBidi = bidi;
 			bidiValid = true;
 		}
 		super.validate();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,9 +12,14 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
 
 import org.eclipse.pde.api.tools.annotations.NoExtend;
 
@@ -25,6 +30,14 @@ import org.eclipse.draw2d.geometry.Insets;
 
 /**
  * The layout for {@link BlockFlow} figures.
+ * <P>
+ * The layout is incremental. When only some children of the block have changed,
+ * the lines are laid out again starting at the last child before the first
+ * changed child at which the layout can be resumed, i.e. a child following a
+ * nested {@link BlockFlow} on an empty line. As soon as the layout reaches such a
+ * child behind the last changed child in the same state as during the previous
+ * layout, the lines of the remaining children are only moved up or down instead
+ * of being laid out again.
  *
  * <P>
  * WARNING: This class is not intended to be subclassed by clients.
@@ -35,10 +48,65 @@ import org.eclipse.draw2d.geometry.Insets;
 @NoExtend
 public class BlockFlowLayout extends FlowContainerLayout {
 
+	/**
+	 * The state of the layout just before a child of the block is laid out.
+	 */
+	private static final class ChildState {
+		/** The child, or <code>null</code> for the state after the last child. */
+		final IFigure child;
+		/** Whether the layout can be resumed at this state. */
+		final boolean resumable;
+		final CompositeBox previousLine;
+		final boolean continueOnSameLine;
+		final int bottomMargin;
+		int lineBottom;
+		int width;
+		int height;
+		/** The maximum width of the lines added while laying out the child. */
+		int lineWidth;
+
+		ChildState(IFigure child, boolean resumable, CompositeBox previousLine, boolean continueOnSameLine,
+				int width, int height) {
+			this.child = child;
+			this.resumable = resumable;
+			this.previousLine = previousLine;
+			this.continueOnSameLine = continueOnSameLine;
+			this.width = width;
+			this.height = height;
+			if (previousLine != null) {
+				bottomMargin = previousLine.getBottomMargin();
+				lineBottom = previousLine.getBaseline() + previousLine.getDescent();
+			} else {
+				bottomMargin = 0;
+			}
+		}
+
+		boolean isInSameState(ChildState other) {
+			return resumable && other.resumable && continueOnSameLine == other.continueOnSameLine
+					&& (previousLine == null) == (other.previousLine == null) && bottomMargin == other.bottomMargin;
+		}
+	}
+
+	/**
+	 * The properties of the block which affect all of its lines.
+	 */
+	private record BlockProperties(Font font, int alignment, int orientation, boolean mirrored, Insets insets) {
+	}
+
 	BlockBox blockBox;
 	boolean blockInvalid = false;
 	private boolean continueOnSameLine = false;
 	private CompositeBox previousLine = null;
+	/** Whether all lines must be laid out again on the next layout. */
+	private boolean reflowAll = true;
+	private BlockProperties properties;
+	/** The states recorded during the last layout, one per child and a final one. */
+	private List<ChildState> childStates = Collections.emptyList();
+	private ChildState currentState;
+	/** The height of the lines of the block, without the insets. */
+	private int contentHeight;
+	private int postValidateStart;
+	private int postValidateEnd;
 
 	/**
 	 * Creates a new BlockFlowLayout with the given BlockFlow.
@@ -80,6 +148,9 @@ public class BlockFlowLayout extends FlowContainerLayout {
 		}
 		blockBox.add(line);
 		previousLine = line;
+		if (currentState != null) {
+			currentState.lineWidth = Math.max(currentState.lineWidth, line.getWidth());
+		}
 	}
 
 	/**
@@ -116,6 +187,7 @@ public class BlockFlowLayout extends FlowContainerLayout {
 	protected void cleanup() {
 		super.cleanup();
 		previousLine = null;
+		currentState = null;
 	}
 
 	/**
@@ -133,6 +205,7 @@ public class BlockFlowLayout extends FlowContainerLayout {
 	 */
 	protected void endBlock() {
 		if (blockInvalid) {
+			contentHeight = blockBox.height;
 			Insets insets = getBlockFlow().getInsets();
 			blockBox.height += insets.getHeight();
 			blockBox.width += insets.getWidth();
@@ -144,7 +217,10 @@ public class BlockFlowLayout extends FlowContainerLayout {
 
 		if (blockInvalid) {
 			blockInvalid = false;
-			getFlowFigure().getChildren().forEach(child -> ((FlowFigure) child).postValidate());
+			List<? extends IFigure> children = getFlowFigure().getChildren();
+			for (int i = postValidateStart; i < postValidateEnd && i < children.size(); i++) {
+				((FlowFigure) children.get(i)).postValidate();
+			}
 		}
 	}
 
@@ -212,6 +288,216 @@ public class BlockFlowLayout extends FlowContainerLayout {
 		}
 	}
 
+	/**
+	 * Marks all lines of the block as invalid, so that all children are laid out
+	 * again during the next layout, instead of only the changed ones.
+	 */
+	void invalidateAllLines() {
+		reflowAll = true;
+	}
+
+	/**
+	 * Lays out the children which have changed since the last layout, and the
+	 * children whose lines depend on them. Children which are not valid, and
+	 * children which have been added since the last layout, have changed.
+	 *
+	 * @see FlowContainerLayout#layoutChildren()
+	 */
+	@Override
+	protected void layoutChildren() {
+		List<? extends IFigure> children = getFlowFigure().getChildren();
+		int size = children.size();
+		BlockFlow block = getBlockFlow();
+		BlockProperties newProperties = new BlockProperties(block.getFont(), block.getHorizontalAligment(),
+				block.getOrientation(), block.isMirrored(), new Insets(block.getInsets()));
+		boolean reflow = reflowAll || childStates.isEmpty() || !newProperties.equals(properties);
+		properties = newProperties;
+		reflowAll = false;
+
+		int firstChanged = size;
+		int lastChanged = -1;
+		int oldSize = childStates.size() - 1;
+		int prefix = 0;
+		int suffix = 0;
+		if (!reflow) {
+			// The children at the start and at the end of the block which are the same
+			// as during the last layout
+			while (prefix < size && prefix < oldSize && childStates.get(prefix).child == children.get(prefix)) {
+				prefix++;
+			}
+			while (suffix < size - prefix && suffix < oldSize - prefix
+					&& childStates.get(oldSize - 1 - suffix).child == children.get(size - 1 - suffix)) {
+				suffix++;
+			}
+			boolean childrenChanged = prefix < size || size != oldSize;
+			if (childrenChanged) {
+				firstChanged = prefix;
+				lastChanged = size - suffix - 1;
+			}
+			for (int i = 0; i < size; i++) {
+				if (!((FlowFigure) children.get(i)).isLayoutValid()) {
+					firstChanged = Math.min(firstChanged, i);
+					lastChanged = Math.max(lastChanged, i);
+				}
+			}
+			if (firstChanged == size && !childrenChanged) {
+				if (!blockInvalid) {
+					// Nothing has changed, the lines are kept
+					postValidateStart = postValidateEnd = 0;
+					return;
+				}
+				reflow = true;
+			}
+		}
+
+		int start = 0;
+		if (reflow) {
+			blockBox.height = 0;
+			blockBox.setWidth(Math.max(0, blockBox.getRecommendedWidth()));
+		} else {
+			start = firstChanged;
+			while (!childStates.get(start).resumable) {
+				start--;
+			}
+			ChildState state = childStates.get(start);
+			blockBox.setWidth(state.width);
+			blockBox.height = state.height;
+			previousLine = state.previousLine;
+			setContinueOnSameLine(state.continueOnSameLine);
+			currentLine = null;
+		}
+		blockInvalid = true;
+		postValidateStart = start;
+		postValidateEnd = size;
+
+		List<ChildState> states = new ArrayList<>(size + 1);
+		states.addAll(childStates.subList(0, start));
+		for (int i = start; i < size; i++) {
+			IFigure child = children.get(i);
+			currentState = recordState(child, i == 0 || children.get(i - 1) instanceof BlockFlow);
+			int oldIndex = i - size + oldSize;
+			if (!reflow && i > lastChanged && i >= size - suffix
+					&& currentState.isInSameState(childStates.get(oldIndex))) {
+				// The remaining lines are the same as before, except for their location
+				states.add(currentState);
+				int delta = currentState.lineBottom - childStates.get(oldIndex).lineBottom;
+				resumeFrom(childStates.subList(oldIndex, oldSize + 1), states, delta);
+				if (delta != 0) {
+					Set<FlowBox> moved = new HashSet<>();
+					for (int j = i; j < size; j++) {
+						moveLines((FlowFigure) children.get(j), delta, moved);
+					}
+				} else {
+					postValidateEnd = i;
+				}
+				childStates = states;
+				currentState = null;
+				return;
+			}
+			states.add(currentState);
+			if (reflow && child instanceof BlockFlow) {
+				((BlockFlowLayout) child.getLayoutManager()).invalidateAllLines();
+			}
+			layoutChild(child);
+		}
+		currentState = recordState(null, size == 0 || children.get(size - 1) instanceof BlockFlow);
+		states.add(currentState);
+		childStates = states;
+	}
+
+	/**
+	 * Lays out the given child of the block.
+	 */
+	void layoutChild(IFigure child) {
+		child.invalidate();
+		child.validate();
+	}
+
+	/**
+	 * Adds the block to its context as a single box of the given height, without
+	 * laying out its children. All lines of the block are laid out the next time
+	 * the block is validated.
+	 *
+	 * @param height the estimated height of the lines of the block
+	 */
+	void deferLayout(int height) {
+		blockBox = getBlockFlow().getBlockBox();
+		setupBlock();
+		reflowAll = true;
+		blockInvalid = false;
+		Insets insets = getBlockFlow().getInsets();
+		blockBox.height = height + insets.getHeight();
+		blockBox.setWidth(Math.max(0, blockBox.getRecommendedWidth()) + insets.getWidth());
+		getContext().addLine(blockBox);
+	}
+
+	/**
+	 * Records the current state of the layout. The layout can be resumed at a
+	 * child if the current line is empty and the child is the first one or follows
+	 * a block. Children never look ahead beyond a block, so the layout of the
+	 * children before such a child doesn't depend on it.
+	 */
+	private ChildState recordState(IFigure child, boolean startsBlock) {
+		boolean resumable = startsBlock && (currentLine == null || !currentLine.isOccupied());
+		return new ChildState(child, resumable, previousLine, getContinueOnSameLine(), blockBox.getWidth(),
+				blockBox.height);
+	}
+
+	/**
+	 * Takes the states of the children which are not laid out again from the last
+	 * layout, and sets the extent of the block accordingly.
+	 */
+	private void resumeFrom(List<ChildState> oldStates, List<ChildState> states, int delta) {
+		ChildState first = states.get(states.size() - 1);
+		first.lineWidth = oldStates.get(0).lineWidth;
+		int width = first.width;
+		int height = first.height;
+		for (int i = 1; i < oldStates.size(); i++) {
+			width = Math.max(width, oldStates.get(i - 1).lineWidth);
+			ChildState state = oldStates.get(i);
+			state.width = width;
+			state.height = Math.max(first.height, state.height + delta);
+			state.lineBottom += delta;
+			states.add(state);
+		}
+		blockBox.setWidth(Math.max(width, oldStates.get(oldStates.size() - 1).lineWidth));
+		blockBox.height = Math.max(height, contentHeight + delta);
+	}
+
+	/**
+	 * Moves the lines of the given child of the block by the given distance. The
+	 * children of a {@link FlowAdapter} are not part of the flow, they are placed
+	 * relative to its box when it is post-validated.
+	 */
+	private static void moveLines(FlowFigure figure, int delta, Set<FlowBox> moved) {
+		if (figure instanceof BlockFlow blockFlow) {
+			BlockBox box = blockFlow.getBlockBox();
+			box.setLineTop(box.getBaseline() + delta);
+		} else if (figure instanceof FlowAdapter adapter) {
+			moveLine(adapter.getContentBox(), delta, moved);
+		} else if (figure instanceof InlineFlow inlineFlow) {
+			for (FlowBox fragment : inlineFlow.getFragments()) {
+				moveLine(fragment, delta, moved);
+			}
+			for (IFigure child : figure.getChildren()) {
+				if (child instanceof FlowFigure flowChild) {
+					moveLines(flowChild, delta, moved);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Moves the line of the given fragment by the given distance, unless it has
+	 * already been moved.
+	 */
+	private static void moveLine(FlowBox fragment, int delta, Set<FlowBox> moved) {
+		LineRoot root = fragment.getLineRoot();
+		if (root != null && moved.add(root)) {
+			root.setBaseline(root.getBaseline() + delta);
+		}
+	}
+
 	/**
 	 * @see FlowContainerLayout#preLayout()
 	 */
@@ -247,6 +533,7 @@ public class BlockFlowLayout extends FlowContainerLayout {
 
 		if (recommended != blockBox.recommendedWidth) {
 			blockInvalid = true;
+			reflowAll = true;
 			blockBox.setRecommendedWidth(recommended);
 		}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -137,6 +137,13 @@ public class FlowAdapter extends FlowFigure {
 		context = flowContext;
 	}
 
+	/**
+	 * Returns the box which represents this figure in its line.
+	 */
+	FlowBox getContentBox() {
+		return box;
+	}
+
 	/**
 	 * Do not validate children.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -111,6 +111,15 @@ public abstract class FlowFigure extends Figure {
 	 */
 	public abstract void postValidate();
 
+	/**
+	 * Returns whether this figure has been laid out since it was last invalidated.
+	 *
+	 * @return <code>true</code> if this figure is valid
+	 */
+	boolean isLayoutValid() {
+		return isValid();
+	}
+
 	/**
 	 * Overridden to revalidateBidi when fragments are removed.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,8 +12,15 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import java.beans.PropertyChangeListener;
+import java.util.List;
+
 import org.eclipse.pde.api.tools.annotations.NoExtend;
 
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.ViewportUtilities;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 
@@ -24,6 +31,10 @@ import org.eclipse.draw2d.geometry.Rectangle;
  * A FlowPage will not have a defined width unless it is inside a figure whose
  * layout provides width hints when calling
  * {@link org.eclipse.draw2d.IFigure#getPreferredSize(int, int)}.
+ * <P>
+ * A FlowPage inside a {@link Viewport} can be {@link #setVirtualized(boolean)
+ * virtualized}, so that only the blocks close to the visible region are laid
+ * out.
  *
  * <P>
  * WARNING: This class is not intended to be subclassed by clients.
@@ -35,6 +46,10 @@ public class FlowPage extends BlockFlow {
 	private int recommendedWidth;
 	private final int pageSizeCacheKeys[] = new int[3];
 	private Dimension pageSizeCacheValues[] = new Dimension[3];
+	private boolean virtualized;
+	private Viewport viewport;
+	private final PropertyChangeListener viewLocationListener = event -> layoutVisibleBlocks();
+	private final FigureListener viewportListener = source -> layoutVisibleBlocks();
 
 	/**
 	 * @see org.eclipse.draw2d.Figure#addNotify()
@@ -43,6 +58,14 @@ public class FlowPage extends BlockFlow {
 	public void addNotify() {
 		super.addNotify();
 		setValid(false);
+		viewport = ViewportUtilities.getNearestEnclosingViewport(this);
+		if (viewport != null) {
+			viewport.addPropertyChangeListener(Viewport.PROPERTY_VIEW_LOCATION, viewLocationListener);
+			viewport.addFigureListener(viewportListener);
+		}
+		if (virtualized) {
+			((BlockFlowLayout) getLayoutManager()).invalidateAllLines();
+		}
 	}
 
 	/**
@@ -101,10 +124,68 @@ public class FlowPage extends BlockFlow {
 		return pageSizeCacheValues[0];
 	}
 
+	/**
+	 * Returns the region of this page whose blocks are laid out, in the coordinates
+	 * of its children. The region extends the visible region of the page by its
+	 * height above and below.
+	 *
+	 * @return the region, or <code>null</code> if all blocks are laid out
+	 */
+	Rectangle getLayoutRegion() {
+		if (!virtualized || viewport == null || viewport.getContents() == null) {
+			return null;
+		}
+		Rectangle region = viewport.getClientArea();
+		viewport.getContents().translateToAbsolute(region);
+		translateToRelative(region);
+		translateFromParent(region);
+		return region.expand(0, region.height);
+	}
+
 	int getPageWidth() {
 		return recommendedWidth;
 	}
 
+	/**
+	 * Returns whether only the blocks close to the visible region of this page are
+	 * laid out.
+	 *
+	 * @return <code>true</code> if this page is virtualized
+	 * @see #setVirtualized(boolean)
+	 * @since 3.24
+	 */
+	public boolean isVirtualized() {
+		return virtualized;
+	}
+
+	/**
+	 * Revalidates the blocks of this page in the region to lay out, whose layout
+	 * has been deferred.
+	 */
+	private void layoutVisibleBlocks() {
+		Rectangle region = getLayoutRegion();
+		if (region == null) {
+			return;
+		}
+		List<? extends IFigure> children = getChildren();
+		// The children are sorted from top to bottom
+		int low = 0;
+		int high = children.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (children.get(mid).getBounds().bottom() <= region.y) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		for (int i = low; i < children.size() && children.get(i).getBounds().y < region.bottom(); i++) {
+			if (children.get(i) instanceof BlockFlow block && block.isLayoutDeferred()) {
+				block.revalidate();
+			}
+		}
+	}
+
 	/**
 	 * @see BlockFlow#postValidate()
 	 */
@@ -114,6 +195,8 @@ public class FlowPage extends BlockFlow {
 		pageSize.width = r.width;
 		pageSize.height = r.height;
 		getChildren().forEach(child -> ((FlowFigure) child).postValidate());
+		// Blocks laid out may have moved other blocks into the visible region
+		layoutVisibleBlocks();
 	}
 
 	/**
@@ -123,6 +206,11 @@ public class FlowPage extends BlockFlow {
 	 */
 	@Override
 	public void removeNotify() {
+		if (viewport != null) {
+			viewport.removePropertyChangeListener(Viewport.PROPERTY_VIEW_LOCATION, viewLocationListener);
+			viewport.removeFigureListener(viewportListener);
+			viewport = null;
+		}
 		super.removeNotify();
 		setValid(true);
 	}
@@ -152,6 +240,29 @@ public class FlowPage extends BlockFlow {
 		super.invalidate();
 	}
 
+	/**
+	 * Sets whether only the blocks close to the visible region of this page are
+	 * laid out. The visible region is the client area of the nearest enclosing
+	 * {@link Viewport}. Each {@link BlockFlow} child of a virtualized page outside
+	 * of this region takes an estimated height until it is scrolled into view.
+	 * The estimates are replaced by the actual heights as the blocks are laid out.
+	 * <p>
+	 * The fragments of the children of a block which has not been laid out are
+	 * undefined. Pages which are not in a viewport are always laid out in full.
+	 * The default value is <code>false</code>.
+	 *
+	 * @param virtualized <code>true</code> to lay out only the visible blocks
+	 * @since 3.24
+	 */
+	public void setVirtualized(boolean virtualized) {
+		if (this.virtualized == virtualized) {
+			return;
+		}
+		this.virtualized = virtualized;
+		((BlockFlowLayout) getLayoutManager()).invalidateAllLines();
+		revalidate();
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.Figure#validate()
 	 */
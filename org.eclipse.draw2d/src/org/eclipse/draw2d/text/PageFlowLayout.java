@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,17 +12,35 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontMetrics;
+
 import org.eclipse.pde.api.tools.annotations.NoExtend;
 
+import org.eclipse.draw2d.FigureUtilities;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
 /**
  * A block layout which requires no FlowContext to perform its layout. This
  * class is used by {@link FlowPage}.
  * <p>
+ * If the page is {@link FlowPage#setVirtualized(boolean) virtualized}, the
+ * blocks of the page outside of its visible region are not laid out. They take
+ * an estimated height, based on the number of characters they contain and on the
+ * height per character of the blocks laid out so far.
+ * <p>
  * WARNING: This class is not intended to be subclassed by clients.
  */
 @NoExtend
 public class PageFlowLayout extends BlockFlowLayout {
 
+	/** The total height and number of characters of the blocks laid out. */
+	private long measuredHeight;
+	private long measuredChars;
+	/** The width at which the blocks have been measured. */
+	private int measuredWidth;
+
 	/**
 	 * Creates a new PageFlowLayout with the given FlowPage
 	 *
@@ -40,4 +58,67 @@ public class PageFlowLayout extends BlockFlowLayout {
 		return ((FlowPage) getFlowFigure()).getPageWidth();
 	}
 
+	/**
+	 * Lays out the given child, or only adds an estimate of it if it is a block
+	 * outside of the region of the page to lay out.
+	 *
+	 * @see BlockFlowLayout#layoutChild(IFigure)
+	 */
+	@Override
+	void layoutChild(IFigure child) {
+		Rectangle region = ((FlowPage) getFlowFigure()).getLayoutRegion();
+		if (region == null || !(child instanceof BlockFlow block)) {
+			super.layoutChild(child);
+			return;
+		}
+		if (measuredWidth != blockBox.getRecommendedWidth()) {
+			measuredWidth = blockBox.getRecommendedWidth();
+			measuredHeight = measuredChars = 0;
+		}
+		int chars = countCharacters(block);
+		// A deferred block is invalidated once it is visible, or if it has changed
+		if (!block.isLayoutDeferred() || block.isLayoutValid()) {
+			int top = blockBox.height;
+			int estimate = estimateHeight(block, chars);
+			if (estimate >= 0 && (top >= region.bottom() || top + estimate <= region.y)) {
+				block.deferLayout(estimate);
+				return;
+			}
+		}
+		super.layoutChild(child);
+		measuredHeight += block.getBlockBox().getHeight() - block.getInsets().getHeight();
+		measuredChars += chars;
+	}
+
+	/**
+	 * Returns the estimated height of the lines of the given block, or -1 if it
+	 * can't be estimated.
+	 */
+	private int estimateHeight(BlockFlow block, int chars) {
+		if (measuredChars > 0) {
+			return (int) (chars * measuredHeight / measuredChars);
+		}
+		Font font = block.getFont();
+		if (font == null) {
+			return -1;
+		}
+		FontMetrics metrics = FigureUtilities.getFontMetrics(font);
+		int lines = 1;
+		if (measuredWidth > 0) {
+			lines = Math.max(1, (int) Math.ceil(chars * metrics.getAverageCharacterWidth() / measuredWidth));
+		}
+		return lines * metrics.getHeight();
+	}
+
+	private static int countCharacters(IFigure figure) {
+		if (figure instanceof TextFlow textFlow) {
+			return textFlow.getText().length();
+		}
+		int count = 0;
+		for (IFigure child : figure.getChildren()) {
+			count += countCharacters(child);
+		}
+		return count;
+	}
+
 }
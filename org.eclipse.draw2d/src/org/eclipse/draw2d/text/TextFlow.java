@@ -22,6 +22,7 @@ import org.eclipse.pde.api.tools.annotations.NoExtend;
 
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.LevelOfDetail;
 import org.eclipse.draw2d.LightweightSystem;
 import org.eclipse.draw2d.TextUtilities;
 import org.eclipse.draw2d.geometry.Dimension;
@@ -556,6 +557,9 @@ public class TextFlow extends InlineFlow {
 	 */
 	@Override
 	protected void paintFigure(Graphics g) {
+		if (getLevelOfDetail(g) != LevelOfDetail.FULL) {
+			return;
+		}
 		TextFragmentBox frag;
 		g.getClip(Rectangle.SINGLETON);
 		int yStart = Rectangle.SINGLETON.y;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,12 +12,21 @@
 package org.eclipse.zest.cloudio;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EventListener;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseEvent;
@@ -51,7 +60,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.zest.cloudio.layout.DefaultLayouter;
 import org.eclipse.zest.cloudio.layout.ILayouter;
-import org.eclipse.zest.cloudio.util.CloudMatrix;
+import org.eclipse.zest.cloudio.util.BitSetCloudMatrix;
 import org.eclipse.zest.cloudio.util.RectTree;
 import org.eclipse.zest.cloudio.util.SmallRect;
 
@@ -109,16 +118,25 @@ public class TagCloud extends Canvas {
 	private Image textLayerImage;
 
 	/**
-	 * Second level image: All Elements plus selected elements in highlight color.
+	 * The unzoomed size of the cloud, or <code>null</code> if nothing is
+	 * displayed.
 	 */
+	private Point cloudSize;
 
-	private Image selectionLayerImage;
+	/**
+	 * All elements plus selected elements in highlight color, zoomed. Only the visible part is
+	 * rendered, as tiles of <code>TILE_SIZE</code> pixels. The tiles are kept in
+	 * the order of their last use, the least recently used ones are disposed when
+	 * more tiles than needed to fill the client area twice are cached.
+	 */
+	private final LinkedHashMap<Point, Image> zoomTiles = new LinkedHashMap<>(16, 0.75f, true);
+
+	private static final int TILE_SIZE = 256;
 
 	/**
-	 * Last level image: All + selected elements, zoomed. This is the image which
-	 * will be displayed.
+	 * The size of the zoomed cloud, or <code>null</code> if nothing is displayed.
 	 */
-	private Image zoomLayerImage;
+	private Point zoomedSize;
 
 	/**
 	 * The list of words to render.
@@ -142,7 +160,17 @@ public class TagCloud extends Canvas {
 	 */
 	private Set<Word> selection = new HashSet<>();
 
-	private CloudMatrix cloudMatrix;
+	private BitSetCloudMatrix cloudMatrix;
+
+	/**
+	 * The key of the image each word was last measured with.
+	 */
+	private final Map<Word, RenderingKey> extentKeys = new IdentityHashMap<>();
+
+	/**
+	 * The words which are currently placed in the cloud matrix.
+	 */
+	private final Set<Word> placedWords = Collections.newSetFromMap(new IdentityHashMap<>());
 
 	private ILayouter layouter;
 
@@ -255,12 +283,7 @@ public class TagCloud extends Canvas {
 	private void internalDispose() {
 		removeListeners();
 		textLayerImage.dispose();
-		if (selectionLayerImage != null) {
-			selectionLayerImage.dispose();
-		}
-		if (zoomLayerImage != null) {
-			zoomLayerImage.dispose();
-		}
+		disposeZoomTiles();
 		if (!this.isDisposed()) {
 			gc.dispose();
 		}
@@ -292,17 +315,7 @@ public class TagCloud extends Canvas {
 	 */
 	public void zoomReset() {
 		checkWidget();
-		if (selectionLayerImage == null) {
-			return;
-		}
-		zoomLayerImage = new Image(getDisplay(), selectionLayerImage.getBounds().width,
-				selectionLayerImage.getBounds().height);
-		GC gc = new GC(zoomLayerImage);
-		gc.drawImage(selectionLayerImage, 0, 0);
-		gc.dispose();
-		currentZoom = 1;
-		updateScrollbars();
-		redraw();
+		zoom(1);
 	}
 
 	public double getZoom() {
@@ -316,20 +329,19 @@ public class TagCloud extends Canvas {
 	 */
 	public void zoomFit() {
 		checkWidget();
-		if (selectionLayerImage == null) {
+		if (cloudSize == null) {
 			return;
 		}
-		Rectangle imageBound = selectionLayerImage.getBounds();
 		Rectangle destRect = getClientArea();
-		double sx = (double) destRect.width / (double) imageBound.width;
-		double sy = (double) destRect.height / (double) imageBound.height;
+		double sx = (double) destRect.width / (double) cloudSize.x;
+		double sy = (double) destRect.height / (double) cloudSize.y;
 		currentZoom = Math.min(sx, sy);
 		zoom(currentZoom);
 	}
 
 	private void zoom(double s) {
 		checkWidget();
-		if (selectionLayerImage == null) {
+		if (cloudSize == null) {
 			return;
 		}
 		if (s < 0.1) {
@@ -338,27 +350,95 @@ public class TagCloud extends Canvas {
 		if (s > 3) {
 			s = 3;
 		}
-		int width = (int) (selectionLayerImage.getBounds().width * s);
-		int height = (int) (selectionLayerImage.getBounds().height * s);
+		int width = (int) (cloudSize.x * s);
+		int height = (int) (cloudSize.y * s);
 		if (width == 0 || height == 0) {
 			return;
 		}
-		if (zoomLayerImage != null) {
-			zoomLayerImage.dispose();
-		}
-		zoomLayerImage = new Image(getDisplay(), width, height);
-		Transform tf = new Transform(getDisplay());
-		tf.scale((float) s, (float) s);
-		GC gc = new GC(zoomLayerImage);
-		gc.setTransform(tf);
-		gc.drawImage(selectionLayerImage, 0, 0);
-		gc.dispose();
-		tf.dispose();
+		disposeZoomTiles();
+		zoomedSize = new Point(width, height);
 		currentZoom = s;
 		updateScrollbars();
 		redraw();
 	}
 
+	private void disposeZoomTiles() {
+		for (Image tile : zoomTiles.values()) {
+			tile.dispose();
+		}
+		zoomTiles.clear();
+	}
+
+	/**
+	 * Paints the tiles of the zoomed cloud which intersect the given area of the
+	 * client area, rendering the ones which aren't cached yet.
+	 */
+	private void paintZoomTiles(GC gc, Rectangle area) {
+		Rectangle visible = area.intersection(new Rectangle(origin.x, origin.y, zoomedSize.x, zoomedSize.y));
+		if (visible.isEmpty()) {
+			return;
+		}
+		int firstColumn = (visible.x - origin.x) / TILE_SIZE;
+		int lastColumn = (visible.x + visible.width - 1 - origin.x) / TILE_SIZE;
+		int firstRow = (visible.y - origin.y) / TILE_SIZE;
+		int lastRow = (visible.y + visible.height - 1 - origin.y) / TILE_SIZE;
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				Point key = new Point(column, row);
+				Image tile = zoomTiles.get(key);
+				if (tile == null) {
+					tile = renderZoomTile(column, row);
+					zoomTiles.put(key, tile);
+				}
+				gc.drawImage(tile, origin.x + column * TILE_SIZE, origin.y + row * TILE_SIZE);
+			}
+		}
+		Rectangle client = getClientArea();
+		int maxTiles = 2 * (client.width / TILE_SIZE + 2) * (client.height / TILE_SIZE + 2);
+		Iterator<Image> tiles = zoomTiles.values().iterator();
+		while (zoomTiles.size() > maxTiles) {
+			tiles.next().dispose();
+			tiles.remove();
+		}
+	}
+
+	/**
+	 * Renders a tile of the zoomed cloud by drawing the words which intersect it at
+	 * the current zoom level. The selected words are drawn again in the highlight
+	 * color on top of all words.
+	 */
+	private Image renderZoomTile(int column, int row) {
+		int x = column * TILE_SIZE;
+		int y = row * TILE_SIZE;
+		int width = Math.min(TILE_SIZE, zoomedSize.x - x);
+		int height = Math.min(TILE_SIZE, zoomedSize.y - y);
+		Image tile = new Image(getDisplay(), width, height);
+		GC gc = new GC(tile);
+		gc.setBackground(getBackground());
+		gc.fillRectangle(0, 0, width, height);
+		Rectangle area = new Rectangle((int) (x / currentZoom) + regionOffset.x - 1,
+				(int) (y / currentZoom) + regionOffset.y - 1, (int) Math.ceil(width / currentZoom) + 2,
+				(int) Math.ceil(height / currentZoom) + 2);
+		Transform zoom = new Transform(getDisplay());
+		zoom.translate(-x, -y);
+		zoom.scale((float) currentZoom, (float) currentZoom);
+		List<Word> selected = new ArrayList<>();
+		for (Word word : wordsToUse) {
+			if (placedWords.contains(word) && area.intersects(word.x, word.y, word.width, word.height)) {
+				drawWord(gc, word, word.getColor(), zoom);
+				if (selection.contains(word)) {
+					selected.add(word);
+				}
+			}
+		}
+		for (Word word : selected) {
+			drawWord(gc, word, highlightColor, zoom);
+		}
+		zoom.dispose();
+		gc.dispose();
+		return tile;
+	}
+
 	/**
 	 * Zooms in, by the factor of 10 percent.
 	 */
@@ -405,6 +485,14 @@ public class TagCloud extends Canvas {
 	 * @param color
 	 */
 	private void drawWord(final GC gc, final Word word, final Color color) {
+		drawWord(gc, word, color, null);
+	}
+
+	/**
+	 * Draws a word with the given color, applying the given transformation (which
+	 * may be <code>null</code>) to the position of the word in the text layer.
+	 */
+	private void drawWord(final GC gc, final Word word, final Color color, Transform base) {
 		gc.setForeground(color);
 		Font font = new Font(gc.getDevice(), word.getFontData());
 		gc.setFont(font);
@@ -420,6 +508,11 @@ public class TagCloud extends Canvas {
 
 		int y = (int) ((cos * stringExtent.y) + (sin * stringExtent.x));
 		Transform t = new Transform(gc.getDevice());
+		if (base != null) {
+			float[] elements = new float[6];
+			base.getElements(elements);
+			t.setElements(elements[0], elements[1], elements[2], elements[3], elements[4], elements[5]);
+		}
 		if (word.angle < 0) {
 			t.translate(xOffset, yOffset + y - (int) (cos * stringExtent.y));
 		} else {
@@ -436,6 +529,13 @@ public class TagCloud extends Canvas {
 	/**
 	 * Calculates the bounds of each word, by determining the {@link Rectangle} a
 	 * {@link Path} would require to render an element.
+	 * <p>
+	 * Only the measuring and rendering of the words is done on the UI thread.
+	 * Words with the same font share the same {@link Font}, and words with the
+	 * same text, font and angle share the same rendered image. The pixels of each
+	 * image are scanned and the {@link RectTree}s of its words are built in the
+	 * background as soon as it is rendered.
+	 * </p>
 	 *
 	 * @param monitor
 	 */
@@ -447,51 +547,120 @@ public class TagCloud extends Canvas {
 		if (wordsToUse == null) {
 			return;
 		}
-		double step = 80D / wordsToUse.size();
+		extentKeys.clear();
+		measureWords(wordsToUse, monitor);
+		Collections.sort(wordsToUse, (o1, o2) -> (o2.width * o2.height) - (o1.width * o1.height));
+		short i = 1;
+		for (Word word : wordsToUse) {
+			word.id = i;
+			i++;
+		}
+	}
+
+	/**
+	 * Measures the given words and creates their {@link RectTree}s.
+	 */
+	private void measureWords(List<Word> words, IProgressMonitor monitor) {
+		double step = 80D / words.size();
 		double current = 0;
 		int next = 10;
 		final Color color = gc.getDevice().getSystemColor(SWT.COLOR_BLACK);
-		for (final Word word : wordsToUse) {
-			FontData[] fontData = word.getFontData();
-			int fontSize = (int) getFontSize(word);
-			for (FontData data : fontData) {
-				data.setHeight(fontSize);
-			}
-			final Font font = new Font(gc.getDevice(), fontData);
-			gc.setFont(font);
-			final Point stringExtent = gc.stringExtent(word.string);
-			FontMetrics fm = gc.getFontMetrics();
-			stringExtent.y = fm.getHeight();
-			double radian = Math.toRadians(word.angle);
-			final double sin = Math.abs(Math.sin(radian));
-			final double cos = Math.abs(Math.cos(radian));
-			final int x = (int) ((cos * stringExtent.x) + (sin * stringExtent.y));
-			final int y = (int) ((cos * stringExtent.y) + (sin * stringExtent.x));
-			ImageData id = createImageData(word, font, stringExtent, sin, cos, x, y, color);
-			calcWordExtents(word, id);
-			font.dispose();
-			if (monitor != null) {
-				current += step;
-				if (current > next) {
-					monitor.worked(5);
-					next += 5;
+		final Map<List<FontData>, Font> fonts = new HashMap<>();
+		final Map<RenderingKey, Rendering> renderings = new HashMap<>();
+		final List<CompletableFuture<Void>> trees = new ArrayList<>();
+		try {
+			for (final Word word : words) {
+				int fontSize = (int) getFontSize(word);
+				for (FontData data : word.getFontData()) {
+					data.setHeight(fontSize);
+				}
+				RenderingKey key = getRenderingKey(word);
+				extentKeys.put(word, key);
+				Rendering rendering = renderings.get(key);
+				if (rendering == null) {
+					Font font = fonts.computeIfAbsent(key.fontData(),
+							fontData -> new Font(gc.getDevice(), fontData.toArray(new FontData[fontData.size()])));
+					rendering = render(word, font, color);
+					renderings.put(key, rendering);
+				}
+				word.width = rendering.width();
+				word.height = rendering.height();
+				word.stringExtent = new Point(rendering.stringExtent().x, rendering.stringExtent().y);
+				final int treeSize = rendering.treeSize();
+				trees.add(rendering.extents().thenAccept(extents -> {
+					SmallRect root = new SmallRect(0, 0, treeSize, treeSize);
+					word.tree = createTree(root, extents, word.id);
+				}));
+				if (monitor != null) {
+					current += step;
+					if (current > next) {
+						monitor.worked(5);
+						next += 5;
+					}
 				}
 			}
+		} finally {
+			fonts.values().forEach(Font::dispose);
 		}
-		Collections.sort(wordsToUse, (o1, o2) -> (o2.width * o2.height) - (o1.width * o1.height));
-		short i = 1;
-		for (Word word : wordsToUse) {
-			word.id = i;
-			i++;
+		CompletableFuture.allOf(trees.toArray(new CompletableFuture[trees.size()])).join();
+	}
+
+	/**
+	 * Identifies words which are rendered to the same image.
+	 */
+	private record RenderingKey(String string, List<FontData> fontData, float angle) {
+	}
+
+	/**
+	 * Returns the key of the image the given word is rendered to, using the font
+	 * size derived from its current weight.
+	 */
+	private RenderingKey getRenderingKey(Word word) {
+		int fontSize = (int) getFontSize(word);
+		List<FontData> fontData = new ArrayList<>();
+		for (FontData data : word.getFontData()) {
+			FontData copy = new FontData(data.toString());
+			copy.setHeight(fontSize);
+			fontData.add(copy);
 		}
+		return new RenderingKey(word.string, fontData, word.angle);
+	}
+
+	/**
+	 * The measured extent of a word and the occupied cells of its rendered image,
+	 * which are computed in the background.
+	 */
+	private record Rendering(Point stringExtent, int width, int height, int treeSize,
+			CompletableFuture<List<SmallRect>> extents) {
+	}
+
+	/**
+	 * Renders the given word and starts to scan its image in the background. The
+	 * image is only referenced until it has been scanned.
+	 */
+	private Rendering render(final Word word, Font font, Color color) {
+		gc.setFont(font);
+		final Point stringExtent = gc.stringExtent(word.string);
+		FontMetrics fm = gc.getFontMetrics();
+		stringExtent.y = fm.getHeight();
+		double radian = Math.toRadians(word.angle);
+		final double sin = Math.abs(Math.sin(radian));
+		final double cos = Math.abs(Math.cos(radian));
+		final int x = (int) ((cos * stringExtent.x) + (sin * stringExtent.y));
+		final int y = (int) ((cos * stringExtent.y) + (sin * stringExtent.x));
+		ImageData id = createImageData(word, font, stringExtent, sin, cos, x, y, color);
+		int max = Math.max(x, y);
+		int tmp = maxSize;
+		while (max < tmp) {
+			tmp = tmp / 2;
+		}
+		tmp = tmp * 2;
+		return new Rendering(stringExtent, x, y, tmp, CompletableFuture.supplyAsync(() -> calcWordExtents(id)));
 	}
 
 	private ImageData createImageData(final Word word, Font font, Point stringExtent, final double sin,
 			final double cos, int x, int y, Color color) {
 		Image img = new Image(null, x, y);
-		word.width = x;
-		word.height = y;
-		word.stringExtent = stringExtent;
 		GC g = new GC(img);
 		g.setAntialias(antialias);
 		g.setForeground(color);
@@ -507,14 +676,6 @@ public class TagCloud extends Canvas {
 		// Why is drawString sooo slow? between 30 and 90 percent of the whole
 		// draw time...
 		g.drawString(word.string, 0, 0, false);
-		int max = Math.max(x, y);
-		int tmp = maxSize;
-		while (max < tmp) {
-			tmp = tmp / 2;
-		}
-		tmp = tmp * 2;
-		SmallRect root = new SmallRect(0, 0, tmp, tmp);
-		word.tree = new RectTree(root, accuracy);
 		final ImageData id = img.getImageData();
 		t.dispose();
 		g.dispose();
@@ -523,12 +684,15 @@ public class TagCloud extends Canvas {
 	}
 
 	/**
-	 * Calculates the extents of a word, based on its rendered image.
+	 * Calculates the extents of a word, based on its rendered image. This method
+	 * doesn't access any widget and may be called from any thread.
+	 *
+	 * @return the occupied cells of the image, in the order they are found
 	 */
-	private void calcWordExtents(final Word word, final ImageData id) {
+	private List<SmallRect> calcWordExtents(final ImageData id) {
 		final int[] pixels = new int[id.width];
 		final PaletteData palette = id.palette;
-		Set<SmallRect> inserted = new HashSet<>();
+		Set<SmallRect> inserted = new LinkedHashSet<>();
 		for (int y = 0; y < id.height; y++) {
 			id.getPixels(0, y, id.width, pixels, 0);
 			for (int i = 0; i < pixels.length; i++) {
@@ -541,17 +705,22 @@ public class TagCloud extends Canvas {
 				int b = pixel & palette.blueMask;
 				b = (palette.blueShift < 0) ? b >>> -palette.blueShift : b << palette.blueShift;
 				if (r < 250 || g < 250 || b < 250) {
-					SmallRect rect = new SmallRect((i / accuracy) * accuracy, (y / accuracy) * accuracy, accuracy,
-							accuracy);
-					if (!inserted.contains(rect)) {
-						word.tree.insert(rect, word.id);
-						inserted.add(rect);
-					}
+					inserted.add(new SmallRect((i / accuracy) * accuracy, (y / accuracy) * accuracy, accuracy,
+							accuracy));
 					i += accuracy - 1;
 				}
 			}
 		}
-		word.tree.releaseRects();
+		return new ArrayList<>(inserted);
+	}
+
+	private RectTree createTree(SmallRect root, List<SmallRect> extents, short id) {
+		RectTree tree = new RectTree(root, accuracy);
+		for (SmallRect rect : extents) {
+			tree.insert(rect, id);
+		}
+		tree.releaseRects();
+		return tree;
 	}
 
 	/**
@@ -590,6 +759,7 @@ public class TagCloud extends Canvas {
 					continue;
 				}
 				success++;
+				placedWords.add(word);
 				if (word.x < r.x) {
 					r.x = word.x;
 				}
@@ -629,10 +799,7 @@ public class TagCloud extends Canvas {
 		tmpImage.dispose();
 		gc.dispose();
 		Rectangle textLayerBounds = textLayerImage.getBounds();
-		selectionLayerImage = new Image(getDisplay(), textLayerBounds.width, textLayerBounds.height);
-		gc = new GC(selectionLayerImage);
-		gc.drawImage(textLayerImage, 0, 0);
-		gc.dispose();
+		cloudSize = new Point(textLayerBounds.width, textLayerBounds.height);
 		zoomFit();
 		if (monitor != null) {
 			monitor.worked(10);
@@ -650,6 +817,87 @@ public class TagCloud extends Canvas {
 	 */
 	public int setWords(List<Word> values, IProgressMonitor monitor) {
 		checkWidget();
+		checkWords(values);
+		this.wordsToUse = new ArrayList<>(values);
+		boostWords(values);
+		return layoutCloud(monitor, true);
+	}
+
+	/**
+	 * Sets the given list as input of the tag cloud, like
+	 * {@link #setWords(List, IProgressMonitor)}, but keeps the layout of the words
+	 * which are already displayed. Words which are contained in the current input,
+	 * and whose string, font, weight and angle didn't change, keep their position.
+	 * The words which are no longer contained free the area they occupied, and
+	 * only the new or modified words are measured and placed. Words are compared
+	 * by identity, so the same {@link Word} instances must be passed again to keep
+	 * them. As the weights are boosted like in
+	 * {@link #setWords(List, IProgressMonitor)}, the weight of a kept word must be
+	 * reset to its original value before calling this method if boosting is
+	 * enabled.
+	 *
+	 * @param values
+	 * @param monitor may be <code>null</code>.
+	 * @return the number of words which are placed. If it is less than the size of
+	 *         <code>values</code>, some of the new or modified words could not be
+	 *         placed.
+	 * @since 2.1
+	 */
+	public int updateWords(List<Word> values, IProgressMonitor monitor) {
+		checkWidget();
+		checkWords(values);
+		if (wordsToUse == null || textLayerImage == null || textLayerImage.isDisposed() || placedWords.isEmpty()) {
+			return setWords(values, monitor);
+		}
+		boostWords(values);
+		Set<Word> newWords = Collections.newSetFromMap(new IdentityHashMap<>());
+		newWords.addAll(values);
+		List<Rectangle> removed = new ArrayList<>();
+		Set<Word> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Word word : wordsToUse) {
+			if (newWords.contains(word) && placedWords.contains(word)
+					&& getRenderingKey(word).equals(extentKeys.get(word))) {
+				kept.add(word);
+			} else if (placedWords.remove(word)) {
+				cloudMatrix.remove(word.tree);
+				removed.add(new Rectangle(word.x, word.y, word.width, word.height));
+			}
+		}
+		List<Word> added = new ArrayList<>();
+		for (Word word : values) {
+			if (!kept.contains(word)) {
+				added.add(word);
+			}
+		}
+		extentKeys.keySet().retainAll(newWords);
+		if (!added.isEmpty()) {
+			if (monitor != null) {
+				monitor.subTask(Messages.TagCloud_CalculatingWordBoundaries);
+			}
+			measureWords(added, monitor);
+			Collections.sort(added, (o1, o2) -> (o2.width * o2.height) - (o1.width * o1.height));
+		}
+		assignIds(kept, added);
+		if (monitor != null) {
+			monitor.subTask(Messages.TagCloud_PlacingWords);
+		}
+		final Rectangle cloudArea = getCloudArea();
+		List<Word> placed = new ArrayList<>();
+		for (Word word : added) {
+			Point point = layouter.getInitialOffset(word, cloudArea);
+			if (layouter.layout(point, word, cloudArea, cloudMatrix)) {
+				placedWords.add(word);
+				placed.add(word);
+			}
+		}
+		if (placedWords.isEmpty()) {
+			return layoutCloud(monitor, false);
+		}
+		updateTextLayer(removed, placed);
+		return placedWords.size();
+	}
+
+	private static void checkWords(List<Word> values) {
 		Assert.isLegal(values != null, "List must not be null!"); //$NON-NLS-1$
 		for (Word word : values) {
 			Assert.isLegal(word != null, "Word must not be null!"); //$NON-NLS-1$
@@ -663,7 +911,9 @@ public class TagCloud extends Canvas {
 			Assert.isLegal(word.angle >= -90, "Angle must be between -90 and +90 (inclusive), but was " + word.angle); //$NON-NLS-1$
 			Assert.isLegal(word.angle <= 90, "Angle must be between -90 and +90 (inclusive), but was " + word.angle); //$NON-NLS-1$
 		}
-		this.wordsToUse = new ArrayList<>(values);
+	}
+
+	private void boostWords(List<Word> values) {
 		if (boost > 0) {
 			double factor = boostFactor;
 			int i = boost;
@@ -679,15 +929,108 @@ public class TagCloud extends Canvas {
 				}
 			}
 		}
-		return layoutCloud(monitor, true);
+	}
+
+	/**
+	 * Assigns the ids of the words after an incremental update, such that the id
+	 * of each word still corresponds to its index in {@link #wordsToUse} plus one.
+	 * The kept words keep their id where possible, the others fill the gaps left
+	 * by removed words. A placed word whose id changes is marked again in the
+	 * cloud matrix.
+	 */
+	private void assignIds(Set<Word> kept, List<Word> added) {
+		Word[] slots = new Word[kept.size() + added.size()];
+		List<Word> moved = new ArrayList<>();
+		for (Word word : kept) {
+			if (word.id > 0 && word.id <= slots.length && slots[word.id - 1] == null) {
+				slots[word.id - 1] = word;
+			} else {
+				moved.add(word);
+			}
+		}
+		moved.addAll(added);
+		Iterator<Word> words = moved.iterator();
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] == null) {
+				Word word = words.next();
+				word.id = (short) (i + 1);
+				if (kept.contains(word)) {
+					word.tree.place(cloudMatrix, word.id);
+				}
+				slots[i] = word;
+			}
+		}
+		wordsToUse = new ArrayList<>(Arrays.asList(slots));
+	}
+
+	/**
+	 * Updates the text layer after an incremental update. If all placed words are
+	 * inside of the current text layer, only the areas of the removed words are
+	 * repainted and the new words are drawn on top. Otherwise the whole text layer
+	 * is recreated.
+	 */
+	private void updateTextLayer(List<Rectangle> removed, List<Word> added) {
+		Rectangle region = new Rectangle(regionOffset.x, regionOffset.y, textLayerImage.getBounds().width,
+				textLayerImage.getBounds().height);
+		boolean inside = true;
+		for (Word word : added) {
+			if (!region.contains(word.x, word.y) || !region.contains(word.x + word.width - 1, word.y + word.height - 1)) {
+				inside = false;
+				break;
+			}
+		}
+		if (inside) {
+			GC gc = new GC(textLayerImage);
+			gc.setBackground(getBackground());
+			for (Rectangle area : removed) {
+				Rectangle dirty = new Rectangle(area.x - regionOffset.x, area.y - regionOffset.y, area.width,
+						area.height);
+				gc.setClipping(dirty);
+				gc.fillRectangle(dirty);
+				for (Word placed : wordsToUse) {
+					if (placedWords.contains(placed) && dirty.intersects(placed.x - regionOffset.x,
+							placed.y - regionOffset.y, placed.width, placed.height)) {
+						drawWord(gc, placed, placed.getColor());
+					}
+				}
+			}
+			gc.setClipping((Rectangle) null);
+			for (Word word : added) {
+				drawWord(gc, word, word.getColor());
+			}
+			gc.dispose();
+		} else {
+			Rectangle r = null;
+			for (Word word : wordsToUse) {
+				if (placedWords.contains(word)) {
+					Rectangle bounds = new Rectangle(word.x, word.y, word.width, word.height);
+					r = r == null ? bounds : r.union(bounds);
+				}
+			}
+			textLayerImage.dispose();
+			textLayerImage = new Image(getDisplay(), r.width, r.height);
+			regionOffset = new Point(r.x, r.y);
+			cloudSize = new Point(r.width, r.height);
+			GC gc = new GC(textLayerImage);
+			gc.setBackground(getBackground());
+			gc.fillRectangle(textLayerImage.getBounds());
+			for (Word word : wordsToUse) {
+				if (placedWords.contains(word)) {
+					drawWord(gc, word, word.getColor());
+				}
+			}
+			gc.dispose();
+		}
+		setSelection(getSelection());
 	}
 
 	/**
 	 * Reset the initial matrix
 	 */
 	private void resetLayout() {
+		placedWords.clear();
 		if (cloudMatrix == null) {
-			cloudMatrix = new CloudMatrix(maxSize, accuracy);
+			cloudMatrix = new BitSetCloudMatrix(maxSize, accuracy);
 		} else {
 			cloudMatrix.reset();
 		}
@@ -725,8 +1068,8 @@ public class TagCloud extends Canvas {
 
 	private void resetMask() {
 		Word word = new Word("mask"); //$NON-NLS-1$
-		word.tree = new RectTree(new SmallRect(0, 0, cloudArea.width, cloudArea.height), accuracy);
-		calcWordExtents(word, mask);
+		word.tree = createTree(new SmallRect(0, 0, cloudArea.width, cloudArea.height), calcWordExtents(mask),
+				word.id);
 		word.tree.place(cloudMatrix, RectTree.BACKGROUND);
 	}
 
@@ -743,8 +1086,7 @@ public class TagCloud extends Canvas {
 			hBarListener = e -> {
 				int hSelection = hBar.getSelection();
 				int destX = -hSelection - origin.x;
-				Rectangle rect = zoomLayerImage.getBounds();
-				TagCloud.this.scroll(destX, 0, 0, 0, rect.width, rect.height, false);
+				TagCloud.this.scroll(destX, 0, 0, 0, zoomedSize.x, zoomedSize.y, false);
 				origin.x = -hSelection;
 			};
 			hBar.addListener(SWT.Selection, hBarListener);
@@ -754,8 +1096,7 @@ public class TagCloud extends Canvas {
 			vBarListener = e -> {
 				int vSelection = vBar.getSelection();
 				int destY = -vSelection - origin.y;
-				Rectangle rect = zoomLayerImage.getBounds();
-				TagCloud.this.scroll(0, destY, 0, 0, rect.width, rect.height, false);
+				TagCloud.this.scroll(0, destY, 0, 0, zoomedSize.x, zoomedSize.y, false);
 				origin.y = -vSelection;
 			};
 			vBar.addListener(SWT.Selection, vBarListener);
@@ -767,10 +1108,10 @@ public class TagCloud extends Canvas {
 		this.addListener(SWT.Resize, resizeListener);
 		paintListener = e -> {
 			GC gc = e.gc;
-			if (zoomLayerImage == null) {
+			if (zoomedSize == null) {
 				return;
 			}
-			Rectangle rect = zoomLayerImage.getBounds();
+			Rectangle rect = new Rectangle(0, 0, zoomedSize.x, zoomedSize.y);
 			Rectangle client = TagCloud.this.getClientArea();
 			int marginWidth = client.width - rect.width;
 			gc.setBackground(getBackground());
@@ -781,7 +1122,7 @@ public class TagCloud extends Canvas {
 			if (marginHeight > 0) {
 				gc.fillRectangle(0, rect.height, client.width, marginHeight);
 			}
-			gc.drawImage(zoomLayerImage, origin.x, origin.y);
+			paintZoomTiles(gc, new Rectangle(e.x, e.y, e.width, e.height));
 		};
 		this.addListener(SWT.Paint, paintListener);
 		mouseTrackListener = event -> {
@@ -845,19 +1186,60 @@ public class TagCloud extends Canvas {
 		if (cloudMatrix == null || regionOffset == null) {
 			return null;
 		}
-		Point translatedMousePos = translateMousePos(point.x, point.y);
+		Point cell = getCellAt(point.x, point.y);
+		return getWord(cloudMatrix.get(cell.x, cell.y));
+	}
+
+	/**
+	 * Returns the words which are at least partially inside of the given area. The
+	 * area uses the same coordinates as the mouse events fired by the cloud, which
+	 * are relative to the top left corner of the scrolled cloud. The cost depends
+	 * on the size of the area, not on the number of words in the cloud.
+	 *
+	 * @param area the area, in the coordinates of the mouse events
+	 * @return the words in the area, never <code>null</code>
+	 * @since 2.1
+	 */
+	public Set<Word> getWordsIn(Rectangle area) {
+		checkWidget();
+		Assert.isLegal(area != null, "Area must not be null!"); //$NON-NLS-1$
+		Set<Word> words = new HashSet<>();
+		if (cloudMatrix == null || regionOffset == null) {
+			return words;
+		}
+		Point topLeft = getCellAt(area.x + origin.x, area.y + origin.y);
+		Point bottomRight = getCellAt(area.x + area.width + origin.x, area.y + area.height + origin.y);
+		BitSet ids = cloudMatrix.getIds(topLeft.x, topLeft.y, bottomRight.x - topLeft.x + 1,
+				bottomRight.y - topLeft.y + 1);
+		for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+			Word word = getWord((short) id);
+			if (word != null) {
+				words.add(word);
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Returns the cell of the cloud matrix at the given point in screen
+	 * coordinates, considering the zoom and the scroll bars.
+	 */
+	private Point getCellAt(int x, int y) {
+		Point translatedMousePos = translateMousePos(x, y);
 		translatedMousePos.x += regionOffset.x;
 		translatedMousePos.y += regionOffset.y;
-		int x = translatedMousePos.x / accuracy;
-		int y = translatedMousePos.y / accuracy;
-		if (x >= maxSize || y >= maxSize) {
+		return new Point(Math.floorDiv(translatedMousePos.x, accuracy), Math.floorDiv(translatedMousePos.y, accuracy));
+	}
+
+	/**
+	 * Returns the word with the given id, or <code>null</code> if there is none.
+	 * The id of a word is its index in {@link #wordsToUse} plus one.
+	 */
+	private Word getWord(short id) {
+		if (id <= 0 || wordsToUse == null || id > wordsToUse.size()) {
 			return null;
 		}
-		short wordId = cloudMatrix.get(x, y);
-		if (wordId > 0) {
-			return wordsToUse.get(wordId - 1);
-		}
-		return null;
+		return wordsToUse.get(id - 1);
 	}
 
 	/**
@@ -1006,22 +1388,10 @@ public class TagCloud extends Canvas {
 		}
 		Set<Word> selection = new HashSet<>(words);
 		selection.retainAll(wordsToUse);
-		int w = textLayerImage.getBounds().width;
-		int h = textLayerImage.getBounds().height;
-		if (selectionLayerImage != null) {
-			selectionLayerImage.dispose();
-		}
-		selectionLayerImage = new Image(getDisplay(), w, h);
-		GC gc = new GC(selectionLayerImage);
-		gc.drawImage(textLayerImage, 0, 0);
-		for (Word word : selection) {
-			drawWord(gc, word, highlightColor);
-		}
 		if (!selection.equals(this.selection)) {
 			this.selection = selection;
 			fireSelectionChanged();
 		}
-		gc.dispose();
 		zoom(currentZoom);
 		redraw();
 	}
@@ -1086,10 +1456,7 @@ public class TagCloud extends Canvas {
 	public int layoutCloud(IProgressMonitor monitor, boolean recalc) {
 		checkWidget();
 		resetLayout();
-		if (selectionLayerImage != null) {
-			selectionLayerImage.dispose();
-			selectionLayerImage = null;
-		}
+		cloudSize = null;
 		regionOffset = new Point(0, 0);
 		if (textLayerImage != null) {
 			textLayerImage.dispose();
@@ -1112,10 +1479,10 @@ public class TagCloud extends Canvas {
 	}
 
 	private void updateScrollbars() {
-		if (zoomLayerImage == null) {
+		if (zoomedSize == null) {
 			return;
 		}
-		Rectangle rect = zoomLayerImage.getBounds();
+		Rectangle rect = new Rectangle(0, 0, zoomedSize.x, zoomedSize.y);
 		Rectangle client = getClientArea();
 		ScrollBar hBar = getHorizontalBar();
 		ScrollBar vBar = getVerticalBar();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -24,6 +24,8 @@ import org.eclipse.swt.events.MouseListener;
 import org.eclipse.swt.events.MouseTrackListener;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.events.SelectionListener;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Control;
 
 import org.eclipse.core.runtime.Assert;
@@ -55,6 +57,14 @@ public class TagCloudViewer extends ContentViewer {
 
 	private IProgressMonitor monitor;
 
+	private boolean incremental;
+
+	/**
+	 * The distance in pixels the mouse has to be moved between pressing and
+	 * releasing a button to select the words in the dragged rectangle.
+	 */
+	private static final int DRAG_THRESHOLD = 4;
+
 	/**
 	 * Create a new TagCloudViewer for the given {@link TagCloud}, which must not be
 	 * <code>null</code>.
@@ -117,14 +127,30 @@ public class TagCloudViewer extends ContentViewer {
 	}
 
 	/**
-	 * Initialize default selection behaviour: Words can be selected by mouse click,
-	 * and selection listeners are notified when the selection changed.
+	 * Initialize default selection behaviour: Words can be selected by mouse click
+	 * or by dragging a rectangle around them, and selection listeners are notified
+	 * when the selection changed.
 	 */
 	protected void initSelectionListener() {
 		cloud.addMouseListener(new MouseListener() {
 
+			private Point dragStart;
+
 			@Override
 			public void mouseUp(MouseEvent e) {
+				if (e.button == 1) {
+					Point start = dragStart;
+					dragStart = null;
+					if (start != null && (Math.abs(e.x - start.x) > DRAG_THRESHOLD
+							|| Math.abs(e.y - start.y) > DRAG_THRESHOLD)) {
+						Rectangle area = new Rectangle(Math.min(start.x, e.x), Math.min(start.y, e.y),
+								Math.abs(e.x - start.x), Math.abs(e.y - start.y));
+						selection.clear();
+						selection.addAll(cloud.getWordsIn(area));
+						cloud.setSelection(selection);
+						return;
+					}
+				}
 				Word word = (Word) e.data;
 				if (word == null) {
 					return;
@@ -138,7 +164,9 @@ public class TagCloudViewer extends ContentViewer {
 
 			@Override
 			public void mouseDown(MouseEvent e) {
-
+				if (e.button == 1) {
+					dragStart = new Point(e.x, e.y);
+				}
 			}
 
 			@Override
@@ -267,6 +295,7 @@ public class TagCloudViewer extends ContentViewer {
 	@Override
 	protected void inputChanged(Object input, Object oldInput) {
 		selection.clear();
+		Map<Object, Word> oldObjectMap = new HashMap<>(objectMap);
 		objectMap.clear();
 		IStructuredContentProvider contentProvider = (IStructuredContentProvider) getContentProvider();
 		Object[] elements = contentProvider.getElements(input);
@@ -274,7 +303,11 @@ public class TagCloudViewer extends ContentViewer {
 		ICloudLabelProvider labelProvider = (ICloudLabelProvider) getLabelProvider();
 		short i = 0;
 		for (Object element : elements) {
-			Word word = new Word(labelProvider.getLabel(element));
+			String label = labelProvider.getLabel(element);
+			Word word = incremental ? oldObjectMap.get(element) : null;
+			if (word == null || !word.string.equals(label)) {
+				word = new Word(label);
+			}
 			word.setColor(labelProvider.getColor(element));
 			word.weight = labelProvider.getWeight(element);
 			word.setFontData(labelProvider.getFontData(element));
@@ -293,7 +326,9 @@ public class TagCloudViewer extends ContentViewer {
 					"Angle of an element must be between -90 and +90 (inclusive), but was " + word.angle); //$NON-NLS-1$
 			words.add(word);
 			i++;
-			word.id = i;
+			if (!incremental) {
+				word.id = i;
+			}
 			objectMap.put(element, word);
 			if (i == maxWords) {
 				break;
@@ -303,7 +338,37 @@ public class TagCloudViewer extends ContentViewer {
 		if (monitor != null) {
 			monitor.subTask(Messages.TagCloudViewer_Layouting);
 		}
-		cloud.setWords(words, monitor);
+		if (incremental) {
+			cloud.updateWords(words, monitor);
+		} else {
+			cloud.setWords(words, monitor);
+		}
+	}
+
+	/**
+	 * Enables or disables the incremental mode of the viewer. In incremental mode,
+	 * the words of elements which are still contained in a new input are reused,
+	 * and the cloud is updated with {@link TagCloud#updateWords(List,
+	 * IProgressMonitor)}. Elements whose label, font, weight and angle didn't
+	 * change keep their position, and only new or modified elements are placed.
+	 * By default, the incremental mode is disabled and the cloud is recreated for
+	 * each input.
+	 *
+	 * @param incremental
+	 * @since 2.1
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Returns whether the viewer updates the cloud incrementally.
+	 *
+	 * @see #setIncremental(boolean)
+	 * @since 2.1
+	 */
+	public boolean isIncremental() {
+		return incremental;
 	}
 
 	/**
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.cloudio.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.eclipse.zest.cloudio.util.RectTree.RectNode;
+import org.eclipse.zest.cloudio.util.RectTree.RowMask;
+
+/**
+ * A {@link CloudMatrix} which stores the occupied cells of the drawable area as
+ * rows of bits, one bit per cell of size <code>minResolution</code>. Testing
+ * whether a word fits compares the rows of the word with the rows of the matrix
+ * 64 cells at a time, instead of querying the matrix for each leaf of the word
+ * tree. The ids of the words are stored in a separate array of cells.
+ *
+ * @since 2.1
+ */
+public class BitSetCloudMatrix extends CloudMatrix {
+
+	private int cells;
+
+	private int words;
+
+	private long[] occupied;
+
+	private short[] ids;
+
+	public BitSetCloudMatrix(int maxSize, int minResolution) {
+		super(maxSize, minResolution);
+	}
+
+	@Override
+	public short get(int x, int y) {
+		if (x < 0 || y < 0 || x >= cells || y >= cells) {
+			return RectTree.EMPTY;
+		}
+		return ids[y * cells + x];
+	}
+
+	/**
+	 * Returns the ids of the words which occupy at least one cell of the given
+	 * area. Only the cells of the area are visited.
+	 *
+	 * @param x      the first column of the area
+	 * @param y      the first row of the area
+	 * @param width  the number of columns of the area
+	 * @param height the number of rows of the area
+	 * @return the ids of the words in the area
+	 */
+	public BitSet getIds(int x, int y, int width, int height) {
+		BitSet result = new BitSet();
+		for (int row = Math.max(0, y); row < Math.min(cells, y + height); row++) {
+			for (int column = Math.max(0, x); column < Math.min(cells, x + width); column++) {
+				short id = ids[row * cells + column];
+				if (id > 0) {
+					result.set(id);
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean isEmpty(int x, int y) {
+		if (x < 0 || y < 0 || x >= cells || y >= cells) {
+			return true;
+		}
+		return (occupied[y * words + (x >> 6)] & (1L << x)) == 0;
+	}
+
+	@Override
+	public void reset() {
+		int size = (getMaxSize() + getMinResolution() - 1) / getMinResolution();
+		if (occupied == null || cells != size) {
+			cells = size;
+			words = (cells + 63) >> 6;
+			occupied = new long[cells * words];
+			ids = new short[cells * cells];
+		} else {
+			Arrays.fill(occupied, 0);
+		}
+		Arrays.fill(ids, RectTree.EMPTY);
+	}
+
+	@Override
+	public void set(RectNode node, short id, short xOffset, short yOffset, int minResolution) {
+		fill(node, id, xOffset, yOffset, minResolution);
+	}
+
+	/**
+	 * Frees the cells which were occupied by the given word tree, at its current
+	 * offset.
+	 *
+	 * @param wordTree the tree of a word which has been placed before
+	 */
+	public void remove(RectTree wordTree) {
+		for (RectNode node : wordTree.getLeaves()) {
+			fill(node, RectTree.EMPTY, wordTree.xOffset, wordTree.yOffset, getMinResolution());
+		}
+	}
+
+	private void fill(RectNode node, short id, short xOffset, short yOffset, int minResolution) {
+		int column = Math.floorDiv(xOffset + node.rect.x, minResolution);
+		int row = Math.floorDiv(yOffset + node.rect.y, minResolution);
+		int columns = Math.max(1, node.rect.width / minResolution);
+		int rows = Math.max(1, node.rect.height / minResolution);
+		for (int y = Math.max(0, row); y < Math.min(cells, row + rows); y++) {
+			for (int x = Math.max(0, column); x < Math.min(cells, column + columns); x++) {
+				if (id == RectTree.EMPTY) {
+					occupied[y * words + (x >> 6)] &= ~(1L << x);
+				} else {
+					occupied[y * words + (x >> 6)] |= 1L << x;
+				}
+				ids[y * cells + x] = id;
+			}
+		}
+	}
+
+	@Override
+	public boolean fits(RectTree wordTree) {
+		final RowMask mask = wordTree.getRowMask();
+		final int column = Math.floorDiv(wordTree.xOffset, getMinResolution());
+		final int firstRow = Math.floorDiv(wordTree.yOffset, getMinResolution()) + mask.firstRow();
+		final long[] bits = mask.bits();
+		for (int r = 0; r < mask.rows(); r++) {
+			int y = firstRow + r;
+			if (y < 0 || y >= cells) {
+				continue;
+			}
+			int rowStart = y * words;
+			for (int w = 0; w < mask.words(); w++) {
+				long m = bits[r * mask.words() + w];
+				if (m == 0) {
+					continue;
+				}
+				int start = column + (w << 6);
+				int word = Math.floorDiv(start, 64);
+				int shift = Math.floorMod(start, 64);
+				if (word >= 0 && word < words && (occupied[rowStart + word] & (m << shift)) != 0) {
+					return false;
+				}
+				if (shift != 0 && word + 1 >= 0 && word + 1 < words
+						&& (occupied[rowStart + word + 1] & (m >>> (64 - shift))) != 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+}
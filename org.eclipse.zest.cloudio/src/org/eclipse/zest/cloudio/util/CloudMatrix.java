@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -11,6 +11,9 @@
  ******************************************************************************/
 package org.eclipse.zest.cloudio.util;
 
+import java.util.Iterator;
+import java.util.LinkedList;
+
 import org.eclipse.zest.cloudio.util.RectTree.RectNode;
 
 /**
@@ -32,6 +35,13 @@ public class CloudMatrix {
 		return minResolution;
 	}
 
+	/**
+	 * @since 2.1
+	 */
+	public int getMaxSize() {
+		return max;
+	}
+
 	public CloudMatrix(int maxSize, int minResolution) {
 		this.max = maxSize;
 		this.minResolution = minResolution;
@@ -53,10 +63,33 @@ public class CloudMatrix {
 	}
 
 	public void set(RectNode node, short id, short xOffset, short yOffset, int minResolution) {
-		int cleanX = ((xOffset + node.rect.x) / minResolution) * minResolution;
-		int cleanY = ((yOffset + node.rect.y) / minResolution) * minResolution;
+		int cleanX = Math.floorDiv(xOffset + node.rect.x, minResolution) * minResolution;
+		int cleanY = Math.floorDiv(yOffset + node.rect.y, minResolution) * minResolution;
 		SmallRect rect = new SmallRect(cleanX, cleanY, minResolution, minResolution);
 		tree.insert(rect, id);
 	}
 
+	/**
+	 * Checks whether the given word tree, moved to its current offset, only covers
+	 * empty cells of this matrix.
+	 *
+	 * @param wordTree the tree of the word to test
+	 * @return <code>true</code> if the word can be placed at its current offset
+	 * @since 2.1
+	 */
+	public boolean fits(RectTree wordTree) {
+		LinkedList<RectNode> leaves = wordTree.getLeaves();
+		Iterator<RectNode> nodes = leaves.iterator();
+		while (nodes.hasNext()) {
+			RectNode node = nodes.next();
+			if (!isEmpty(Math.floorDiv(node.rect.x + wordTree.xOffset, minResolution),
+					Math.floorDiv(node.rect.y + wordTree.yOffset, minResolution))) {
+				nodes.remove();
+				leaves.addFirst(node);
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
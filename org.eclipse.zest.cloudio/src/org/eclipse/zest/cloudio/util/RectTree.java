@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,7 +13,6 @@ package org.eclipse.zest.cloudio.util;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -30,12 +29,14 @@ public class RectTree {
 
 	private final int minResolution;
 
-	private short xOffset, yOffset;
+	short xOffset, yOffset;
 
 	private RectNode root;
 
 	private LinkedList<RectNode> leaves;
 
+	private RowMask rowMask;
+
 	public static short EMPTY = -3, MISC = -2, BACKGROUND = -1;
 
 	class RectNode {
@@ -159,6 +160,44 @@ public class RectTree {
 
 	}
 
+	/**
+	 * The cells covered by the leaves of a tree, stored as rows of bits. Only the
+	 * rows from <code>firstRow</code> on which contain at least one cell are
+	 * stored, each one using <code>words</code> longs.
+	 */
+	record RowMask(int firstRow, int rows, int words, long[] bits) {
+
+		static RowMask of(Collection<RectNode> leaves, int minResolution) {
+			int firstRow = Integer.MAX_VALUE;
+			int lastRow = -1;
+			int lastColumn = -1;
+			for (RectNode node : leaves) {
+				firstRow = Math.min(firstRow, node.rect.y / minResolution);
+				lastRow = Math.max(lastRow, (node.rect.y + node.rect.height) / minResolution - 1);
+				lastColumn = Math.max(lastColumn, (node.rect.x + node.rect.width) / minResolution - 1);
+			}
+			if (lastRow < 0) {
+				return new RowMask(0, 0, 0, new long[0]);
+			}
+			int rows = lastRow - firstRow + 1;
+			int words = (lastColumn >> 6) + 1;
+			long[] bits = new long[rows * words];
+			for (RectNode node : leaves) {
+				int column = node.rect.x / minResolution;
+				int row = node.rect.y / minResolution;
+				int columns = Math.max(1, node.rect.width / minResolution);
+				int height = Math.max(1, node.rect.height / minResolution);
+				for (int y = row; y < row + height; y++) {
+					for (int x = column; x < column + columns; x++) {
+						bits[(y - firstRow) * words + (x >> 6)] |= 1L << x;
+					}
+				}
+			}
+			return new RowMask(firstRow, rows, words, bits);
+		}
+
+	}
+
 	public RectTree(SmallRect root, int minResolution) {
 		this.minResolution = minResolution;
 		this.root = new RectNode(root);
@@ -174,17 +213,7 @@ public class RectTree {
 	}
 
 	public boolean fits(final CloudMatrix mainTree) {
-		LinkedList<RectNode> leaves = getLeaves();
-		Iterator<RectNode> nodes = leaves.iterator();
-		while (nodes.hasNext()) {
-			RectNode node = nodes.next();
-			if (!mainTree.isEmpty((node.rect.x + xOffset) / minResolution, (node.rect.y + yOffset) / minResolution)) {
-				nodes.remove();
-				leaves.addFirst(node);
-				return false;
-			}
-		}
-		return true;
+		return mainTree.fits(this);
 	}
 
 	LinkedList<RectNode> getLeaves() {
@@ -217,6 +246,13 @@ public class RectTree {
 		}
 	}
 
+	RowMask getRowMask() {
+		if (rowMask == null) {
+			rowMask = RowMask.of(getLeaves(), minResolution);
+		}
+		return rowMask;
+	}
+
 	public void releaseRects() {
 		getLeaves();
 		root.children = null;
@@ -228,6 +264,7 @@ public class RectTree {
 
 	public void reset() {
 		root = new RectNode(root.rect);
+		rowMask = null;
 	}
 
 }
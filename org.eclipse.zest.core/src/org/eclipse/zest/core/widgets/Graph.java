@@ -142,6 +142,8 @@ public class Graph extends FigureCanvas implements IContainer2 {
 	private volatile boolean shouldSheduleLayout;
 	private volatile Runnable scheduledLayoutRunnable = null;
 	private volatile boolean scheduledLayoutClean = false;
+	private int batchUpdateDepth;
+	private boolean batchLayoutPending;
 	private Dimension preferredSize = null;
 	int style = 0;
 
@@ -1253,6 +1255,64 @@ public class Graph extends FigureCanvas implements IContainer2 {
 		}
 	}
 
+	/**
+	 * Starts a batch update of this graph. Until the matching call to
+	 * {@link #endBatchUpdate()}, the graph isn't redrawn, the structural changes
+	 * are not reported to the layout algorithms and no layout is scheduled. This
+	 * should be used when many nodes and connections are added or removed at
+	 * once, so that the layout work is done only once. Batch updates may be
+	 * nested, the changes are flushed when the outermost one ends. Clients should
+	 * call {@link #endBatchUpdate()} in a <code>finally</code> block.
+	 *
+	 * @since 1.19
+	 */
+	public void beginBatchUpdate() {
+		checkWidget();
+		if (batchUpdateDepth++ == 0) {
+			setRedraw(false);
+			internalGetLayoutContext().setEventsDeferred(true);
+		}
+	}
+
+	/**
+	 * Ends a batch update started with {@link #beginBatchUpdate()}. When the
+	 * outermost batch update ends, the structural changes are reported to the
+	 * layout algorithms in their original order, and a layout requested in the
+	 * meantime is scheduled once.
+	 *
+	 * @throws IllegalStateException if no batch update has been started
+	 * @since 1.19
+	 */
+	public void endBatchUpdate() {
+		checkWidget();
+		if (batchUpdateDepth == 0) {
+			throw new IllegalStateException("No batch update has been started"); //$NON-NLS-1$
+		}
+		if (--batchUpdateDepth > 0) {
+			return;
+		}
+		try {
+			internalGetLayoutContext().setEventsDeferred(false);
+		} finally {
+			setRedraw(true);
+		}
+		if (batchLayoutPending) {
+			batchLayoutPending = false;
+			applyLayoutInternal(scheduledLayoutClean);
+		}
+	}
+
+	/**
+	 * Returns whether a batch update of this graph is in progress.
+	 *
+	 * @see #beginBatchUpdate()
+	 * @since 1.19
+	 */
+	public boolean isBatchUpdate() {
+		checkWidget();
+		return batchUpdateDepth > 0;
+	}
+
 	void removeConnection(GraphConnection connection) {
 		IFigure figure = connection.getConnectionFigure();
 		PolylineConnection sourceContainerConnectionFigure = connection.getSourceContainerConnectionFigure();
@@ -1414,6 +1474,10 @@ public class Graph extends FigureCanvas implements IContainer2 {
 			return;
 		}
 		scheduledLayoutClean = scheduledLayoutClean || clean;
+		if (batchUpdateDepth > 0) {
+			batchLayoutPending = true;
+			return;
+		}
 		synchronized (this) {
 			if (scheduledLayoutRunnable == null) {
 				Display.getDefault().asyncExec(scheduledLayoutRunnable = () -> {
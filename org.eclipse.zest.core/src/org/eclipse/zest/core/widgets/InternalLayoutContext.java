@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009-2010, 2024 Mateusz Matela and others.
+ * Copyright (c) 2009-2010, 2026 Mateusz Matela and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -48,6 +48,11 @@ class InternalLayoutContext implements LayoutContext {
 	private SubgraphFactory subgraphFactory = new DefaultSubgraph.DefaultSubgraphFactory();
 	private final Set<SubgraphLayout> subgraphs = new HashSet<>();
 	private boolean eventsOn = true;
+	private boolean eventsDeferred = false;
+	private boolean mainAlgorithmDeferred = false;
+	private boolean mainAlgorithmPending = false;
+	private boolean boundsChangedDeferred = false;
+	private final List<Runnable> deferredEvents = new ArrayList<>();
 	private boolean backgorundLayoutEnabled = true;
 	private boolean externalLayoutInvocation = false;
 
@@ -347,6 +352,10 @@ class InternalLayoutContext implements LayoutContext {
 	}
 
 	void applyMainAlgorithm() {
+		if (mainAlgorithmDeferred) {
+			mainAlgorithmPending = true;
+			return;
+		}
 		if (backgorundLayoutEnabled && mainAlgorithm != null) {
 			mainAlgorithm.applyLayout(true);
 			flushChanges(false);
@@ -385,7 +394,59 @@ class InternalLayoutContext implements LayoutContext {
 		}
 	}
 
+	/**
+	 * Starts or stops deferring the structural events of this context. While
+	 * events are deferred, the node, connection and bounds events are queued and
+	 * the main algorithm isn't applied. Events which are intercepted when they
+	 * occur are dropped, and the bounds event is queued at most once. When
+	 * deferring stops, the queued events are fired in their original order and the
+	 * main algorithm is applied at most once.
+	 */
+	void setEventsDeferred(boolean deferred) {
+		if (deferred) {
+			eventsDeferred = true;
+			mainAlgorithmDeferred = true;
+			return;
+		}
+		if (!eventsDeferred) {
+			return;
+		}
+		eventsDeferred = false;
+		try {
+			for (Runnable event : deferredEvents) {
+				event.run();
+			}
+		} finally {
+			deferredEvents.clear();
+			boundsChangedDeferred = false;
+			mainAlgorithmDeferred = false;
+		}
+		if (mainAlgorithmPending) {
+			mainAlgorithmPending = false;
+			applyMainAlgorithm();
+		}
+	}
+
+	/**
+	 * Queues the given event if events are deferred. The event is dropped instead
+	 * if events are currently intercepted.
+	 *
+	 * @return <code>true</code> if the event has been queued or dropped
+	 */
+	private boolean deferEvent(Runnable event) {
+		if (eventsDeferred) {
+			if (eventsOn) {
+				deferredEvents.add(event);
+			}
+			return true;
+		}
+		return false;
+	}
+
 	void fireNodeAddedEvent(NodeLayout node) {
+		if (deferEvent(() -> fireNodeAddedEvent(node))) {
+			return;
+		}
 		boolean intercepted = !eventsOn;
 		GraphStructureListener[] listeners = graphStructureListeners
 				.toArray(new GraphStructureListener[graphStructureListeners.size()]);
@@ -398,6 +459,9 @@ class InternalLayoutContext implements LayoutContext {
 	}
 
 	void fireNodeRemovedEvent(NodeLayout node) {
+		if (deferEvent(() -> fireNodeRemovedEvent(node))) {
+			return;
+		}
 		boolean intercepted = !eventsOn;
 		GraphStructureListener[] listeners = graphStructureListeners
 				.toArray(new GraphStructureListener[graphStructureListeners.size()]);
@@ -410,6 +474,9 @@ class InternalLayoutContext implements LayoutContext {
 	}
 
 	void fireConnectionAddedEvent(ConnectionLayout connection) {
+		if (deferEvent(() -> fireConnectionAddedEvent(connection))) {
+			return;
+		}
 		InternalLayoutContext sourceContext = ((InternalNodeLayout) connection.getSource()).getOwnerLayoutContext();
 		InternalLayoutContext targetContext = ((InternalNodeLayout) connection.getTarget()).getOwnerLayoutContext();
 		if (sourceContext != targetContext) {
@@ -431,6 +498,9 @@ class InternalLayoutContext implements LayoutContext {
 	}
 
 	void fireConnectionRemovedEvent(ConnectionLayout connection) {
+		if (deferEvent(() -> fireConnectionRemovedEvent(connection))) {
+			return;
+		}
 		InternalLayoutContext sourceContext = ((InternalNodeLayout) connection.getSource()).getOwnerLayoutContext();
 		InternalLayoutContext targetContext = ((InternalNodeLayout) connection.getTarget()).getOwnerLayoutContext();
 		if (sourceContext != targetContext) {
@@ -452,6 +522,13 @@ class InternalLayoutContext implements LayoutContext {
 	}
 
 	void fireBoundsChangedEvent() {
+		if (eventsDeferred && boundsChangedDeferred) {
+			return;
+		}
+		if (deferEvent(this::fireBoundsChangedEvent)) {
+			boundsChangedDeferred = eventsOn;
+			return;
+		}
 		boolean intercepted = !eventsOn;
 		ContextListener[] listeners = contextListeners.toArray(new ContextListener[contextListeners.size()]);
 		for (int i = 0; i < listeners.length && !intercepted; i++) {
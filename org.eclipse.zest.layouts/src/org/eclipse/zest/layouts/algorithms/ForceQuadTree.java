@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.layouts.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * A Barnes-Hut quadtree over a set of equally weighted points, used by the
+ * {@link SpringLayoutAlgorithm} to approximate the repulsive forces between all
+ * pairs of nodes in <i>O(n log n)</i>. A cell whose size, seen from a point, is
+ * smaller than the opening angle <i>theta</i> is treated as a single body
+ * located in its center of mass.
+ * <p>
+ * The tree is immutable once built, so it may be queried concurrently.
+ */
+class ForceQuadTree {
+
+	/**
+	 * Cells are not split beyond this depth, so that coincident points don't
+	 * cause an unbounded recursion.
+	 */
+	private static final int MAX_DEPTH = 24;
+
+	private final double[] x;
+	private final double[] y;
+	private final int[] bodies;
+
+	private int cellCount;
+	private int[] children;
+	private int[] firstBody;
+	private int[] lastBody;
+	private double[] cellX;
+	private double[] cellY;
+	private double[] cellSize;
+	private double[] centerX;
+	private double[] centerY;
+
+	/**
+	 * Builds the tree for the given points. The arrays are not copied and must not
+	 * be modified while the tree is in use.
+	 *
+	 * @param x the x coordinates of the points
+	 * @param y the y coordinates of the points
+	 */
+	ForceQuadTree(double[] x, double[] y) {
+		this.x = x;
+		this.y = y;
+		int n = x.length;
+		bodies = new int[n];
+		for (int i = 0; i < n; i++) {
+			bodies[i] = i;
+		}
+		allocate(Math.max(4, 2 * n));
+		if (n == 0) {
+			return;
+		}
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+		}
+		build(0, n, minX, minY, Math.max(maxX - minX, maxY - minY), 0);
+	}
+
+	private void allocate(int capacity) {
+		children = new int[4 * capacity];
+		firstBody = new int[capacity];
+		lastBody = new int[capacity];
+		cellX = new double[capacity];
+		cellY = new double[capacity];
+		cellSize = new double[capacity];
+		centerX = new double[capacity];
+		centerY = new double[capacity];
+	}
+
+	private void ensureCapacity() {
+		int capacity = firstBody.length;
+		if (cellCount < capacity) {
+			return;
+		}
+		capacity *= 2;
+		children = Arrays.copyOf(children, 4 * capacity);
+		firstBody = Arrays.copyOf(firstBody, capacity);
+		lastBody = Arrays.copyOf(lastBody, capacity);
+		cellX = Arrays.copyOf(cellX, capacity);
+		cellY = Arrays.copyOf(cellY, capacity);
+		cellSize = Arrays.copyOf(cellSize, capacity);
+		centerX = Arrays.copyOf(centerX, capacity);
+		centerY = Arrays.copyOf(centerY, capacity);
+	}
+
+	/**
+	 * Creates the cell for the bodies in the range <code>[start, end)</code> and
+	 * recursively its children.
+	 */
+	private int build(int start, int end, double left, double top, double size, int depth) {
+		ensureCapacity();
+		int cell = cellCount++;
+		firstBody[cell] = start;
+		lastBody[cell] = end;
+		cellX[cell] = left;
+		cellY[cell] = top;
+		cellSize[cell] = size;
+		double sumX = 0;
+		double sumY = 0;
+		for (int b = start; b < end; b++) {
+			sumX += x[bodies[b]];
+			sumY += y[bodies[b]];
+		}
+		centerX[cell] = sumX / (end - start);
+		centerY[cell] = sumY / (end - start);
+		Arrays.fill(children, 4 * cell, 4 * cell + 4, -1);
+		if (end - start <= 1 || depth == MAX_DEPTH || size == 0) {
+			return cell;
+		}
+
+		double half = size / 2;
+		double midX = left + half;
+		double midY = top + half;
+		int splitY = partition(start, end, y, midY);
+		int splitTop = partition(start, splitY, x, midX);
+		int splitBottom = partition(splitY, end, x, midX);
+		int[] bounds = { start, splitTop, splitY, splitBottom, end };
+		for (int q = 0; q < 4; q++) {
+			if (bounds[q] < bounds[q + 1]) {
+				int child = build(bounds[q], bounds[q + 1], (q & 1) == 0 ? left : midX, q < 2 ? top : midY, half,
+						depth + 1);
+				children[4 * cell + q] = child;
+			}
+		}
+		return cell;
+	}
+
+	/**
+	 * Reorders the bodies in <code>[start, end)</code> so that those whose
+	 * coordinate is less than the pivot come first.
+	 *
+	 * @return the index of the first body whose coordinate is not less than the
+	 *         pivot
+	 */
+	private int partition(int start, int end, double[] coordinates, double pivot) {
+		int i = start;
+		int j = end - 1;
+		while (i <= j) {
+			if (coordinates[bodies[i]] < pivot) {
+				i++;
+			} else {
+				int tmp = bodies[i];
+				bodies[i] = bodies[j];
+				bodies[j] = tmp;
+				j--;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Adds the repulsive force exerted by all other points on the given point. Two
+	 * points at distance <i>d</i> repel each other with a force of
+	 * <code>gravitation / d<sup>2</sup></code>, <i>d</i> being at least
+	 * <code>minDistance</code>.
+	 *
+	 * @param i           the index of the point
+	 * @param theta       the opening angle
+	 * @param gravitation the strength of the repulsion
+	 * @param minDistance the lower bound for distances
+	 * @param forcesX     receives the x component of the force at index i
+	 * @param forcesY     receives the y component of the force at index i
+	 */
+	void addRepulsion(int i, double theta, double gravitation, double minDistance, double[] forcesX,
+			double[] forcesY) {
+		if (cellCount == 0) {
+			return;
+		}
+		double px = x[i];
+		double py = y[i];
+		double minDistanceSq = minDistance * minDistance;
+		double fx = 0;
+		double fy = 0;
+		int[] stack = new int[3 * MAX_DEPTH + 4];
+		int top = 0;
+		stack[top++] = 0;
+		while (top > 0) {
+			int cell = stack[--top];
+			int count = lastBody[cell] - firstBody[cell];
+			boolean leaf = children[4 * cell] < 0 && children[4 * cell + 1] < 0 && children[4 * cell + 2] < 0
+					&& children[4 * cell + 3] < 0;
+			if (leaf) {
+				for (int b = firstBody[cell]; b < lastBody[cell]; b++) {
+					int j = bodies[b];
+					if (j == i) {
+						continue;
+					}
+					double dx = px - x[j];
+					double dy = py - y[j];
+					double distanceSq = Math.max(minDistanceSq, dx * dx + dy * dy);
+					double f = gravitation / distanceSq / Math.sqrt(distanceSq);
+					fx += f * dx;
+					fy += f * dy;
+				}
+				continue;
+			}
+			double dx = px - centerX[cell];
+			double dy = py - centerY[cell];
+			double distanceSq = dx * dx + dy * dy;
+			double size = cellSize[cell];
+			if (size * size < theta * theta * distanceSq && !contains(cell, px, py)) {
+				distanceSq = Math.max(minDistanceSq, distanceSq);
+				double f = count * gravitation / distanceSq / Math.sqrt(distanceSq);
+				fx += f * dx;
+				fy += f * dy;
+				continue;
+			}
+			for (int q = 0; q < 4; q++) {
+				int child = children[4 * cell + q];
+				if (child >= 0) {
+					stack[top++] = child;
+				}
+			}
+		}
+		forcesX[i] += fx;
+		forcesY[i] += fy;
+	}
+
+	private boolean contains(int cell, double px, double py) {
+		return px >= cellX[cell] && py >= cellY[cell] && px <= cellX[cell] + cellSize[cell]
+				&& py <= cellY[cell] + cellSize[cell];
+	}
+
+}
@@ -0,0 +1,353 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.layouts.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.zest.layouts.dataStructures.DisplayIndependentRectangle;
+import org.eclipse.zest.layouts.interfaces.ConnectionLayout;
+import org.eclipse.zest.layouts.interfaces.EntityLayout;
+
+/**
+ * A force-directed layout for large graphs. The graph is repeatedly coarsened
+ * by collapsing pairs of connected nodes, until only a few nodes remain. The
+ * coarsest graph is laid out first, then each level is initialized from the
+ * positions of the next coarser level and refined. Laying out the coarse levels
+ * determines the global structure of the graph cheaply, so that only a few
+ * refinement iterations are needed for each finer level.
+ * <p>
+ * The repulsion between nodes is approximated using a Barnes-Hut quadtree, so
+ * an iteration costs <i>O(n log n)</i>. The layout is deterministic.
+ *
+ * @since 2.1
+ */
+public class MultilevelLayoutAlgorithm extends AbstractLayoutAlgorithm {
+
+	/**
+	 * The default number of refinement iterations per level.
+	 */
+	public static final int DEFAULT_ITERATIONS = 50;
+
+	/**
+	 * Graphs with at most this number of nodes are not coarsened further.
+	 */
+	private static final int COARSEST_SIZE = 32;
+
+	/**
+	 * The coarsening stops if a level doesn't reduce the number of nodes by at
+	 * least this ratio, e.g. for star-like graphs.
+	 */
+	private static final double MIN_REDUCTION = 0.9;
+
+	/**
+	 * The ideal edge length grows by this factor with each coarser level.
+	 */
+	private static final double LEVEL_SCALE = Math.sqrt(7.0 / 4.0);
+
+	private static final double THETA = 0.8;
+
+	private static final long SEED = 42;
+
+	private int iterations = DEFAULT_ITERATIONS;
+
+	private boolean resize = false;
+
+	/**
+	 * A level of the graph hierarchy, with its adjacency stored in compressed
+	 * sparse row format.
+	 */
+	private static final class Level {
+		final int size;
+		final int[] adjacencyStart;
+		final int[] adjacency;
+		final double[] weights;
+		final int[] mass;
+		final double[] x;
+		final double[] y;
+		/**
+		 * The index of the node in the next coarser level which each node has been
+		 * collapsed into.
+		 */
+		int[] parent;
+
+		Level(int size, int[] mass, Map<Long, Double> edges) {
+			this.size = size;
+			this.mass = mass;
+			long[] keys = new long[2 * edges.size()];
+			int k = 0;
+			for (Long key : edges.keySet()) {
+				int i = (int) (key.longValue() >>> 32);
+				int j = (int) key.longValue();
+				keys[k++] = pairKey(i, j);
+				keys[k++] = pairKey(j, i);
+			}
+			Arrays.sort(keys);
+			adjacencyStart = new int[size + 1];
+			adjacency = new int[keys.length];
+			weights = new double[keys.length];
+			for (k = 0; k < keys.length; k++) {
+				int i = (int) (keys[k] >>> 32);
+				int j = (int) keys[k];
+				adjacencyStart[i + 1]++;
+				adjacency[k] = j;
+				weights[k] = edges.get(Long.valueOf(pairKey(Math.min(i, j), Math.max(i, j)))).doubleValue();
+			}
+			for (int i = 0; i < size; i++) {
+				adjacencyStart[i + 1] += adjacencyStart[i];
+			}
+			x = new double[size];
+			y = new double[size];
+		}
+	}
+
+	public MultilevelLayoutAlgorithm() {
+	}
+
+	@Override
+	public void applyLayout(boolean clean) {
+		if (!clean) {
+			return;
+		}
+		EntityLayout[] entities = context.getEntities();
+		if (entities.length == 0) {
+			return;
+		}
+		List<Level> levels = coarsen(createLevel(entities));
+
+		double k = Math.pow(LEVEL_SCALE, levels.size() - 1);
+		Level coarsest = levels.get(levels.size() - 1);
+		Random random = new Random(SEED);
+		double side = k * Math.sqrt(coarsest.size);
+		for (int i = 0; i < coarsest.size; i++) {
+			coarsest.x[i] = random.nextDouble() * side;
+			coarsest.y[i] = random.nextDouble() * side;
+		}
+		refine(coarsest, k, side / 2, 4 * iterations);
+		for (int l = levels.size() - 2; l >= 0; l--) {
+			k /= LEVEL_SCALE;
+			Level level = levels.get(l);
+			interpolate(level, levels.get(l + 1), k, random);
+			refine(level, k, k, iterations);
+		}
+
+		Level finest = levels.get(0);
+		for (int i = 0; i < entities.length; i++) {
+			if (entities[i].isMovable()) {
+				entities[i].setLocation(finest.x[i], finest.y[i]);
+			}
+		}
+		if (resize) {
+			AlgorithmHelper.maximizeSizes(entities);
+		}
+		DisplayIndependentRectangle bounds = context.getBounds();
+		int insets = 4;
+		bounds.x += insets;
+		bounds.y += insets;
+		bounds.width -= 2 * insets;
+		bounds.height -= 2 * insets;
+		AlgorithmHelper.fitWithinBounds(entities, bounds, resize);
+	}
+
+	private static long pairKey(int i, int j) {
+		return ((long) i << 32) | j;
+	}
+
+	private static void addEdge(Map<Long, Double> edges, int source, int target, double weight) {
+		if (source != target) {
+			Long key = Long.valueOf(pairKey(Math.min(source, target), Math.max(source, target)));
+			edges.merge(key, Double.valueOf(weight), Double::sum);
+		}
+	}
+
+	private Level createLevel(EntityLayout[] entities) {
+		Map<EntityLayout, Integer> entityToPosition = new HashMap<>();
+		for (int i = 0; i < entities.length; i++) {
+			entityToPosition.put(entities[i], Integer.valueOf(i));
+		}
+		Map<Long, Double> edges = new HashMap<>();
+		for (ConnectionLayout connection : context.getConnections()) {
+			Integer source = entityToPosition.get(SpringLayoutAlgorithm.getEntity(connection.getSource()));
+			Integer target = entityToPosition.get(SpringLayoutAlgorithm.getEntity(connection.getTarget()));
+			if (source == null || target == null) {
+				continue;
+			}
+			double weight = connection.getWeight();
+			addEdge(edges, source.intValue(), target.intValue(), weight <= 0 ? 0.1 : weight);
+		}
+		int[] mass = new int[entities.length];
+		Arrays.fill(mass, 1);
+		return new Level(entities.length, mass, edges);
+	}
+
+	/**
+	 * Creates the hierarchy of coarser levels by repeatedly matching each node
+	 * with its most heavily connected, unmatched neighbour.
+	 *
+	 * @return the levels, finest first
+	 */
+	private static List<Level> coarsen(Level finest) {
+		List<Level> levels = new ArrayList<>();
+		levels.add(finest);
+		Level level = finest;
+		while (level.size > COARSEST_SIZE) {
+			// Visit nodes with few neighbours first, so that they get a partner
+			Integer[] order = new Integer[level.size];
+			for (int i = 0; i < level.size; i++) {
+				order[i] = Integer.valueOf(i);
+			}
+			Level fine = level;
+			Arrays.sort(order, (i1, i2) -> Integer.compare(degree(fine, i1.intValue()), degree(fine, i2.intValue())));
+
+			int[] parent = new int[level.size];
+			Arrays.fill(parent, -1);
+			int count = 0;
+			for (Integer node : order) {
+				int u = node.intValue();
+				if (parent[u] >= 0) {
+					continue;
+				}
+				int best = -1;
+				double bestScore = 0;
+				for (int e = level.adjacencyStart[u]; e < level.adjacencyStart[u + 1]; e++) {
+					int v = level.adjacency[e];
+					double score = level.weights[e] / (level.mass[u] + level.mass[v]);
+					if (parent[v] < 0 && score > bestScore) {
+						best = v;
+						bestScore = score;
+					}
+				}
+				parent[u] = count;
+				if (best >= 0) {
+					parent[best] = count;
+				}
+				count++;
+			}
+			if (count > MIN_REDUCTION * level.size) {
+				break;
+			}
+
+			int[] mass = new int[count];
+			Map<Long, Double> edges = new HashMap<>();
+			for (int u = 0; u < level.size; u++) {
+				mass[parent[u]] += level.mass[u];
+				for (int e = level.adjacencyStart[u]; e < level.adjacencyStart[u + 1]; e++) {
+					int v = level.adjacency[e];
+					if (u < v) {
+						addEdge(edges, parent[u], parent[v], level.weights[e]);
+					}
+				}
+			}
+			level.parent = parent;
+			level = new Level(count, mass, edges);
+			levels.add(level);
+		}
+		return levels;
+	}
+
+	private static int degree(Level level, int i) {
+		return level.adjacencyStart[i + 1] - level.adjacencyStart[i];
+	}
+
+	/**
+	 * Places each node of the given level at the position of its parent in the
+	 * coarser level, slightly moved so that collapsed nodes don't coincide.
+	 */
+	private static void interpolate(Level level, Level coarser, double k, Random random) {
+		for (int i = 0; i < level.size; i++) {
+			double angle = random.nextDouble() * 2 * Math.PI;
+			level.x[i] = coarser.x[level.parent[i]] + 0.1 * k * Math.cos(angle);
+			level.y[i] = coarser.y[level.parent[i]] + 0.1 * k * Math.sin(angle);
+		}
+	}
+
+	/**
+	 * Runs the given number of force-directed iterations on the given level. Nodes
+	 * repel each other with a force of <code>k<sup>3</sup> / d<sup>2</sup></code>
+	 * and connected nodes attract each other with a force of
+	 * <code>weight * d<sup>2</sup> / k</code>, so that they settle at a distance
+	 * of about <code>k</code>. The movement of each node is limited by a
+	 * temperature which decreases linearly.
+	 */
+	private static void refine(Level level, double k, double temperature, int iterations) {
+		int n = level.size;
+		double[] forcesX = new double[n];
+		double[] forcesY = new double[n];
+		for (int iteration = 0; iteration < iterations; iteration++) {
+			Arrays.fill(forcesX, 0);
+			Arrays.fill(forcesY, 0);
+			ForceQuadTree tree = new ForceQuadTree(level.x, level.y);
+			for (int i = 0; i < n; i++) {
+				tree.addRepulsion(i, THETA, k * k * k, k / 100, forcesX, forcesY);
+				for (int e = level.adjacencyStart[i]; e < level.adjacencyStart[i + 1]; e++) {
+					int j = level.adjacency[e];
+					double dx = level.x[j] - level.x[i];
+					double dy = level.y[j] - level.y[i];
+					double distance = Math.sqrt(dx * dx + dy * dy);
+					double f = level.weights[e] * distance / k;
+					forcesX[i] += f * dx;
+					forcesY[i] += f * dy;
+				}
+			}
+			double maxMovement = temperature * (iterations - iteration) / iterations;
+			for (int i = 0; i < n; i++) {
+				double force = Math.sqrt(forcesX[i] * forcesX[i] + forcesY[i] * forcesY[i]);
+				if (force > 0) {
+					double scale = Math.min(force, maxMovement) / force;
+					level.x[i] += forcesX[i] * scale;
+					level.y[i] += forcesY[i] * scale;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets the number of refinement iterations performed on each level. The
+	 * coarsest level is laid out with four times as many iterations.
+	 *
+	 * @param iterations The number of iterations.
+	 */
+	public void setIterations(int iterations) {
+		this.iterations = iterations;
+	}
+
+	/**
+	 * Returns the number of refinement iterations performed on each level.
+	 *
+	 * @return The number of iterations.
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 *
+	 * @return true if this algorithm is set to resize elements
+	 */
+	public boolean isResizing() {
+		return resize;
+	}
+
+	/**
+	 *
+	 * @param resizing true if this algorithm should resize elements (default is
+	 *                 false)
+	 */
+	public void setResizing(boolean resizing) {
+		resize = resizing;
+	}
+}
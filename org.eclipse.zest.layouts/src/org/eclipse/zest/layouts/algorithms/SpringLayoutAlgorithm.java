@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright 2005.2010, 2025 CHISEL Group, University of Victoria, Victoria, BC,
+ * Copyright 2005.2010, 2026 CHISEL Group, University of Victoria, Victoria, BC,
  *                           Canada, Johannes Kepler University Linz and others.
  *
  * This program and the accompanying materials are made available under the
@@ -15,9 +15,15 @@
  *******************************************************************************/
 package org.eclipse.zest.layouts.algorithms;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
 
 import org.eclipse.zest.layouts.LayoutStyles;
 import org.eclipse.zest.layouts.dataStructures.DisplayIndependentDimension;
@@ -964,7 +970,39 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 	private int iteration;
 
-	private double[][] srcDestToSumOfWeights;
+	/**
+	 * The sum of the weights of the connections between each pair of entities, in
+	 * compressed sparse row format: the neighbours of the entity at index
+	 * <code>i</code> are stored, in ascending order, in
+	 * <code>adjacency[adjacencyStart[i] .. adjacencyStart[i + 1] - 1]</code>.
+	 */
+	private int[] adjacencyStart;
+	private int[] adjacency;
+	private double[] adjacencyWeights;
+
+	private double approximationTheta = 0;
+
+	/**
+	 * The maximum number of chunks the nodes are split into when computing the
+	 * forces in parallel.
+	 */
+	private static final int MAX_CHUNKS = 32;
+
+	/**
+	 * The minimum number of nodes per chunk.
+	 */
+	private static final int MIN_CHUNK_SIZE = 64;
+
+	private ForkJoinPool pool;
+
+	/**
+	 * The forces accumulated by each chunk when computing the exact forces in
+	 * parallel. These are summed up in chunk order, so that the result doesn't
+	 * depend on the number of threads.
+	 */
+	private double[][] chunkForcesX, chunkForcesY;
+
+	private boolean[] movable;
 
 	private EntityLayout[] entities;
 
@@ -1210,6 +1248,61 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		return sprGravitation;
 	}
 
+	/**
+	 * Sets the opening angle used to approximate the repulsion between nodes. If
+	 * greater than 0, the repulsion exerted by a group of distant nodes is
+	 * approximated by a single node in their center, as in the Barnes-Hut
+	 * algorithm. This reduces the cost of an iteration from <i>O(n<sup>2</sup>)</i>
+	 * to <i>O(n log n)</i>, at the expense of accuracy. Typical values lie between
+	 * 0.5 and 1. The default value is 0, meaning that the repulsion is computed
+	 * exactly.
+	 *
+	 * @param theta The opening angle, or 0 to disable the approximation.
+	 * @since 2.1
+	 */
+	public void setApproximationTheta(double theta) {
+		approximationTheta = theta;
+	}
+
+	/**
+	 * Returns the opening angle used to approximate the repulsion between nodes.
+	 *
+	 * @return The opening angle, or 0 if the repulsion is computed exactly.
+	 * @see #setApproximationTheta(double)
+	 * @since 2.1
+	 */
+	public double getApproximationTheta() {
+		return approximationTheta;
+	}
+
+	/**
+	 * Sets the pool used to compute the forces and positions in parallel. The
+	 * nodes are split into chunks whose number only depends on the number of
+	 * nodes, and the forces of each chunk are accumulated in a separate buffer.
+	 * The result of a layout is therefore the same for any pool, but may differ
+	 * from a sequential layout due to rounding. The default value is
+	 * <code>null</code>, meaning that the layout is computed sequentially.
+	 *
+	 * @param pool The pool to use, or <code>null</code> to compute the layout
+	 *             sequentially.
+	 * @since 2.1
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the pool used to compute the forces and positions in parallel.
+	 *
+	 * @return The pool, or <code>null</code> if the layout is computed
+	 *         sequentially.
+	 * @see #setForkJoinPool(ForkJoinPool)
+	 * @since 2.1
+	 */
+	public ForkJoinPool getForkJoinPool() {
+		return pool;
+	}
+
 	/**
 	 * Sets the number of iterations to be used.
 	 *
@@ -1253,24 +1346,26 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		bounds = context.getBounds();
 		loadLocations();
 
-		srcDestToSumOfWeights = new double[entities.length][entities.length];
 		Map<EntityLayout, Integer> entityToPosition = new HashMap<>();
 		for (int i = 0; i < entities.length; i++) {
 			entityToPosition.put(entities[i], Integer.valueOf(i));
 		}
 
+		Map<Long, Double> pairToSumOfWeights = new HashMap<>();
 		ConnectionLayout[] connections = context.getConnections();
 		for (ConnectionLayout connection : connections) {
 			Integer source = entityToPosition.get(getEntity(connection.getSource()));
 			Integer target = entityToPosition.get(getEntity(connection.getTarget()));
-			if (source == null || target == null) {
+			if (source == null || target == null || source.equals(target)) {
 				continue;
 			}
 			double weight = connection.getWeight();
 			weight = (weight <= 0 ? 0.1 : weight);
-			srcDestToSumOfWeights[source.intValue()][target.intValue()] += weight;
-			srcDestToSumOfWeights[target.intValue()][source.intValue()] += weight;
+			int min = Math.min(source.intValue(), target.intValue());
+			int max = Math.max(source.intValue(), target.intValue());
+			pairToSumOfWeights.merge(Long.valueOf(pairKey(min, max)), Double.valueOf(weight), Double::sum);
 		}
+		initAdjacency(pairToSumOfWeights);
 
 		if (sprRandom) {
 			placeRandomly(); // put vertices in random places
@@ -1281,7 +1376,38 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 		startTime = System.currentTimeMillis();
 	}
 
-	private static EntityLayout getEntity(NodeLayout node) {
+	private static long pairKey(int i, int j) {
+		return ((long) i << 32) | j;
+	}
+
+	private void initAdjacency(Map<Long, Double> pairToSumOfWeights) {
+		long[] keys = new long[2 * pairToSumOfWeights.size()];
+		int k = 0;
+		for (Long key : pairToSumOfWeights.keySet()) {
+			int i = (int) (key.longValue() >>> 32);
+			int j = (int) key.longValue();
+			keys[k++] = pairKey(i, j);
+			keys[k++] = pairKey(j, i);
+		}
+		Arrays.sort(keys);
+
+		adjacencyStart = new int[entities.length + 1];
+		adjacency = new int[keys.length];
+		adjacencyWeights = new double[keys.length];
+		for (k = 0; k < keys.length; k++) {
+			int i = (int) (keys[k] >>> 32);
+			int j = (int) keys[k];
+			adjacencyStart[i + 1]++;
+			adjacency[k] = j;
+			adjacencyWeights[k] = pairToSumOfWeights.get(Long.valueOf(pairKey(Math.min(i, j), Math.max(i, j))))
+					.doubleValue();
+		}
+		for (int i = 0; i < entities.length; i++) {
+			adjacencyStart[i + 1] += adjacencyStart[i];
+		}
+	}
+
+	static EntityLayout getEntity(NodeLayout node) {
 		if (!node.isPruned()) {
 			return node;
 		}
@@ -1417,65 +1543,14 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 				locationsY[i] = this.locationsY[i];
 			}
 		}
-		// TODO: Again really really slow!
-
+		loadMovable();
 		for (int k = 0; k < 2; k++) {
-			for (int i = 0; i < this.locationsX.length; i++) {
-
-				for (int j = i + 1; j < locationsX.length; j++) {
-					double dx = (locationsX[i] - locationsX[j]) / bounds.width / boundsScaleX;
-					double dy = (locationsY[i] - locationsY[j]) / bounds.height / boundsScaleY;
-					double distance_sq = dx * dx + dy * dy;
-					// make sure distance and distance squared not too small
-					distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, distance_sq);
-					double distance = Math.sqrt(distance_sq);
-
-					// If there are relationships between srcObj and destObj
-					// then decrease force on srcObj (a pull) in direction of
-					// destObj
-					// If no relation between srcObj and destObj then increase
-					// force on srcObj (a push) from direction of destObj.
-					double sumOfWeights = srcDestToSumOfWeights[i][j];
-
-					double f;
-					if (sumOfWeights > 0) {
-						// nodes are pulled towards each other
-						f = -sprStrain * Math.log(distance / sprLength) * sumOfWeights;
-					} else {
-						// nodes are repelled from each other
-						f = sprGravitation / (distance_sq);
-					}
-					double dfx = f * dx / distance;
-					double dfy = f * dy / distance;
-
-					forcesX[k][i] += dfx;
-					forcesY[k][i] += dfy;
-
-					forcesX[k][j] -= dfx;
-					forcesY[k][j] -= dfy;
-				}
-			}
-
-			for (int i = 0; i < entities.length; i++) {
-				if (entities[i].isMovable()) {
-					double deltaX = sprMove * forcesX[k][i];
-					double deltaY = sprMove * forcesY[k][i];
-
-					// constrain movement, so that nodes don't shoot way off to
-					// the
-					// edge
-					double dist = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-					double maxMovement = 0.2d * sprMove;
-					if (dist > maxMovement) {
-						deltaX *= maxMovement / dist;
-						deltaY *= maxMovement / dist;
-					}
-
-					locationsX[i] += deltaX * bounds.width * boundsScaleX;
-					locationsY[i] += deltaY * bounds.height * boundsScaleY;
-				}
+			if (approximationTheta > 0) {
+				computeApproximatedForces(locationsX, locationsY, forcesX[k], forcesY[k]);
+			} else {
+				computeExactForces(locationsX, locationsY, forcesX[k], forcesY[k]);
 			}
-
+			move(locationsX, locationsY, forcesX[k], forcesY[k]);
 		}
 		// // initialize all forces to zero
 		for (int i = 0; i < this.entities.length; i++) {
@@ -1505,6 +1580,201 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 
 	}
 
+	/**
+	 * Computes the forces between all pairs of nodes. Connected nodes are pulled
+	 * towards each other, all other nodes repel each other.
+	 */
+	private void computeExactForces(double[] locationsX, double[] locationsY, double[] forcesX, double[] forcesY) {
+		int n = locationsX.length;
+		int chunks = getChunkCount(n);
+		if (pool == null || chunks == 1) {
+			computeExactForces(locationsX, locationsY, forcesX, forcesY, 0, n);
+			return;
+		}
+
+		// split the rows so that each chunk handles about the same number of pairs
+		int[] rows = new int[chunks + 1];
+		long pairs = (long) n * (n - 1) / 2;
+		long visited = 0;
+		for (int i = 0, c = 1; i < n && c < chunks; i++) {
+			visited += n - 1 - i;
+			if (visited * chunks >= pairs * c) {
+				rows[c++] = i + 1;
+			}
+		}
+		for (int c = 1; c <= chunks; c++) {
+			rows[c] = Math.max(rows[c], rows[c - 1]);
+		}
+		rows[chunks] = n;
+
+		if (chunkForcesX == null || chunkForcesX.length != chunks || chunkForcesX[0].length != n) {
+			chunkForcesX = new double[chunks][n];
+			chunkForcesY = new double[chunks][n];
+		}
+		forEachChunk(chunks, c -> {
+			Arrays.fill(chunkForcesX[c], 0);
+			Arrays.fill(chunkForcesY[c], 0);
+			computeExactForces(locationsX, locationsY, chunkForcesX[c], chunkForcesY[c], rows[c], rows[c + 1]);
+		});
+		forEachChunk(chunks, c -> {
+			for (int i = getChunkStart(c, chunks, n); i < getChunkStart(c + 1, chunks, n); i++) {
+				for (int b = 0; b < chunks; b++) {
+					forcesX[i] += chunkForcesX[b][i];
+					forcesY[i] += chunkForcesY[b][i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the forces between the nodes in the rows <code>[from, to)</code>
+	 * and all nodes with a greater index.
+	 */
+	private void computeExactForces(double[] locationsX, double[] locationsY, double[] forcesX, double[] forcesY,
+			int from, int to) {
+		for (int i = from; i < to; i++) {
+			// the neighbours of i are sorted, so they can be visited alongside j
+			int e = adjacencyStart[i];
+			int end = adjacencyStart[i + 1];
+			while (e < end && adjacency[e] <= i) {
+				e++;
+			}
+			for (int j = i + 1; j < locationsX.length; j++) {
+				double dx = (locationsX[i] - locationsX[j]) / bounds.width / boundsScaleX;
+				double dy = (locationsY[i] - locationsY[j]) / bounds.height / boundsScaleY;
+				double distance_sq = dx * dx + dy * dy;
+				// make sure distance and distance squared not too small
+				distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, distance_sq);
+				double distance = Math.sqrt(distance_sq);
+
+				// If there are relationships between srcObj and destObj
+				// then decrease force on srcObj (a pull) in direction of
+				// destObj
+				// If no relation between srcObj and destObj then increase
+				// force on srcObj (a push) from direction of destObj.
+				double f;
+				if (e < end && adjacency[e] == j) {
+					// nodes are pulled towards each other
+					f = -sprStrain * Math.log(distance / sprLength) * adjacencyWeights[e++];
+				} else {
+					// nodes are repelled from each other
+					f = sprGravitation / (distance_sq);
+				}
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+		}
+	}
+
+	/**
+	 * Same as {@link #computeExactForces(double[], double[], double[], double[])},
+	 * but approximates the repulsion using a quadtree. The repulsion is first
+	 * computed for all nodes and then replaced by the pull for each pair of
+	 * connected nodes. Each node only accumulates its own force, so the result
+	 * doesn't depend on whether the forces are computed in parallel.
+	 */
+	private void computeApproximatedForces(double[] locationsX, double[] locationsY, double[] forcesX,
+			double[] forcesY) {
+		int n = locationsX.length;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = locationsX[i] / bounds.width / boundsScaleX;
+			y[i] = locationsY[i] / bounds.height / boundsScaleY;
+		}
+		ForceQuadTree tree = new ForceQuadTree(x, y);
+		int chunks = getChunkCount(n);
+		forEachChunk(chunks, c -> {
+			for (int i = getChunkStart(c, chunks, n); i < getChunkStart(c + 1, chunks, n); i++) {
+				tree.addRepulsion(i, approximationTheta, sprGravitation, MIN_DISTANCE, forcesX, forcesY);
+				for (int e = adjacencyStart[i]; e < adjacencyStart[i + 1]; e++) {
+					int j = adjacency[e];
+					double dx = x[i] - x[j];
+					double dy = y[i] - y[j];
+					double distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE, dx * dx + dy * dy);
+					double distance = Math.sqrt(distance_sq);
+					double f = -sprStrain * Math.log(distance / sprLength) * adjacencyWeights[e]
+							- sprGravitation / distance_sq;
+					forcesX[i] += f * dx / distance;
+					forcesY[i] += f * dy / distance;
+				}
+			}
+		});
+	}
+
+	private static int getChunkCount(int n) {
+		return Math.max(1, Math.min(MAX_CHUNKS, n / MIN_CHUNK_SIZE));
+	}
+
+	private static int getChunkStart(int chunk, int chunks, int n) {
+		return (int) ((long) n * chunk / chunks);
+	}
+
+	/**
+	 * Runs the given action for each chunk, in parallel if a pool has been set.
+	 */
+	private void forEachChunk(int chunks, IntConsumer action) {
+		if (pool == null || chunks == 1) {
+			for (int c = 0; c < chunks; c++) {
+				action.accept(c);
+			}
+			return;
+		}
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+		for (int c = 0; c < chunks; c++) {
+			int chunk = c;
+			tasks.add(ForkJoinTask.adapt(() -> action.accept(chunk)));
+		}
+		pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+	}
+
+	/**
+	 * Caches whether the entities are movable, so that they are not queried from
+	 * other threads.
+	 */
+	private void loadMovable() {
+		if (movable == null || movable.length != entities.length) {
+			movable = new boolean[entities.length];
+		}
+		for (int i = 0; i < entities.length; i++) {
+			movable[i] = entities[i].isMovable();
+		}
+	}
+
+	/**
+	 * Moves each movable node by sprMove * force.
+	 */
+	private void move(double[] locationsX, double[] locationsY, double[] forcesX, double[] forcesY) {
+		int n = locationsX.length;
+		int chunks = getChunkCount(n);
+		forEachChunk(chunks, c -> {
+			for (int i = getChunkStart(c, chunks, n); i < getChunkStart(c + 1, chunks, n); i++) {
+				if (movable[i]) {
+					double deltaX = sprMove * forcesX[i];
+					double deltaY = sprMove * forcesY[i];
+
+					// constrain movement, so that nodes don't shoot way off to
+					// the edge
+					double dist = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+					double maxMovement = 0.2d * sprMove;
+					if (dist > maxMovement) {
+						deltaX *= maxMovement / dist;
+						deltaY *= maxMovement / dist;
+					}
+
+					locationsX[i] += deltaX * bounds.width * boundsScaleX;
+					locationsY[i] += deltaY * bounds.height * boundsScaleY;
+				}
+			}
+		});
+	}
+
 	/**
 	 * Computes the position for each node in this SpringLayoutAlgorithm. The
 	 * computed position will be stored in the data repository. position = position
@@ -1513,24 +1783,8 @@ public class SpringLayoutAlgorithm extends AbstractLayoutAlgorithm {
 	 * @since 2.0
 	 */
 	protected void computePositions() {
-		for (int i = 0; i < entities.length; i++) {
-			if (entities[i].isMovable()) {
-				double deltaX = sprMove * forcesX[i];
-				double deltaY = sprMove * forcesY[i];
-
-				// constrain movement, so that nodes don't shoot way off to the
-				// edge
-				double dist = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-				double maxMovement = 0.2d * sprMove;
-				if (dist > maxMovement) {
-					deltaX *= maxMovement / dist;
-					deltaY *= maxMovement / dist;
-				}
-
-				locationsX[i] += deltaX * bounds.width * boundsScaleX;
-				locationsY[i] += deltaY * bounds.height * boundsScaleY;
-			}
-		}
+		loadMovable();
+		move(locationsX, locationsY, forcesX, forcesY);
 	}
 
 	private DisplayIndependentRectangle getLayoutBounds() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Fabian Steeg. All rights reserved.
+ * Copyright (c) 2011, 2026 Fabian Steeg. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,8 +12,11 @@
 package org.eclipse.zest.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -25,7 +28,12 @@ import org.eclipse.zest.core.widgets.GraphItem;
 import org.eclipse.zest.core.widgets.GraphNode;
 import org.eclipse.zest.core.widgets.ZestStyles;
 import org.eclipse.zest.core.widgets.internal.ZestRootLayer;
+import org.eclipse.zest.layouts.LayoutAlgorithm;
+import org.eclipse.zest.layouts.interfaces.ConnectionLayout;
+import org.eclipse.zest.layouts.interfaces.ContextListener;
+import org.eclipse.zest.layouts.interfaces.GraphStructureListener;
 import org.eclipse.zest.layouts.interfaces.LayoutContext;
+import org.eclipse.zest.layouts.interfaces.NodeLayout;
 
 import org.eclipse.draw2d.Figure;
 
@@ -40,6 +48,23 @@ import org.junit.jupiter.api.Test;
  */
 public class GraphTests {
 
+	/**
+	 * Counts how often the layout is applied.
+	 */
+	private static class CountingLayoutAlgorithm implements LayoutAlgorithm {
+
+		int count;
+
+		@Override
+		public void setLayoutContext(LayoutContext context) {
+		}
+
+		@Override
+		public void applyLayout(boolean clean) {
+			count++;
+		}
+	}
+
 	private GraphNode[] nodes;
 
 	private Graph graph;
@@ -185,4 +210,92 @@ public class GraphTests {
 		graph.setGraphStyle(ZestStyles.NONE);
 		assertEquals(graph.getListeners(SWT.Gesture).length, 2);
 	}
+
+	/**
+	 * Check that nodes and connections added during a batch update are known to
+	 * the layout context once the batch update has ended.
+	 */
+	@Test
+	public void testBatchUpdate() {
+		LayoutContext layoutContext = graph.getLayoutContext();
+		CountingLayoutAlgorithm algorithm = new CountingLayoutAlgorithm();
+		layoutContext.setMainLayoutAlgorithm(algorithm);
+		List<String> events = new ArrayList<>();
+		layoutContext.addGraphStructureListener(new GraphStructureListener.Stub() {
+
+			@Override
+			public boolean nodeAdded(LayoutContext context, NodeLayout node) {
+				events.add("node " + node.getItems()[0].getText()); //$NON-NLS-1$
+				return false;
+			}
+
+			@Override
+			public boolean connectionAdded(LayoutContext context, ConnectionLayout connection) {
+				events.add("connection " + connection.getTarget().getItems()[0].getText()); //$NON-NLS-1$
+				return false;
+			}
+		});
+
+		graph.beginBatchUpdate();
+		graph.beginBatchUpdate();
+		assertTrue(graph.isBatchUpdate());
+		GraphNode node1 = new GraphNode(graph, SWT.NONE, "1"); //$NON-NLS-1$
+		GraphNode node2 = new GraphNode(graph, SWT.NONE, "2"); //$NON-NLS-1$
+		new GraphConnection(graph, SWT.NONE, nodes[1], node1);
+		new GraphConnection(graph, SWT.NONE, node1, node2);
+		graph.endBatchUpdate();
+		assertTrue(graph.isBatchUpdate());
+		// The events are deferred until the outermost batch update ends
+		assertTrue(events.isEmpty());
+		assertEquals(0, algorithm.count);
+		graph.endBatchUpdate();
+		assertFalse(graph.isBatchUpdate());
+
+		assertEquals(List.of("node 1", "node 2", "connection 1", "connection 2"), events); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		// The layout is applied once for all changes
+		assertEquals(1, algorithm.count);
+		assertEquals(4, layoutContext.getNodes().length);
+		assertEquals(3, layoutContext.getConnections().length);
+		assertThrows(IllegalStateException.class, graph::endBatchUpdate);
+
+		// Without a batch update, the layout is applied at least once per change
+		new GraphNode(graph, SWT.NONE, "3"); //$NON-NLS-1$
+		new GraphNode(graph, SWT.NONE, "4"); //$NON-NLS-1$
+		assertEquals(List.of("node 1", "node 2", "connection 1", "connection 2", "node 3", "node 4"), events); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		assertTrue(algorithm.count >= 3);
+	}
+
+	/**
+	 * Check that the bounds of the layout context are reported at most once per
+	 * batch update.
+	 */
+	@Test
+	public void testBatchUpdateBoundsChanged() {
+		LayoutContext layoutContext = graph.getLayoutContext();
+		CountingLayoutAlgorithm algorithm = new CountingLayoutAlgorithm();
+		layoutContext.setMainLayoutAlgorithm(algorithm);
+		int[] events = new int[1];
+		layoutContext.addContextListener(new ContextListener.Stub() {
+
+			@Override
+			public boolean boundsChanged(LayoutContext context) {
+				events[0]++;
+				return false;
+			}
+		});
+
+		graph.beginBatchUpdate();
+		graph.setPreferredSize(100, 100);
+		graph.setPreferredSize(200, 200);
+		graph.setPreferredSize(300, 300);
+		assertEquals(0, events[0]);
+		graph.endBatchUpdate();
+		assertEquals(1, events[0]);
+		assertEquals(1, algorithm.count);
+
+		graph.beginBatchUpdate();
+		graph.setPreferredSize(400, 400);
+		graph.endBatchUpdate();
+		assertEquals(2, events[0]);
+	}
 }
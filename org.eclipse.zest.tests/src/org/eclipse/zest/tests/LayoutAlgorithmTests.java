@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Fabian Steeg and others.
+ * Copyright (c) 2011, 2026 Fabian Steeg and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,12 @@ package org.eclipse.zest.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Shell;
@@ -26,8 +32,12 @@ import org.eclipse.zest.core.widgets.GraphNode;
 import org.eclipse.zest.layouts.LayoutAlgorithm;
 import org.eclipse.zest.layouts.algorithms.AbstractLayoutAlgorithm;
 import org.eclipse.zest.layouts.algorithms.GridLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.MultilevelLayoutAlgorithm;
+import org.eclipse.zest.layouts.algorithms.SpringLayoutAlgorithm;
 import org.eclipse.zest.layouts.interfaces.LayoutContext;
 
+import org.eclipse.draw2d.geometry.Point;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -138,4 +148,106 @@ public class LayoutAlgorithmTests {
 		graph.setLayoutAlgorithm(new GridLayoutAlgorithm(), true);
 		assertEquals(GridLayoutAlgorithm.class, graph.getLayoutAlgorithm().getClass());
 	}
+
+	/**
+	 * The approximated repulsion of the {@link SpringLayoutAlgorithm} must still
+	 * spread the nodes within the layout bounds.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testSpringLayoutAlgorithmApproximation() {
+		Graph graph = new Graph(new Shell(), SWT.NONE);
+		graph.setSize(500, 500);
+		GraphNode previous = null;
+		for (int i = 0; i < 50; i++) {
+			GraphNode node = new GraphNode(graph, SWT.NONE, Integer.toString(i));
+			if (previous != null) {
+				new GraphConnection(graph, SWT.NONE, previous, node);
+			}
+			previous = node;
+		}
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setApproximationTheta(0.8);
+		assertEquals(0.8, algorithm.getApproximationTheta());
+		graph.setLayoutAlgorithm(algorithm, true);
+
+		Set<Point> locations = new HashSet<>();
+		for (GraphNode node : graph.getNodes()) {
+			Point location = node.getLocation();
+			assertTrue(location.x >= 0 && location.x < 500, "Node outside of the layout bounds: " + location); //$NON-NLS-1$
+			assertTrue(location.y >= 0 && location.y < 500, "Node outside of the layout bounds: " + location); //$NON-NLS-1$
+			locations.add(location);
+		}
+		assertTrue(locations.size() > 1, "Nodes have not been spread"); //$NON-NLS-1$
+	}
+
+	/**
+	 * The result of the {@link SpringLayoutAlgorithm} must not depend on the
+	 * number of threads used to compute the forces.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testSpringLayoutAlgorithmParallel() {
+		ForkJoinPool pool1 = new ForkJoinPool(1);
+		ForkJoinPool pool4 = new ForkJoinPool(4);
+		try {
+			assertEquals(layoutWithSpring(pool1), layoutWithSpring(pool4));
+		} finally {
+			pool1.shutdown();
+			pool4.shutdown();
+		}
+	}
+
+	private static List<Point> layoutWithSpring(ForkJoinPool pool) {
+		Graph graph = new Graph(new Shell(), SWT.NONE);
+		graph.setSize(500, 500);
+		for (int i = 0; i < 200; i++) {
+			GraphNode node = new GraphNode(graph, SWT.NONE, Integer.toString(i));
+			node.setLocation(i % 20 * 25, i / 20 * 50);
+			if (i > 0) {
+				new GraphConnection(graph, SWT.NONE, graph.getNodes().get(i / 2), node);
+			}
+		}
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setIterations(20);
+		algorithm.setSpringTimeout(0);
+		algorithm.setForkJoinPool(pool);
+		assertEquals(pool, algorithm.getForkJoinPool());
+		graph.setLayoutAlgorithm(algorithm, true);
+
+		List<Point> locations = new ArrayList<>();
+		graph.getNodes().forEach(node -> locations.add(node.getLocation()));
+		graph.getShell().dispose();
+		return locations;
+	}
+
+	/**
+	 * The {@link MultilevelLayoutAlgorithm} must unfold a grid, i.e. opposite
+	 * corners of the grid must end up far apart.
+	 */
+	@Test
+	@SuppressWarnings("static-method")
+	public void testMultilevelLayoutAlgorithm() {
+		Graph graph = new Graph(new Shell(), SWT.NONE);
+		graph.setSize(500, 500);
+		int size = 20;
+		GraphNode[] nodes = new GraphNode[size * size];
+		for (int i = 0; i < nodes.length; i++) {
+			nodes[i] = new GraphNode(graph, SWT.NONE, Integer.toString(i));
+			if (i % size > 0) {
+				new GraphConnection(graph, SWT.NONE, nodes[i - 1], nodes[i]);
+			}
+			if (i >= size) {
+				new GraphConnection(graph, SWT.NONE, nodes[i - size], nodes[i]);
+			}
+		}
+		graph.setLayoutAlgorithm(new MultilevelLayoutAlgorithm(), true);
+
+		double diagonal1 = nodes[0].getLocation().getDistance(nodes[nodes.length - 1].getLocation());
+		double diagonal2 = nodes[size - 1].getLocation().getDistance(nodes[nodes.length - size].getLocation());
+		double edge = nodes[0].getLocation().getDistance(nodes[1].getLocation());
+		assertTrue(diagonal1 > 10 * edge, "Grid has not been unfolded"); //$NON-NLS-1$
+		assertTrue(diagonal2 > 10 * edge, "Grid has not been unfolded"); //$NON-NLS-1$
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.zest.tests;
 
+import org.eclipse.zest.tests.cloudio.BitSetCloudMatrixTests;
 import org.eclipse.zest.tests.cloudio.TagCloudTests;
 import org.eclipse.zest.tests.cloudio.TagCloudViewerTests;
 
@@ -31,7 +32,8 @@ import org.junit.platform.suite.api.Suite;
 	LayoutAlgorithmTest.class,
 	LayoutAlgorithmTests.class,
 	TagCloudTests.class,
-	TagCloudViewerTests.class
+	TagCloudViewerTests.class,
+	BitSetCloudMatrixTests.class
 })
 public class ZestTestSuite {
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.zest.tests.cloudio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.eclipse.zest.cloudio.util.BitSetCloudMatrix;
+import org.eclipse.zest.cloudio.util.CloudMatrix;
+import org.eclipse.zest.cloudio.util.RectTree;
+import org.eclipse.zest.cloudio.util.SmallRect;
+
+import org.junit.jupiter.api.Test;
+
+public class BitSetCloudMatrixTests {
+
+	private static final int ACCURACY = 5;
+	private static final int MAX_SIZE = 640;
+
+	private static RectTree createWord(int columns, int rows) {
+		RectTree tree = new RectTree(new SmallRect(0, 0, ACCURACY * 128, ACCURACY * 128), ACCURACY);
+		for (int y = 0; y < rows; y++) {
+			for (int x = 0; x < columns; x++) {
+				tree.insert(new SmallRect(x * ACCURACY, y * ACCURACY, ACCURACY, ACCURACY), (short) 1);
+			}
+		}
+		tree.releaseRects();
+		return tree;
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testPlaceWord() {
+		BitSetCloudMatrix matrix = new BitSetCloudMatrix(MAX_SIZE, ACCURACY);
+		RectTree word = createWord(70, 3);
+		word.move(10 * ACCURACY, 20 * ACCURACY);
+		assertTrue(word.fits(matrix));
+		word.place(matrix, (short) 7);
+		assertEquals(7, matrix.get(10, 20));
+		assertEquals(7, matrix.get(79, 22));
+		assertEquals(RectTree.EMPTY, matrix.get(80, 22));
+		assertFalse(matrix.isEmpty(45, 21));
+		assertTrue(matrix.isEmpty(9, 20));
+
+		RectTree other = createWord(2, 2);
+		other.move(78 * ACCURACY, 22 * ACCURACY);
+		assertFalse(other.fits(matrix));
+		other.move(80 * ACCURACY, 22 * ACCURACY);
+		assertTrue(other.fits(matrix));
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testRemoveWord() {
+		BitSetCloudMatrix matrix = new BitSetCloudMatrix(MAX_SIZE, ACCURACY);
+		RectTree word = createWord(4, 4);
+		word.move(30 * ACCURACY, 30 * ACCURACY);
+		word.place(matrix, (short) 1);
+		RectTree other = createWord(4, 4);
+		other.move(32 * ACCURACY, 32 * ACCURACY);
+		assertFalse(other.fits(matrix));
+		matrix.remove(word);
+		assertTrue(other.fits(matrix));
+		assertEquals(RectTree.EMPTY, matrix.get(30, 30));
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testGetIds() {
+		BitSetCloudMatrix matrix = new BitSetCloudMatrix(MAX_SIZE, ACCURACY);
+		RectTree first = createWord(4, 4);
+		first.move(0, 0);
+		first.place(matrix, (short) 1);
+		RectTree second = createWord(4, 4);
+		second.move(20 * ACCURACY, 0);
+		second.place(matrix, (short) 2);
+		BitSet ids = matrix.getIds(2, 2, 10, 10);
+		assertTrue(ids.get(1));
+		assertFalse(ids.get(2));
+		ids = matrix.getIds(-5, -5, 200, 200);
+		assertEquals(2, ids.cardinality());
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testNegativeOffsets() {
+		CloudMatrix quadtree = new CloudMatrix(MAX_SIZE, ACCURACY);
+		BitSetCloudMatrix bits = new BitSetCloudMatrix(MAX_SIZE, ACCURACY);
+		// Occupy the first column and the first row
+		RectTree column = createWord(1, MAX_SIZE / ACCURACY);
+		RectTree row = createWord(MAX_SIZE / ACCURACY, 1);
+		column.place(quadtree, (short) 1);
+		column.place(bits, (short) 1);
+		row.place(quadtree, (short) 2);
+		row.place(bits, (short) 2);
+
+		Random random = new Random(0);
+		int fitting = 0;
+		for (int i = 0; i < 1000; i++) {
+			RectTree word = createWord(1 + random.nextInt(3), 1 + random.nextInt(3));
+			word.move(random.nextInt(6 * ACCURACY) - 4 * ACCURACY, random.nextInt(6 * ACCURACY) - 4 * ACCURACY);
+			boolean fits = quadtree.fits(word);
+			assertEquals(fits, bits.fits(word));
+			if (fits) {
+				fitting++;
+			}
+		}
+		assertTrue(fitting > 0 && fitting < 1000);
+		// A cell left of the matrix is outside of it, even if it starts less than a
+		// cell before it
+		RectTree word = createWord(1, 1);
+		word.move(-ACCURACY + 1, 10 * ACCURACY);
+		assertTrue(bits.fits(word));
+		assertTrue(quadtree.fits(word));
+	}
+
+	@SuppressWarnings("static-method")
+	@Test
+	public void testSameResultAsQuadtree() {
+		Random random = new Random(0);
+		CloudMatrix quadtree = new CloudMatrix(MAX_SIZE, ACCURACY);
+		BitSetCloudMatrix bits = new BitSetCloudMatrix(MAX_SIZE, ACCURACY);
+		for (short id = 1; id <= 200; id++) {
+			RectTree word = new RectTree(new SmallRect(0, 0, ACCURACY * 32, ACCURACY * 32), ACCURACY);
+			int columns = 1 + random.nextInt(30);
+			int rows = 1 + random.nextInt(8);
+			for (int y = 0; y < rows; y++) {
+				for (int x = 0; x < columns; x++) {
+					if (random.nextBoolean()) {
+						word.insert(new SmallRect(x * ACCURACY, y * ACCURACY, ACCURACY, ACCURACY), id);
+					}
+				}
+			}
+			word.releaseRects();
+			for (int i = 0; i < 20; i++) {
+				word.move(random.nextInt(90) * ACCURACY, random.nextInt(110) * ACCURACY);
+				boolean fits = quadtree.fits(word);
+				assertEquals(fits, bits.fits(word));
+				if (fits) {
+					word.place(quadtree, id);
+					word.place(bits, id);
+					break;
+				}
+			}
+		}
+		// The quadtree may report the id of a merged parent node, so only the
+		// occupancy of the cells is compared
+		for (int y = 0; y < MAX_SIZE / ACCURACY; y++) {
+			for (int x = 0; x < MAX_SIZE / ACCURACY; x++) {
+				assertEquals(quadtree.isEmpty(x, y), bits.isEmpty(x, y));
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,8 @@ package org.eclipse.zest.tests.cloudio;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,15 +34,21 @@ import org.eclipse.swt.events.MouseWheelListener;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.ScrollBar;
 import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.zest.cloudio.TagCloud;
 import org.eclipse.zest.cloudio.Word;
+import org.eclipse.zest.cloudio.layout.ILayouter;
+import org.eclipse.zest.cloudio.util.BitSetCloudMatrix;
+import org.eclipse.zest.cloudio.util.CloudMatrix;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -280,6 +288,71 @@ public class TagCloudTests {
 		assertEquals(10, placed);
 	}
 
+	// Extents
+
+	private Word getWord(String string, double weight, float angle) {
+		Word w = new Word(string);
+		w.setColor(Display.getDefault().getSystemColor(SWT.COLOR_GRAY));
+		w.setFontData(composite.getFont().getFontData());
+		w.weight = weight;
+		w.angle = angle;
+		return w;
+	}
+
+	private static BitSetCloudMatrix getCells(Word word) {
+		BitSetCloudMatrix cells = new BitSetCloudMatrix(5120, 5);
+		word.tree.move(0, 0);
+		word.tree.place(cells, (short) 1);
+		return cells;
+	}
+
+	private static void assertSameExtents(Word expected, Word actual) {
+		assertEquals(expected.width, actual.width);
+		assertEquals(expected.height, actual.height);
+		assertEquals(expected.stringExtent, actual.stringExtent);
+		BitSetCloudMatrix expectedCells = getCells(expected);
+		BitSetCloudMatrix actualCells = getCells(actual);
+		for (int y = 0; y <= expected.height / 5 + 1; y++) {
+			for (int x = 0; x <= expected.width / 5 + 1; x++) {
+				assertEquals(expectedCells.isEmpty(x, y), actualCells.isEmpty(x, y), actual.string + " at " + x + "/" + y); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	@Test
+	public void testSameExtentsForSameRendering() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			words.add(getWord("Word", 0.5, 30)); //$NON-NLS-1$
+		}
+		words.add(getWord("Other", 0.5, 30)); //$NON-NLS-1$
+		assertEquals(4, cloud.setWords(words, null));
+		// The words share their rendering, but each one has its own tree
+		assertNotSame(words.get(0).tree, words.get(1).tree);
+		assertNotSame(words.get(0).tree, words.get(2).tree);
+		assertSameExtents(words.get(0), words.get(1));
+		assertSameExtents(words.get(0), words.get(2));
+	}
+
+	@Test
+	public void testExtentsMatchSingleWords() {
+		List<Word> words = new ArrayList<>();
+		String[] strings = { "Alpha", "Beta", "Gamma", "Delta", "Epsilon" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		for (int i = 0; i < 20; i++) {
+			words.add(getWord(strings[i % strings.length], (i % 7) / 6.0, (i % 5) * 45 - 90));
+		}
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		cloud.setWords(words, null);
+		// The extents measured in parallel are the same as the ones of each word
+		// measured on its own
+		for (Word word : words) {
+			Word single = getWord(word.string, word.weight, word.angle);
+			new TagCloud(composite, SWT.NONE).setWords(Arrays.asList(single), null);
+			assertSameExtents(single, word);
+		}
+	}
+
 	@Test
 	public void testSetInvalidOpacity1() {
 		TagCloud cloud = new TagCloud(composite, SWT.NONE);
@@ -401,6 +474,180 @@ public class TagCloudTests {
 		assertTrue(selection.isEmpty());
 	}
 
+	@Test
+	public void testSelectionKeepsZoom() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = Arrays.asList(getWord(), getWord());
+		cloud.setWords(words, null);
+		cloud.zoomReset();
+		cloud.zoomIn();
+		double zoom = cloud.getZoom();
+		cloud.setSelection(new HashSet<>(words.subList(0, 1)));
+		assertEquals(zoom, cloud.getZoom(), 0.0001);
+		cloud.setSelection(new HashSet<>());
+		assertEquals(zoom, cloud.getZoom(), 0.0001);
+	}
+
+	@Test
+	public void testZoomFitAfterSelection() {
+		composite.setSize(400, 300);
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		composite.layout();
+		List<Word> words = Arrays.asList(getWord(), getWord());
+		cloud.setWords(words, null);
+		cloud.setSelection(new HashSet<>(words));
+		cloud.zoomReset();
+		cloud.zoomFit();
+		// The zoom only depends on the unzoomed size of the cloud
+		ImageData imageData = cloud.getImageData();
+		Rectangle client = cloud.getClientArea();
+		double expected = Math.min((double) client.width / imageData.width,
+				(double) client.height / imageData.height);
+		assertEquals(Math.max(0.1, Math.min(3, expected)), cloud.getZoom(), 0.0001);
+	}
+
+	@Test
+	public void testSelectionDoesNotChangeImageData() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = Arrays.asList(getWord(), getWord());
+		cloud.setWords(words, null);
+		ImageData before = cloud.getImageData();
+		cloud.setSelection(new HashSet<>(words));
+		ImageData after = cloud.getImageData();
+		assertEquals(before.width, after.width);
+		assertEquals(before.height, after.height);
+		assertTrue(Arrays.equals(before.data, after.data));
+	}
+
+	@Test
+	public void testSelectionChangeFiredOnce() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = Arrays.asList(getWord(), getWord());
+		cloud.setWords(words, null);
+		List<Set<Word>> events = new ArrayList<>();
+		cloud.addSelectionListener(new SelectionListener() {
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				events.add((Set<Word>) e.data);
+			}
+
+			@Override
+			public void widgetDefaultSelected(SelectionEvent e) {
+			}
+		});
+		Set<Word> selection = new HashSet<>(words.subList(0, 1));
+		cloud.setSelection(selection);
+		cloud.setSelection(selection);
+		assertEquals(List.of(selection), events);
+	}
+
+	// Words in an area
+
+	private List<Word> setWords(TagCloud cloud) {
+		composite.setSize(300, 200);
+		composite.layout();
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			words.add(getWord("Word" + i, 0.2, 0)); //$NON-NLS-1$
+		}
+		assertEquals(10, cloud.setWords(words, null));
+		return words;
+	}
+
+	@Test
+	public void testGetWordsInZoomed() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = setWords(cloud);
+		cloud.zoomReset();
+		for (int i = 0; i < 5; i++) {
+			cloud.zoomOut();
+		}
+		double zoom = cloud.getZoom();
+		assertTrue(zoom < 1);
+		ImageData imageData = cloud.getImageData();
+		int width = (int) Math.ceil(imageData.width * zoom);
+		int height = (int) Math.ceil(imageData.height * zoom);
+		// The area of the mouse events is scaled by the zoom
+		assertEquals(new HashSet<>(words), cloud.getWordsIn(new Rectangle(0, 0, width, height)));
+		int outside = (int) Math.ceil((imageData.width + 10) * zoom);
+		assertTrue(cloud.getWordsIn(new Rectangle(outside, 0, 100, height)).isEmpty());
+		assertTrue(cloud.getWordsIn(new Rectangle(-100, -100, 90, 90)).isEmpty());
+	}
+
+	/**
+	 * Returns the data of the mouse event fired for a click at the given point.
+	 */
+	private static Object click(TagCloud cloud, List<MouseEvent> events, int x, int y) {
+		Event event = new Event();
+		event.x = x;
+		event.y = y;
+		cloud.notifyListeners(SWT.MouseDown, event);
+		return events.get(events.size() - 1).data;
+	}
+
+	@Test
+	public void testGetWordsInScrolled() {
+		TagCloud cloud = new TagCloud(composite, SWT.H_SCROLL | SWT.V_SCROLL);
+		List<Word> words = setWords(cloud);
+		cloud.zoomReset();
+		cloud.zoomIn();
+		cloud.zoomIn();
+		ScrollBar hBar = cloud.getHorizontalBar();
+		hBar.setSelection(hBar.getMaximum() / 4);
+		hBar.notifyListeners(SWT.Selection, new Event());
+		ScrollBar vBar = cloud.getVerticalBar();
+		vBar.setSelection(vBar.getMaximum() / 4);
+		vBar.notifyListeners(SWT.Selection, new Event());
+
+		// The word at the position of a mouse event is found in the area at the
+		// position of the event
+		List<MouseEvent> events = new ArrayList<>();
+		cloud.addMouseListener(MouseListener.mouseDownAdapter(events::add));
+		Rectangle client = cloud.getClientArea();
+		Set<Object> found = new HashSet<>();
+		for (int y = 0; y < client.height; y += 3) {
+			for (int x = 0; x < client.width; x += 3) {
+				Object word = click(cloud, events, x, y);
+				if (word != null) {
+					found.add(word);
+					MouseEvent me = events.get(events.size() - 1);
+					assertTrue(cloud.getWordsIn(new Rectangle(me.x, me.y, 0, 0)).contains(word));
+				}
+			}
+		}
+		assertFalse(found.isEmpty());
+		assertTrue(words.containsAll(found));
+	}
+
+	@Test
+	public void testGetWordAtOutsideOfCloud() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		List<Word> words = setWords(cloud);
+		cloud.zoomReset();
+		List<MouseEvent> events = new ArrayList<>();
+		cloud.addMouseListener(MouseListener.mouseDownAdapter(events::add));
+		ImageData imageData = cloud.getImageData();
+		// Points left of and above the cloud don't hit a word, even if they are less
+		// than a cell before it
+		for (int offset : new int[] { -10000, -100, -4, -1 }) {
+			for (int y = 0; y < imageData.height; y++) {
+				assertNull(click(cloud, events, offset, y));
+			}
+			for (int x = 0; x < imageData.width; x++) {
+				assertNull(click(cloud, events, x, offset));
+			}
+		}
+		// Neither do points beyond the matrix
+		assertNull(click(cloud, events, 10000, 0));
+		assertNull(click(cloud, events, 0, 30000));
+		for (int x = 0; x < imageData.width; x++) {
+			Object word = click(cloud, events, x, imageData.height / 2);
+			assertTrue(word == null || words.contains(word));
+		}
+	}
+
 	// Boost
 
 	@Test
@@ -488,6 +735,125 @@ public class TagCloudTests {
 		assertTrue(rectChanged);
 	}
 
+	// Incremental update
+
+	/**
+	 * Places each word at the first position, row by row, where it fits, so that
+	 * the layout doesn't depend on random numbers.
+	 */
+	private static class GridLayouter implements ILayouter {
+
+		@Override
+		public Point getInitialOffset(Word word, Rectangle cloudArea) {
+			return new Point(0, 0);
+		}
+
+		@Override
+		public boolean layout(Point initial, Word word, Rectangle cloudArea, CloudMatrix cloudMatrix) {
+			int accuracy = cloudMatrix.getMinResolution();
+			for (int y = cloudArea.y; y + word.height <= cloudArea.y + cloudArea.height; y += accuracy) {
+				for (int x = cloudArea.x; x + word.width <= cloudArea.x + cloudArea.width; x += accuracy) {
+					word.tree.move(x, y);
+					if (word.tree.fits(cloudMatrix)) {
+						word.x = x;
+						word.y = y;
+						word.tree.place(cloudMatrix, word.id);
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void setOption(String optionName, Object object) {
+		}
+
+	}
+
+	private TagCloud createGridCloud() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE, 5, 640);
+		cloud.setLayouter(new GridLayouter());
+		return cloud;
+	}
+
+	private List<Word> getWords(int count) {
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			words.add(getWord("Word" + i, 0.1, 0)); //$NON-NLS-1$
+		}
+		return words;
+	}
+
+	private static Set<Word> getAllWords(TagCloud cloud) {
+		return cloud.getWordsIn(new Rectangle(-10000, -10000, 20000, 20000));
+	}
+
+	@Test
+	public void testUpdateWordsKeepsPositions() {
+		TagCloud cloud = createGridCloud();
+		List<Word> words = getWords(10);
+		assertEquals(10, cloud.setWords(words, null));
+		List<Point> positions = new ArrayList<>();
+		for (Word word : words) {
+			positions.add(new Point(word.x, word.y));
+		}
+		List<Word> updated = new ArrayList<>(words);
+		updated.add(getWord("Added", 0.1, 0)); //$NON-NLS-1$
+		updated.add(getWord("Another", 0.1, 0)); //$NON-NLS-1$
+		assertEquals(12, cloud.updateWords(updated, null));
+		for (int i = 0; i < words.size(); i++) {
+			assertEquals(positions.get(i), new Point(words.get(i).x, words.get(i).y));
+		}
+		assertEquals(new HashSet<>(updated), getAllWords(cloud));
+	}
+
+	@Test
+	public void testUpdateWordsFreesRemovedWords() {
+		TagCloud cloud = createGridCloud();
+		List<Word> words = getWords(10);
+		assertEquals(10, cloud.setWords(words, null));
+		Word removed = words.remove(4);
+		assertEquals(9, cloud.updateWords(words, null));
+		assertEquals(new HashSet<>(words), getAllWords(cloud));
+
+		// A word of the same size is placed at the first free position, which is
+		// the one of the removed word
+		Word replacement = getWord(removed.string, removed.weight, removed.angle);
+		words.add(replacement);
+		assertEquals(10, cloud.updateWords(words, null));
+		assertEquals(removed.x, replacement.x);
+		assertEquals(removed.y, replacement.y);
+		assertEquals(new HashSet<>(words), getAllWords(cloud));
+	}
+
+	@Test
+	public void testUpdateWordsMeasuresModifiedWords() {
+		TagCloud cloud = createGridCloud();
+		List<Word> words = getWords(10);
+		assertEquals(10, cloud.setWords(words, null));
+		Word kept = words.get(0);
+		Point keptPosition = new Point(kept.x, kept.y);
+		Word heavier = words.get(3);
+		Point heavierSize = new Point(heavier.width, heavier.height);
+		heavier.weight = 0.3;
+		Word rotated = words.get(6);
+		Point rotatedSize = new Point(rotated.width, rotated.height);
+		rotated.angle = 90;
+		assertEquals(10, cloud.updateWords(words, null));
+
+		assertEquals(keptPosition, new Point(kept.x, kept.y));
+		assertTrue(heavier.width > heavierSize.x);
+		assertTrue(heavier.height > heavierSize.y);
+		assertTrue(rotated.height > rotatedSize.y);
+		assertTrue(rotated.width < rotatedSize.x);
+		// The modified words are measured like new ones
+		Word expected = getWord(heavier.string, heavier.weight, heavier.angle);
+		createGridCloud().setWords(Arrays.asList(expected), null);
+		assertSameExtents(expected, heavier);
+		assertEquals(new HashSet<>(words), getAllWords(cloud));
+	}
+
 	// @Test
 	// public void testLayoutTooLarge() {
 	// TagCloud cloud = new TagCloud(composite, SWT.NONE);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2025 Stephan Schwiebert and others.
+ * Copyright (c) 2011, 2026 Stephan Schwiebert and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,21 +12,31 @@
 package org.eclipse.zest.tests.cloudio;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.jface.viewers.BaseLabelProvider;
 import org.eclipse.jface.viewers.IContentProvider;
+import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.zest.cloudio.TagCloud;
 import org.eclipse.zest.cloudio.TagCloudViewer;
@@ -191,4 +201,112 @@ public class TagCloudViewerTests {
 		assertEquals(layouter, viewer.getLayouter());
 	}
 
+	@Test
+	public void testIncremental() {
+		TagCloudViewer viewer = new TagCloudViewer(cloud);
+		assertFalse(viewer.isIncremental());
+		viewer.setIncremental(true);
+		assertTrue(viewer.isIncremental());
+		viewer.setIncremental(false);
+		assertFalse(viewer.isIncremental());
+	}
+
+	private static Map<Object, Word> getWords(TagCloud cloud) {
+		Map<Object, Word> words = new HashMap<>();
+		for (Word word : cloud.getWords()) {
+			words.put(word.data, word);
+		}
+		return words;
+	}
+
+	@Test
+	public void testIncrementalInput() {
+		TagCloudViewer viewer = new TagCloudViewer(cloud);
+		viewer.setContentProvider(new ListContentProvider());
+		viewer.setLabelProvider(new TestLabelProvider());
+		viewer.setIncremental(true);
+		List<String> data = new ArrayList<>();
+		data.add("Hello"); //$NON-NLS-1$
+		data.add("World"); //$NON-NLS-1$
+		viewer.setInput(data);
+		Map<Object, Word> before = getWords(cloud);
+		Map<Object, Point> positions = new HashMap<>();
+		before.forEach((element, word) -> positions.put(element, new Point(word.x, word.y)));
+
+		data = new ArrayList<>(data);
+		data.add("Again"); //$NON-NLS-1$
+		viewer.setInput(data);
+		Map<Object, Word> after = getWords(cloud);
+		assertEquals(3, after.size());
+		// The words of the remaining elements are reused and keep their position
+		for (Object element : before.keySet()) {
+			Word word = after.get(element);
+			assertSame(before.get(element), word);
+			assertEquals(positions.get(element), new Point(word.x, word.y));
+		}
+		assertTrue(after.get("Again").width != 0); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testNonIncrementalInput() {
+		TagCloudViewer viewer = new TagCloudViewer(cloud);
+		viewer.setContentProvider(new ListContentProvider());
+		viewer.setLabelProvider(new TestLabelProvider());
+		List<String> data = new ArrayList<>();
+		data.add("Hello"); //$NON-NLS-1$
+		viewer.setInput(data);
+		Word before = getWords(cloud).get("Hello"); //$NON-NLS-1$
+		viewer.setInput(new ArrayList<>(data));
+		assertNotSame(before, getWords(cloud).get("Hello")); //$NON-NLS-1$
+	}
+
+	private void drag(int x1, int y1, int x2, int y2) {
+		drag(x1, y1, x2, y2, 1);
+	}
+
+	private void drag(int x1, int y1, int x2, int y2, int upButton) {
+		Event down = new Event();
+		down.button = 1;
+		down.x = x1;
+		down.y = y1;
+		cloud.notifyListeners(SWT.MouseDown, down);
+		Event up = new Event();
+		up.button = upButton;
+		up.x = x2;
+		up.y = y2;
+		cloud.notifyListeners(SWT.MouseUp, up);
+	}
+
+	@Test
+	public void testDragSelection() {
+		composite.setSize(400, 300);
+		composite.layout();
+		TagCloudViewer viewer = new TagCloudViewer(cloud);
+		viewer.setContentProvider(new ListContentProvider());
+		viewer.setLabelProvider(new TestLabelProvider());
+		List<String> data = new ArrayList<>();
+		data.add("Hello"); //$NON-NLS-1$
+		data.add("World"); //$NON-NLS-1$
+		data.add("Again"); //$NON-NLS-1$
+		viewer.setInput(data);
+		Rectangle client = cloud.getClientArea();
+
+		// Dragging over the whole cloud selects all words
+		drag(-10, -10, client.width, client.height);
+		assertEquals(new HashSet<>(cloud.getWords()), cloud.getSelection());
+		assertEquals(3, ((IStructuredSelection) viewer.getSelection()).size());
+		// Moving the mouse by the threshold is a click, which keeps the selection
+		// if it doesn't hit a word
+		drag(-20, -20, -16, -16);
+		assertEquals(3, cloud.getSelection().size());
+		// Releasing another button than the one which started the drag is no
+		// rubber-band selection either
+		drag(-20, -20, -15, -20, 3);
+		assertEquals(3, cloud.getSelection().size());
+		// Dragging just beyond it selects the words in the area, here none
+		drag(-20, -20, -15, -20);
+		assertTrue(cloud.getSelection().isEmpty());
+		assertTrue(viewer.getSelection().isEmpty());
+	}
+
 }